@@ -0,0 +1,64 @@
+package org.example.config;
+
+import org.example.datasource.ReplicaRoutingDataSource;
+import org.example.datasource.ReplicaStickinessFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Configuration
+@ConditionalOnExpression("!'${unihome.datasource.replicas:}'.isBlank()")
+public class ReadReplicaConfig {
+
+    private static final long REPLICA_CONNECTION_TIMEOUT_MS = 2000;
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+        DataSourceProperties properties,
+        @Value("${unihome.datasource.replicas}") List<String> replicaUrls,
+        @Value("${unihome.datasource.replica-username:}") String replicaUsername,
+        @Value("${unihome.datasource.replica-password:}") String replicaPassword,
+        @Value("${unihome.datasource.read-your-writes-ms:5000}") long stickyMillis
+    ) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(replicaUsername.isBlank() ? properties.determineUsername() : replicaUsername);
+            replica.setPassword(replicaPassword.isBlank() ? properties.determinePassword() : replicaPassword);
+            replica.setReadOnly(true);
+            // Fail fast so a dead replica falls back to the primary instead of stalling the request.
+            replica.setConnectionTimeout(REPLICA_CONNECTION_TIMEOUT_MS);
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, stickyMillis);
+    }
+
+    @Bean
+    public ReplicaStickinessFilter replicaStickinessFilter(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new ReplicaStickinessFilter(replicaRoutingDataSource);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
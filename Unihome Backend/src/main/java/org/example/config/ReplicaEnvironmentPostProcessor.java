@@ -0,0 +1,34 @@
+package org.example.config;
+
+import java.util.Map;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Defaults {@code spring.jpa.open-in-view} to false when read replicas are configured. An
+ * open-in-view session holds the connection it was first given until the request ends, so every
+ * later transaction in the request would run on that pool whatever its read-only flag. An explicit
+ * setting still wins.
+ */
+public class ReplicaEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    private static final String OPEN_IN_VIEW = "spring.jpa.open-in-view";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        String replicas = environment.getProperty("unihome.datasource.replicas", "");
+        if (replicas.isBlank() || environment.containsProperty(OPEN_IN_VIEW)) {
+            return;
+        }
+        environment.getPropertySources().addLast(new MapPropertySource("readReplicaDefaults", Map.of(OPEN_IN_VIEW, false)));
+    }
+
+    @Override
+    public int getOrder() {
+        // After application.properties has been loaded.
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.config;
 
 import org.example.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -32,11 +33,13 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authorize -> authorize
+                // Streamed responses complete on an async dispatch of a request that was already authorized.
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/auth/**").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/contact/messages").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/health").permitAll()
-                .requestMatchers(HttpMethod.GET, "/uploads/**", "/api/about/**", "/api/contact/info", "/api/home/**", "/api/properties/**", "/api/temporary-stays/**", "/api/roommates/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/uploads/**", "/api/about/**", "/api/contact/info", "/api/home/**", "/api/properties/**", "/api/temporary-stays/**", "/api/roommates/**", "/api/search/**", "/api/suggest/**").permitAll()
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
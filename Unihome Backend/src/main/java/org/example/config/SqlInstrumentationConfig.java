@@ -0,0 +1,67 @@
+package org.example.config;
+
+import org.example.datasource.SlowQuerySampler;
+import org.example.datasource.SqlStatistics;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+import org.springframework.stereotype.Service;
+
+/**
+ * Routes every JDBC statement through datasource-proxy so {@link SqlStatistics} can count it, and
+ * opens a statistics scope around each public service method so statements are attributed to the
+ * method that issued them as well as to the HTTP request.
+ */
+@Configuration
+public class SqlInstrumentationConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor sqlInstrumentationDataSourcePostProcessor(
+        ObjectProvider<SqlStatistics> sqlStatistics,
+        ObjectProvider<SlowQuerySampler> slowQuerySampler
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                slowQuerySampler.getObject().useDataSource(dataSource);
+                return ProxyDataSourceBuilder.create(dataSource)
+                    .name("unihome")
+                    .listener(sqlStatistics.getObject())
+                    .build();
+            }
+        };
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor sqlStatisticsServiceAdvisor(@Lazy SqlStatistics sqlStatistics) {
+        MethodInterceptor interceptor = invocation -> {
+            Class<?> target = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+            SqlStatistics.Scope scope = sqlStatistics.open(target.getSimpleName() + "." + invocation.getMethod().getName());
+            try {
+                return invocation.proceed();
+            } finally {
+                sqlStatistics.closeMethod(scope);
+            }
+        };
+        return new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(Service.class, true), interceptor);
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.controller;
+
+import org.example.datasource.SqlStatistics;
+import org.example.dto.admin.SqlStatsResponse;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin")
+@PreAuthorize("@adminAccess.isAdmin()")
+public class AdminController {
+
+    private final SqlStatistics sqlStatistics;
+
+    public AdminController(SqlStatistics sqlStatistics) {
+        this.sqlStatistics = sqlStatistics;
+    }
+
+    @GetMapping("/sql-stats")
+    public SqlStatsResponse sqlStats() {
+        return sqlStatistics.snapshot();
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.controller;
+
+import org.example.dto.archive.ArchivedListingResponse;
+import org.example.security.SecurityUtils;
+import org.example.service.ArchiveService;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/archive")
+@PreAuthorize("isAuthenticated()")
+public class ArchiveController {
+
+    private final ArchiveService archiveService;
+
+    public ArchiveController(ArchiveService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    @GetMapping
+    public List<ArchivedListingResponse> list() {
+        UUID userId = SecurityUtils.requireCurrentUserId();
+        return archiveService.listArchived(userId);
+    }
+
+    @GetMapping("/{listingId}")
+    public ArchivedListingResponse get(@PathVariable UUID listingId) {
+        UUID userId = SecurityUtils.requireCurrentUserId();
+        return archiveService.getArchived(userId, listingId);
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.controller;
+
+import org.example.exception.ResourceNotFoundException;
+import org.example.model.listing.ListingType;
+import org.example.service.ListingExportService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/export")
+@PreAuthorize("isAuthenticated()")
+public class ExportController {
+
+    private final ListingExportService listingExportService;
+
+    public ExportController(ListingExportService listingExportService) {
+        this.listingExportService = listingExportService;
+    }
+
+    @GetMapping(value = "/{vertical}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable String vertical) {
+        ListingType type = switch (vertical) {
+            case "properties" -> ListingType.PROPERTY;
+            case "roommates" -> ListingType.ROOMMATE_AD;
+            case "temporary-stays" -> ListingType.TEMPORARY_STAY;
+            default -> throw new ResourceNotFoundException("Unknown listing vertical");
+        };
+        StreamingResponseBody body = out -> listingExportService.export(type, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+}
@@ -1,18 +1,21 @@
 package org.example.controller;
 
-import org.example.dto.favorite.FavoriteResponse;
+import org.example.dto.favorite.FavoriteFlagsRequest;
+import org.example.dto.favorite.FavoriteFlagsResponse;
 import org.example.dto.favorite.ToggleFavoriteRequest;
 import org.example.dto.favorite.ToggleFavoriteResponse;
 import org.example.model.favorite.FavoriteType;
 import org.example.security.SecurityUtils;
 import org.example.service.FavoriteService;
 import jakarta.validation.Valid;
-import java.util.List;
 import java.util.UUID;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -31,8 +34,16 @@ public class FavoriteController {
     }
 
     @GetMapping
-    public List<FavoriteResponse> listFavorites(@RequestParam(name = "type", required = false) FavoriteType type) {
+    public Object listFavorites(
+        @RequestParam(name = "type", required = false) FavoriteType type,
+        @RequestParam(defaultValue = "false") boolean expand,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "12") int size
+    ) {
         UUID userId = SecurityUtils.requireCurrentUserId();
+        if (expand) {
+            return favoriteService.listFavoriteCards(userId, type, page, size);
+        }
         return favoriteService.listFavorites(userId, type);
     }
 
@@ -42,4 +53,23 @@ public class FavoriteController {
         UUID userId = SecurityUtils.requireCurrentUserId();
         return favoriteService.toggleFavorite(userId, request);
     }
+
+    @PutMapping("/{type}/{targetId}")
+    public ToggleFavoriteResponse addFavorite(@PathVariable FavoriteType type, @PathVariable UUID targetId) {
+        UUID userId = SecurityUtils.requireCurrentUserId();
+        return favoriteService.addFavorite(userId, type, targetId);
+    }
+
+    @DeleteMapping("/{type}/{targetId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void removeFavorite(@PathVariable FavoriteType type, @PathVariable UUID targetId) {
+        UUID userId = SecurityUtils.requireCurrentUserId();
+        favoriteService.removeFavorite(userId, type, targetId);
+    }
+
+    @PostMapping("/flags")
+    public FavoriteFlagsResponse flags(@Valid @RequestBody FavoriteFlagsRequest request) {
+        UUID userId = SecurityUtils.requireCurrentUserId();
+        return favoriteService.flags(userId, request);
+    }
 }
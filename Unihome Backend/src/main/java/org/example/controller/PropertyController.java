@@ -1,16 +1,33 @@
 package org.example.controller;
 
+import org.example.dto.common.ListingCardResponse;
+import org.example.dto.common.ListingView;
 import org.example.dto.common.PagedResponse;
 import org.example.dto.property.CreatePropertyRequest;
+import org.example.dto.property.PropertyImportFormat;
+import org.example.dto.property.PropertyImportSummary;
 import org.example.dto.property.PropertyResponse;
 import org.example.dto.property.PropertySearchCriteria;
 import org.example.dto.property.UpdatePropertyRequest;
+import org.example.mapper.FieldSelector;
+import org.example.model.listing.ListingType;
+import org.example.search.SearchResultCache;
 import org.example.security.SecurityUtils;
 import org.example.security.UserPrincipal;
+import org.example.service.PropertyImportService;
 import org.example.service.PropertyService;
+import org.example.stats.ListingViewCounter;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,6 +37,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -30,18 +48,39 @@ import org.springframework.web.bind.annotation.RestController;
 public class PropertyController {
 
     private final PropertyService propertyService;
+    private final PropertyImportService propertyImportService;
+    private final SearchResultCache searchResultCache;
+    private final FieldSelector fieldSelector;
+    private final ObjectMapper objectMapper;
+    private final ListingViewCounter listingViewCounter;
 
-    public PropertyController(PropertyService propertyService) {
+    public PropertyController(
+        PropertyService propertyService,
+        PropertyImportService propertyImportService,
+        SearchResultCache searchResultCache,
+        FieldSelector fieldSelector,
+        ObjectMapper objectMapper,
+        ListingViewCounter listingViewCounter
+    ) {
         this.propertyService = propertyService;
+        this.propertyImportService = propertyImportService;
+        this.searchResultCache = searchResultCache;
+        this.fieldSelector = fieldSelector;
+        this.objectMapper = objectMapper;
+        this.listingViewCounter = listingViewCounter;
     }
 
     @GetMapping
-    public PagedResponse<PropertyResponse> search(
+    public PagedResponse<?> search(
         @ModelAttribute PropertySearchCriteria criteria,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "12") int size
+        @RequestParam(defaultValue = "12") int size,
+        @RequestParam(required = false) String view
     ) {
-        return propertyService.search(criteria, page, size);
+        if (ListingView.parse(view) == ListingView.CARD) {
+            return searchResultCache.get(ListingType.PROPERTY, ListingView.CARD, criteria, page, size, () -> propertyService.searchCards(criteria, page, size));
+        }
+        return searchResultCache.get(ListingType.PROPERTY, ListingView.FULL, criteria, page, size, () -> propertyService.search(criteria, page, size));
     }
 
     @GetMapping("/mine")
@@ -52,10 +91,17 @@ public class PropertyController {
     }
 
     @GetMapping("/{propertyId}")
-    public PropertyResponse getById(@PathVariable UUID propertyId) {
+    public Object getById(@PathVariable UUID propertyId, @RequestParam(required = false) String fields, HttpServletRequest request) {
         UserPrincipal principal = SecurityUtils.getCurrentPrincipal();
         UUID viewerId = principal != null ? principal.getId() : null;
-        return propertyService.getById(propertyId, viewerId);
+        PropertyResponse property = propertyService.getById(propertyId, viewerId);
+        listingViewCounter.record(ListingType.PROPERTY, propertyId, viewerId, request.getRemoteAddr());
+        return fieldSelector.select(property, fields);
+    }
+
+    @GetMapping("/{propertyId}/similar")
+    public List<ListingCardResponse> getSimilar(@PathVariable UUID propertyId, @RequestParam(defaultValue = "6") int limit) {
+        return propertyService.findSimilar(propertyId, limit);
     }
 
     @GetMapping("/recent")
@@ -71,6 +117,35 @@ public class PropertyController {
         return propertyService.create(ownerId, request);
     }
 
+    /**
+     * Streams one NDJSON result line per imported row, followed by a {@code summary} line.
+     */
+    @PostMapping(
+        value = "/import",
+        consumes = {PropertyImportFormat.NDJSON_MEDIA_TYPE, PropertyImportFormat.CSV_MEDIA_TYPE},
+        produces = PropertyImportFormat.NDJSON_MEDIA_TYPE
+    )
+    @PreAuthorize("hasRole('OWNER')")
+    public void importProperties(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        UUID ownerId = SecurityUtils.requireCurrentUserId();
+        PropertyImportFormat format = PropertyImportFormat.fromContentType(contentType);
+        response.setContentType(PropertyImportFormat.NDJSON_MEDIA_TYPE);
+        ServletOutputStream out = response.getOutputStream();
+        PropertyImportSummary summary = propertyImportService.importProperties(ownerId, request.getInputStream(), format, result -> {
+            try {
+                writeLine(out, result);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        writeLine(out, Map.of("summary", summary));
+        out.flush();
+    }
+
     @PutMapping("/{propertyId}")
     @PreAuthorize("hasRole('OWNER')")
     public PropertyResponse update(@PathVariable UUID propertyId, @Valid @RequestBody UpdatePropertyRequest request) {
@@ -99,4 +174,9 @@ public class PropertyController {
         UUID ownerId = SecurityUtils.requireCurrentUserId();
         return propertyService.publish(ownerId, propertyId);
     }
+
+    private void writeLine(ServletOutputStream out, Object line) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(line));
+        out.write('\n');
+    }
 }
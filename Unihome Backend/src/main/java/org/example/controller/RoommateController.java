@@ -1,13 +1,21 @@
 package org.example.controller;
 
+import org.example.dto.common.ListingView;
 import org.example.dto.common.PagedResponse;
 import org.example.dto.roommate.CreateRoommateAdRequest;
 import org.example.dto.roommate.RoommateAdResponse;
+import org.example.dto.roommate.RoommateMatchResponse;
 import org.example.dto.roommate.RoommateSearchCriteria;
 import org.example.dto.roommate.SubmitRoommateRatingRequest;
 import org.example.dto.roommate.UpdateRoommateAdRequest;
+import org.example.mapper.FieldSelector;
+import org.example.model.listing.ListingType;
+import org.example.search.SearchResultCache;
 import org.example.security.SecurityUtils;
+import org.example.security.UserPrincipal;
 import org.example.service.RoommateService;
+import org.example.stats.ListingViewCounter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
@@ -30,23 +38,51 @@ import org.springframework.web.bind.annotation.RestController;
 public class RoommateController {
 
     private final RoommateService roommateService;
+    private final SearchResultCache searchResultCache;
+    private final FieldSelector fieldSelector;
+    private final ListingViewCounter listingViewCounter;
 
-    public RoommateController(RoommateService roommateService) {
+    public RoommateController(
+        RoommateService roommateService,
+        SearchResultCache searchResultCache,
+        FieldSelector fieldSelector,
+        ListingViewCounter listingViewCounter
+    ) {
         this.roommateService = roommateService;
+        this.searchResultCache = searchResultCache;
+        this.fieldSelector = fieldSelector;
+        this.listingViewCounter = listingViewCounter;
     }
 
     @GetMapping
-    public PagedResponse<RoommateAdResponse> search(
+    public PagedResponse<?> search(
         @ModelAttribute RoommateSearchCriteria criteria,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "12") int size
+        @RequestParam(defaultValue = "12") int size,
+        @RequestParam(required = false) String view
+    ) {
+        if (ListingView.parse(view) == ListingView.CARD) {
+            return searchResultCache.get(ListingType.ROOMMATE_AD, ListingView.CARD, criteria, page, size, () -> roommateService.searchCards(criteria, page, size));
+        }
+        return searchResultCache.get(ListingType.ROOMMATE_AD, ListingView.FULL, criteria, page, size, () -> roommateService.search(criteria, page, size));
+    }
+
+    @GetMapping("/compatible")
+    @PreAuthorize("isAuthenticated()")
+    public List<RoommateMatchResponse> findCompatible(
+        @ModelAttribute RoommateSearchCriteria criteria,
+        @RequestParam(defaultValue = "12") int limit
     ) {
-        return roommateService.search(criteria, page, size);
+        UUID viewerId = SecurityUtils.requireCurrentUserId();
+        return roommateService.findCompatible(viewerId, criteria, limit);
     }
 
     @GetMapping("/{adId}")
-    public RoommateAdResponse getById(@PathVariable UUID adId) {
-        return roommateService.getById(adId);
+    public Object getById(@PathVariable UUID adId, @RequestParam(required = false) String fields, HttpServletRequest request) {
+        RoommateAdResponse ad = roommateService.getById(adId);
+        UserPrincipal principal = SecurityUtils.getCurrentPrincipal();
+        listingViewCounter.record(ListingType.ROOMMATE_AD, adId, principal != null ? principal.getId() : null, request.getRemoteAddr());
+        return fieldSelector.select(ad, fields);
     }
 
     @GetMapping("/recent")
@@ -0,0 +1,58 @@
+package org.example.controller;
+
+import org.example.dto.search.CreateSavedSearchRequest;
+import org.example.dto.search.SavedSearchMatchResponse;
+import org.example.dto.search.SavedSearchResponse;
+import org.example.security.SecurityUtils;
+import org.example.service.SavedSearchService;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/saved-searches")
+@PreAuthorize("isAuthenticated()")
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    public SavedSearchController(SavedSearchService savedSearchService) {
+        this.savedSearchService = savedSearchService;
+    }
+
+    @GetMapping
+    public List<SavedSearchResponse> list() {
+        UUID userId = SecurityUtils.requireCurrentUserId();
+        return savedSearchService.listSavedSearches(userId);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public SavedSearchResponse create(@Valid @RequestBody CreateSavedSearchRequest request) {
+        UUID userId = SecurityUtils.requireCurrentUserId();
+        return savedSearchService.create(userId, request);
+    }
+
+    @GetMapping("/{savedSearchId}/matches")
+    public List<SavedSearchMatchResponse> matches(@PathVariable UUID savedSearchId) {
+        UUID userId = SecurityUtils.requireCurrentUserId();
+        return savedSearchService.listMatches(userId, savedSearchId);
+    }
+
+    @DeleteMapping("/{savedSearchId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable UUID savedSearchId) {
+        UUID userId = SecurityUtils.requireCurrentUserId();
+        savedSearchService.delete(userId, savedSearchId);
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.controller;
+
+import org.example.dto.search.UnifiedSearchCriteria;
+import org.example.dto.search.UnifiedSearchResponse;
+import org.example.service.SearchService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GetMapping
+    public UnifiedSearchResponse search(
+        @ModelAttribute UnifiedSearchCriteria criteria,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "12") int size
+    ) {
+        return searchService.search(criteria, page, size);
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.controller;
+
+import org.example.dto.search.SuggestField;
+import org.example.dto.search.SuggestionResponse;
+import org.example.exception.ValidationException;
+import org.example.search.SuggestionIndex;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/suggest")
+public class SuggestController {
+
+    private final SuggestionIndex suggestionIndex;
+
+    public SuggestController(SuggestionIndex suggestionIndex) {
+        this.suggestionIndex = suggestionIndex;
+    }
+
+    @GetMapping
+    public List<SuggestionResponse> suggest(
+        @RequestParam String field,
+        @RequestParam(defaultValue = "") String prefix,
+        @RequestParam(defaultValue = "8") int limit
+    ) {
+        return suggestionIndex.suggest(parseField(field), prefix, limit);
+    }
+
+    private SuggestField parseField(String field) {
+        try {
+            return SuggestField.valueOf(field.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("Unsupported suggestion field", Map.of("field", "Use one of city, area or amenity"));
+        }
+    }
+}
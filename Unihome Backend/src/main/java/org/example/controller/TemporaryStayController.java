@@ -1,13 +1,20 @@
 package org.example.controller;
 
+import org.example.dto.common.ListingCardResponse;
+import org.example.dto.common.ListingView;
 import org.example.dto.common.PagedResponse;
 import org.example.dto.temporary.CreateTemporaryStayRequest;
 import org.example.dto.temporary.TemporaryStayResponse;
 import org.example.dto.temporary.TemporaryStaySearchCriteria;
 import org.example.dto.temporary.UpdateTemporaryStayRequest;
+import org.example.mapper.FieldSelector;
+import org.example.model.listing.ListingType;
+import org.example.search.SearchResultCache;
 import org.example.security.SecurityUtils;
 import org.example.security.UserPrincipal;
 import org.example.service.TemporaryStayService;
+import org.example.stats.ListingViewCounter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
@@ -30,18 +37,33 @@ import org.springframework.web.bind.annotation.RestController;
 public class TemporaryStayController {
 
     private final TemporaryStayService temporaryStayService;
+    private final SearchResultCache searchResultCache;
+    private final FieldSelector fieldSelector;
+    private final ListingViewCounter listingViewCounter;
 
-    public TemporaryStayController(TemporaryStayService temporaryStayService) {
+    public TemporaryStayController(
+        TemporaryStayService temporaryStayService,
+        SearchResultCache searchResultCache,
+        FieldSelector fieldSelector,
+        ListingViewCounter listingViewCounter
+    ) {
         this.temporaryStayService = temporaryStayService;
+        this.searchResultCache = searchResultCache;
+        this.fieldSelector = fieldSelector;
+        this.listingViewCounter = listingViewCounter;
     }
 
     @GetMapping
-    public PagedResponse<TemporaryStayResponse> search(
+    public PagedResponse<?> search(
         @ModelAttribute TemporaryStaySearchCriteria criteria,
         @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "12") int size
+        @RequestParam(defaultValue = "12") int size,
+        @RequestParam(required = false) String view
     ) {
-        return temporaryStayService.search(criteria, page, size);
+        if (ListingView.parse(view) == ListingView.CARD) {
+            return searchResultCache.get(ListingType.TEMPORARY_STAY, ListingView.CARD, criteria, page, size, () -> temporaryStayService.searchCards(criteria, page, size));
+        }
+        return searchResultCache.get(ListingType.TEMPORARY_STAY, ListingView.FULL, criteria, page, size, () -> temporaryStayService.search(criteria, page, size));
     }
 
     @GetMapping("/mine")
@@ -52,10 +74,17 @@ public class TemporaryStayController {
     }
 
     @GetMapping("/{stayId}")
-    public TemporaryStayResponse getById(@PathVariable UUID stayId) {
+    public Object getById(@PathVariable UUID stayId, @RequestParam(required = false) String fields, HttpServletRequest request) {
         UserPrincipal principal = SecurityUtils.getCurrentPrincipal();
         UUID viewerId = principal != null ? principal.getId() : null;
-        return temporaryStayService.getById(stayId, viewerId);
+        TemporaryStayResponse stay = temporaryStayService.getById(stayId, viewerId);
+        listingViewCounter.record(ListingType.TEMPORARY_STAY, stayId, viewerId, request.getRemoteAddr());
+        return fieldSelector.select(stay, fields);
+    }
+
+    @GetMapping("/{stayId}/similar")
+    public List<ListingCardResponse> getSimilar(@PathVariable UUID stayId, @RequestParam(defaultValue = "6") int limit) {
+        return temporaryStayService.findSimilar(stayId, limit);
     }
 
     @GetMapping("/recent")
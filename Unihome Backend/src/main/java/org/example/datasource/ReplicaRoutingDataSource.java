@@ -0,0 +1,173 @@
+package org.example.datasource;
+
+import org.example.security.SecurityUtils;
+import org.example.security.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections for read-only transactions to a healthy replica (round robin) and everything
+ * else to the primary. A replica that fails a connection attempt or the periodic check is skipped
+ * until it answers again; with no healthy replica, reads fall back to the primary. For a short
+ * window after a write, reads from the same user or the same thread also stay on the primary so
+ * they see their own changes despite replication lag. The per-thread window is cleared at the end
+ * of each request by {@link ReplicaStickinessFilter}; background threads keep it until it expires.
+ *
+ * <p>Must sit behind a {@code LazyConnectionDataSourceProxy}: the transaction's read-only flag is
+ * only known once the transaction has begun, not when the JPA session first asks for a connection.
+ * Open-in-view is turned off with replicas configured, because a session held for the whole request
+ * keeps the first connection it was routed to.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long stickyMillis;
+    private final Cache<UUID, Boolean> recentWriters;
+    private final ThreadLocal<Long> lastThreadWrite = new ThreadLocal<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, long stickyMillis) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.stickyMillis = stickyMillis;
+        this.recentWriters = stickyMillis > 0
+            ? Caffeine.newBuilder().expireAfterWrite(Duration.ofMillis(stickyMillis)).build()
+            : null;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWrite();
+            return primary.getConnection();
+        }
+        if (readsOwnWrites()) {
+            return primary.getConnection();
+        }
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException ex) {
+                replica.markDown(ex);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    /**
+     * Explicit credentials are only used by tooling; such connections always go to the primary.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Ends the same-thread read-your-writes window. Called when a request completes so the next
+     * request served by the pooled thread is not pinned to the primary by someone else's write.
+     */
+    public void clearThreadWrite() {
+        lastThreadWrite.remove();
+    }
+
+    @Scheduled(fixedDelayString = "${unihome.datasource.replica-check-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    replica.markUp();
+                } else {
+                    replica.markDown(null);
+                }
+            } catch (SQLException ex) {
+                replica.markDown(ex);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void recordWrite() {
+        if (recentWriters == null) {
+            return;
+        }
+        lastThreadWrite.set(System.currentTimeMillis());
+        UUID userId = currentUserId();
+        if (userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    private boolean readsOwnWrites() {
+        if (recentWriters == null) {
+            return false;
+        }
+        // Covers after-commit listeners and other work that follows a write on the same thread.
+        Long threadWrite = lastThreadWrite.get();
+        if (threadWrite != null && System.currentTimeMillis() - threadWrite < stickyMillis) {
+            return true;
+        }
+        UUID userId = currentUserId();
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    private UUID currentUserId() {
+        UserPrincipal principal = SecurityUtils.getCurrentPrincipal();
+        return principal != null ? principal.getId() : null;
+    }
+
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private void markUp() {
+            if (!healthy) {
+                log.info("Read replica {} is available again", dataSource);
+                healthy = true;
+            }
+        }
+
+        private void markDown(SQLException cause) {
+            if (healthy) {
+                log.warn("Read replica {} is unavailable, routing its reads elsewhere", dataSource, cause);
+                healthy = false;
+            }
+        }
+    }
+}
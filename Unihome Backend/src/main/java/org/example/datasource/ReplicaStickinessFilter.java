@@ -0,0 +1,34 @@
+package org.example.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Clears the request thread's read-your-writes window when the request ends. Registered by
+ * {@code ReadReplicaConfig} only when replicas are configured.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReplicaStickinessFilter extends OncePerRequestFilter {
+
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    public ReplicaStickinessFilter(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        this.replicaRoutingDataSource = replicaRoutingDataSource;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            replicaRoutingDataSource.clearThreadWrite();
+        }
+    }
+}
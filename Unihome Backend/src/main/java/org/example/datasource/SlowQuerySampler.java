@@ -0,0 +1,150 @@
+package org.example.datasource;
+
+import org.example.dto.admin.SqlSlowQueryDto;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Captures the EXPLAIN plan of slow SELECT statements on a background thread, replaying the
+ * original parameters against the unproxied datasource. Each distinct statement is explained at
+ * most once per resample interval and the queue is small, so a burst of slow queries cannot turn
+ * into a burst of EXPLAINs.
+ */
+@Component
+public class SlowQuerySampler {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQuerySampler.class);
+
+    private static final int QUEUE_CAPACITY = 16;
+    private static final int RECENT_SAMPLES = 50;
+    private static final long RESAMPLE_INTERVAL_MS = TimeUnit.MINUTES.toMillis(5);
+
+    private final boolean enabled;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Long> lastSampled = new ConcurrentHashMap<>();
+    private final Deque<SqlSlowQueryDto> samples = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger sampleCount = new AtomicInteger();
+    private volatile DataSource dataSource;
+
+    public SlowQuerySampler(@Value("${unihome.sql.explain-slow-queries:true}") boolean enabled) {
+        this.enabled = enabled;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "sql-explain");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    public void useDataSource(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    void offer(QueryInfo query, long elapsedMs, String request) {
+        String sql = query.getQuery();
+        if (!sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Long previous = lastSampled.get(sql);
+        if (previous != null && now - previous < RESAMPLE_INTERVAL_MS) {
+            return;
+        }
+        lastSampled.put(sql, now);
+        List<Object> parameters = parameters(query);
+        if (!enabled || dataSource == null) {
+            record(sql, elapsedMs, request, List.of());
+            return;
+        }
+        executor.execute(() -> record(sql, elapsedMs, request, explain(sql, parameters)));
+    }
+
+    public List<SqlSlowQueryDto> samples() {
+        return new ArrayList<>(samples);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private List<String> explain(String sql, List<Object> parameters) {
+        List<String> plan = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            try (ResultSet rows = statement.executeQuery()) {
+                ResultSetMetaData meta = rows.getMetaData();
+                while (rows.next()) {
+                    StringBuilder line = new StringBuilder();
+                    for (int column = 1; column <= meta.getColumnCount(); column++) {
+                        if (column > 1) {
+                            line.append(", ");
+                        }
+                        line.append(meta.getColumnLabel(column)).append('=').append(rows.getObject(column));
+                    }
+                    plan.add(line.toString());
+                }
+            }
+        } catch (SQLException ex) {
+            log.debug("Could not explain slow query {}", sql, ex);
+            plan.add("EXPLAIN failed: " + ex.getMessage());
+        }
+        return plan;
+    }
+
+    private void record(String sql, long elapsedMs, String request, List<String> plan) {
+        SqlSlowQueryDto sample = new SqlSlowQueryDto();
+        sample.setSql(sql);
+        sample.setElapsedMs(elapsedMs);
+        sample.setRequest(request);
+        sample.setPlan(plan);
+        sample.setCapturedAt(Instant.now());
+        samples.addFirst(sample);
+        if (sampleCount.incrementAndGet() > RECENT_SAMPLES) {
+            samples.pollLast();
+            sampleCount.decrementAndGet();
+        }
+        log.info("Slow query ({} ms){}: {}", elapsedMs, request != null ? " in " + request : "", sql);
+    }
+
+    private List<Object> parameters(QueryInfo query) {
+        if (query.getParametersList().isEmpty()) {
+            return List.of();
+        }
+        return query.getParametersList().get(0).stream()
+            .filter(operation -> operation.getArgs() != null && operation.getArgs().length >= 2 && operation.getArgs()[0] instanceof Integer)
+            .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+            .map(ParameterSetOperation::getArgs)
+            .map(args -> args[1])
+            .toList();
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Opens the per-request {@link SqlStatistics} scope. Runs first so statements issued by the
+ * security filters (user lookups) are counted against the request too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlScopeFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final SqlStatistics sqlStatistics;
+
+    public SqlScopeFilter(SqlStatistics sqlStatistics) {
+        this.sqlStatistics = sqlStatistics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        SqlStatistics.Scope scope = sqlStatistics.open(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            sqlStatistics.closeRequest(scope, request.getMethod(), pattern != null ? pattern.toString() : UNKNOWN_URI);
+        }
+    }
+}
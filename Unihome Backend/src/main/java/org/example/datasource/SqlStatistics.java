@@ -0,0 +1,262 @@
+package org.example.datasource;
+
+import org.example.dto.admin.SqlFlaggedRequestDto;
+import org.example.dto.admin.SqlMethodStatsDto;
+import org.example.dto.admin.SqlStatementStatsDto;
+import org.example.dto.admin.SqlStatsResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects JDBC statement counts and time from the datasource proxy. Totals are kept per distinct
+ * statement, per HTTP request and per service method (every {@link Scope} open on the
+ * executing thread), published as {@code unihome.sql.*} metrics and summarised for the admin view.
+ * Requests that run more statements than the configured threshold are logged as likely N+1 loops.
+ */
+@Component
+public class SqlStatistics implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatistics.class);
+
+    private static final int MAX_TRACKED_STATEMENTS = 1000;
+    private static final int TOP_STATEMENTS = 20;
+    private static final int REPEATED_STATEMENTS = 3;
+    private static final int RECENT_FLAGGED_REQUESTS = 50;
+
+    private final MeterRegistry meterRegistry;
+    private final SlowQuerySampler slowQuerySampler;
+    private final int statementThreshold;
+    private final long slowQueryMs;
+    private final Timer statementTimer;
+    private final ThreadLocal<Deque<Scope>> scopes = ThreadLocal.withInitial(ArrayDeque::new);
+    private final Map<String, StatementTotals> statements = new ConcurrentHashMap<>();
+    private final Map<String, MethodTotals> methods = new ConcurrentHashMap<>();
+    private final Deque<SqlFlaggedRequestDto> flaggedRequests = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger flaggedCount = new AtomicInteger();
+    private final LongAdder totalStatements = new LongAdder();
+    private final LongAdder totalTimeMs = new LongAdder();
+
+    public SqlStatistics(
+        MeterRegistry meterRegistry,
+        SlowQuerySampler slowQuerySampler,
+        @Value("${unihome.sql.request-statement-threshold:25}") int statementThreshold,
+        @Value("${unihome.sql.slow-query-ms:200}") long slowQueryMs
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.slowQuerySampler = slowQuerySampler;
+        this.statementThreshold = statementThreshold;
+        this.slowQueryMs = slowQueryMs;
+        this.statementTimer = Timer.builder("unihome.sql.statements")
+            .description("JDBC statement executions")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        statementTimer.record(Duration.ofMillis(elapsed));
+        totalStatements.increment();
+        totalTimeMs.add(elapsed);
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        StatementTotals totals = statements.get(sql);
+        if (totals == null && statements.size() < MAX_TRACKED_STATEMENTS) {
+            totals = statements.computeIfAbsent(sql, key -> new StatementTotals());
+        }
+        if (totals != null) {
+            totals.record(elapsed);
+        }
+        Deque<Scope> open = scopes.get();
+        for (Scope scope : open) {
+            scope.record(sql, elapsed);
+        }
+        if (elapsed >= slowQueryMs && !queryInfoList.isEmpty()) {
+            Scope request = open.peekLast();
+            slowQuerySampler.offer(queryInfoList.get(0), elapsed, request != null ? request.name : null);
+        }
+    }
+
+    public Scope open(String name) {
+        Scope scope = new Scope(name);
+        scopes.get().push(scope);
+        return scope;
+    }
+
+    public void closeRequest(Scope scope, String method, String uriPattern) {
+        close(scope);
+        DistributionSummary.builder("unihome.sql.request.statements")
+            .description("JDBC statements per HTTP request")
+            .tag("method", method)
+            .tag("uri", uriPattern)
+            .register(meterRegistry)
+            .record(scope.statements);
+        Timer.builder("unihome.sql.request.time")
+            .description("JDBC time per HTTP request")
+            .tag("method", method)
+            .tag("uri", uriPattern)
+            .register(meterRegistry)
+            .record(Duration.ofMillis(scope.timeMs));
+        if (scope.statements > statementThreshold) {
+            flag(scope);
+        }
+    }
+
+    public void closeMethod(Scope scope) {
+        close(scope);
+        methods.computeIfAbsent(scope.name, key -> new MethodTotals()).record(scope);
+        DistributionSummary.builder("unihome.sql.method.statements")
+            .description("JDBC statements per service method invocation")
+            .tag("method", scope.name)
+            .register(meterRegistry)
+            .record(scope.statements);
+    }
+
+    public SqlStatsResponse snapshot() {
+        SqlStatsResponse response = new SqlStatsResponse();
+        response.setTotalStatements(totalStatements.sum());
+        response.setTotalTimeMs(totalTimeMs.sum());
+        response.setStatementThreshold(statementThreshold);
+        response.setSlowQueryMs(slowQueryMs);
+        response.setTopStatements(statements.entrySet().stream()
+            .map(entry -> entry.getValue().toDto(entry.getKey()))
+            .sorted(Comparator.comparingLong(SqlStatementStatsDto::getTotalTimeMs).reversed())
+            .limit(TOP_STATEMENTS)
+            .toList());
+        response.setMethods(methods.entrySet().stream()
+            .map(entry -> entry.getValue().toDto(entry.getKey()))
+            .sorted(Comparator.comparingLong(SqlMethodStatsDto::getStatements).reversed())
+            .toList());
+        response.setFlaggedRequests(new ArrayList<>(flaggedRequests));
+        response.setSlowQueries(slowQuerySampler.samples());
+        return response;
+    }
+
+    private void close(Scope scope) {
+        scopes.get().remove(scope);
+        if (scopes.get().isEmpty()) {
+            scopes.remove();
+        }
+    }
+
+    private void flag(Scope scope) {
+        List<SqlStatementStatsDto> repeated = scope.perStatement.entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+            .limit(REPEATED_STATEMENTS)
+            .map(entry -> {
+                SqlStatementStatsDto dto = new SqlStatementStatsDto();
+                dto.setSql(entry.getKey());
+                dto.setExecutions(entry.getValue());
+                return dto;
+            })
+            .toList();
+        SqlFlaggedRequestDto flagged = new SqlFlaggedRequestDto();
+        flagged.setRequest(scope.name);
+        flagged.setStatements(scope.statements);
+        flagged.setTotalTimeMs(scope.timeMs);
+        flagged.setRepeatedStatements(repeated);
+        flagged.setOccurredAt(Instant.now());
+        flaggedRequests.addFirst(flagged);
+        if (flaggedCount.incrementAndGet() > RECENT_FLAGGED_REQUESTS) {
+            flaggedRequests.pollLast();
+            flaggedCount.decrementAndGet();
+        }
+        meterRegistry.counter("unihome.sql.request.flagged").increment();
+        log.warn("{} ran {} statements in {} ms (threshold {}); most repeated: {}",
+            scope.name, scope.statements, scope.timeMs, statementThreshold,
+            repeated.isEmpty() ? "-" : abbreviate(repeated.get(0).getSql()) + " x" + repeated.get(0).getExecutions());
+    }
+
+    private static String abbreviate(String sql) {
+        String compact = sql.replaceAll("\\s+", " ").trim();
+        return compact.length() > 160 ? compact.substring(0, 160) + "..." : compact;
+    }
+
+    /** Statements run on one thread between {@link #open} and the matching close. */
+    public static final class Scope {
+
+        private final String name;
+        private final Map<String, Integer> perStatement = new HashMap<>();
+        private int statements;
+        private long timeMs;
+
+        private Scope(String name) {
+            this.name = name;
+        }
+
+        private void record(String sql, long elapsed) {
+            statements++;
+            timeMs += elapsed;
+            perStatement.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    private static final class StatementTotals {
+
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder timeMs = new LongAdder();
+        private volatile long maxTimeMs;
+
+        private void record(long elapsed) {
+            executions.increment();
+            timeMs.add(elapsed);
+            if (elapsed > maxTimeMs) {
+                maxTimeMs = elapsed;
+            }
+        }
+
+        private SqlStatementStatsDto toDto(String sql) {
+            SqlStatementStatsDto dto = new SqlStatementStatsDto();
+            dto.setSql(sql);
+            dto.setExecutions(executions.sum());
+            dto.setTotalTimeMs(timeMs.sum());
+            dto.setMaxTimeMs(maxTimeMs);
+            return dto;
+        }
+    }
+
+    private static final class MethodTotals {
+
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder timeMs = new LongAdder();
+
+        private void record(Scope scope) {
+            invocations.increment();
+            statements.add(scope.statements);
+            timeMs.add(scope.timeMs);
+        }
+
+        private SqlMethodStatsDto toDto(String method) {
+            SqlMethodStatsDto dto = new SqlMethodStatsDto();
+            dto.setMethod(method);
+            dto.setInvocations(invocations.sum());
+            dto.setStatements(statements.sum());
+            dto.setTotalTimeMs(timeMs.sum());
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.dto.admin;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SqlFlaggedRequestDto {
+
+    private String request;
+    private int statements;
+    private long totalTimeMs;
+    private List<SqlStatementStatsDto> repeatedStatements = new ArrayList<>();
+    private Instant occurredAt;
+
+    public String getRequest() {
+        return request;
+    }
+
+    public void setRequest(String request) {
+        this.request = request;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public void setStatements(int statements) {
+        this.statements = statements;
+    }
+
+    public long getTotalTimeMs() {
+        return totalTimeMs;
+    }
+
+    public void setTotalTimeMs(long totalTimeMs) {
+        this.totalTimeMs = totalTimeMs;
+    }
+
+    public List<SqlStatementStatsDto> getRepeatedStatements() {
+        return repeatedStatements;
+    }
+
+    public void setRepeatedStatements(List<SqlStatementStatsDto> repeatedStatements) {
+        this.repeatedStatements = repeatedStatements;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
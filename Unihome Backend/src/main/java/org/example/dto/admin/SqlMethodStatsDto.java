@@ -0,0 +1,41 @@
+package org.example.dto.admin;
+
+public class SqlMethodStatsDto {
+
+    private String method;
+    private long invocations;
+    private long statements;
+    private long totalTimeMs;
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public long getInvocations() {
+        return invocations;
+    }
+
+    public void setInvocations(long invocations) {
+        this.invocations = invocations;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public void setStatements(long statements) {
+        this.statements = statements;
+    }
+
+    public long getTotalTimeMs() {
+        return totalTimeMs;
+    }
+
+    public void setTotalTimeMs(long totalTimeMs) {
+        this.totalTimeMs = totalTimeMs;
+    }
+}
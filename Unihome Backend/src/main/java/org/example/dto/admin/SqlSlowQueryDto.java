@@ -0,0 +1,54 @@
+package org.example.dto.admin;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SqlSlowQueryDto {
+
+    private String sql;
+    private long elapsedMs;
+    private String request;
+    private List<String> plan = new ArrayList<>();
+    private Instant capturedAt;
+
+    public String getSql() {
+        return sql;
+    }
+
+    public void setSql(String sql) {
+        this.sql = sql;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public void setElapsedMs(long elapsedMs) {
+        this.elapsedMs = elapsedMs;
+    }
+
+    public String getRequest() {
+        return request;
+    }
+
+    public void setRequest(String request) {
+        this.request = request;
+    }
+
+    public List<String> getPlan() {
+        return plan;
+    }
+
+    public void setPlan(List<String> plan) {
+        this.plan = plan;
+    }
+
+    public Instant getCapturedAt() {
+        return capturedAt;
+    }
+
+    public void setCapturedAt(Instant capturedAt) {
+        this.capturedAt = capturedAt;
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.dto.admin;
+
+public class SqlStatementStatsDto {
+
+    private String sql;
+    private long executions;
+    private long totalTimeMs;
+    private long maxTimeMs;
+
+    public String getSql() {
+        return sql;
+    }
+
+    public void setSql(String sql) {
+        this.sql = sql;
+    }
+
+    public long getExecutions() {
+        return executions;
+    }
+
+    public void setExecutions(long executions) {
+        this.executions = executions;
+    }
+
+    public long getTotalTimeMs() {
+        return totalTimeMs;
+    }
+
+    public void setTotalTimeMs(long totalTimeMs) {
+        this.totalTimeMs = totalTimeMs;
+    }
+
+    public long getMaxTimeMs() {
+        return maxTimeMs;
+    }
+
+    public void setMaxTimeMs(long maxTimeMs) {
+        this.maxTimeMs = maxTimeMs;
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.dto.admin;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SqlStatsResponse {
+
+    private long totalStatements;
+    private long totalTimeMs;
+    private int statementThreshold;
+    private long slowQueryMs;
+    private List<SqlStatementStatsDto> topStatements = new ArrayList<>();
+    private List<SqlMethodStatsDto> methods = new ArrayList<>();
+    private List<SqlFlaggedRequestDto> flaggedRequests = new ArrayList<>();
+    private List<SqlSlowQueryDto> slowQueries = new ArrayList<>();
+
+    public long getTotalStatements() {
+        return totalStatements;
+    }
+
+    public void setTotalStatements(long totalStatements) {
+        this.totalStatements = totalStatements;
+    }
+
+    public long getTotalTimeMs() {
+        return totalTimeMs;
+    }
+
+    public void setTotalTimeMs(long totalTimeMs) {
+        this.totalTimeMs = totalTimeMs;
+    }
+
+    public int getStatementThreshold() {
+        return statementThreshold;
+    }
+
+    public void setStatementThreshold(int statementThreshold) {
+        this.statementThreshold = statementThreshold;
+    }
+
+    public long getSlowQueryMs() {
+        return slowQueryMs;
+    }
+
+    public void setSlowQueryMs(long slowQueryMs) {
+        this.slowQueryMs = slowQueryMs;
+    }
+
+    public List<SqlStatementStatsDto> getTopStatements() {
+        return topStatements;
+    }
+
+    public void setTopStatements(List<SqlStatementStatsDto> topStatements) {
+        this.topStatements = topStatements;
+    }
+
+    public List<SqlMethodStatsDto> getMethods() {
+        return methods;
+    }
+
+    public void setMethods(List<SqlMethodStatsDto> methods) {
+        this.methods = methods;
+    }
+
+    public List<SqlFlaggedRequestDto> getFlaggedRequests() {
+        return flaggedRequests;
+    }
+
+    public void setFlaggedRequests(List<SqlFlaggedRequestDto> flaggedRequests) {
+        this.flaggedRequests = flaggedRequests;
+    }
+
+    public List<SqlSlowQueryDto> getSlowQueries() {
+        return slowQueries;
+    }
+
+    public void setSlowQueries(List<SqlSlowQueryDto> slowQueries) {
+        this.slowQueries = slowQueries;
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.dto.archive;
+
+import org.example.model.listing.ListingType;
+import java.time.Instant;
+import java.util.UUID;
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class ArchivedListingResponse {
+
+    private UUID id;
+    private ListingType type;
+    private String title;
+    private Instant createdAt;
+    private Instant unpublishedAt;
+    private Instant archivedAt;
+    private JsonNode listing;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public ListingType getType() {
+        return type;
+    }
+
+    public void setType(ListingType type) {
+        this.type = type;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUnpublishedAt() {
+        return unpublishedAt;
+    }
+
+    public void setUnpublishedAt(Instant unpublishedAt) {
+        this.unpublishedAt = unpublishedAt;
+    }
+
+    public Instant getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(Instant archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+
+    public JsonNode getListing() {
+        return listing;
+    }
+
+    public void setListing(JsonNode listing) {
+        this.listing = listing;
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.dto.common;
+
+public enum ListingSort {
+    NEWEST,
+    PRICE_ASC,
+    PRICE_DESC,
+    PRICE_PER_SQM_ASC,
+    AREA_DESC,
+    AVAILABLE_SOONEST
+}
@@ -0,0 +1,23 @@
+package org.example.dto.common;
+
+public class ListingStatsResponse {
+
+    private long views;
+    private long uniqueViewers;
+
+    public long getViews() {
+        return views;
+    }
+
+    public void setViews(long views) {
+        this.views = views;
+    }
+
+    public long getUniqueViewers() {
+        return uniqueViewers;
+    }
+
+    public void setUniqueViewers(long uniqueViewers) {
+        this.uniqueViewers = uniqueViewers;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.dto.common;
+
+import org.example.exception.ValidationException;
+import java.util.Locale;
+import java.util.Map;
+
+public enum ListingView {
+    FULL,
+    CARD;
+
+    public static ListingView parse(String value) {
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+        try {
+            return ListingView.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("Unsupported view", Map.of("view", "Use one of full or card"));
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package org.example.dto.common;
+
+public enum TagMatchMode {
+    ALL,
+    ANY
+}
@@ -0,0 +1,32 @@
+package org.example.dto.favorite;
+
+import org.example.model.favorite.FavoriteType;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+public class FavoriteFlagsRequest {
+
+    private FavoriteType type;
+
+    @NotNull
+    @Size(max = 500)
+    private List<UUID> targetIds;
+
+    public FavoriteType getType() {
+        return type;
+    }
+
+    public void setType(FavoriteType type) {
+        this.type = type;
+    }
+
+    public List<UUID> getTargetIds() {
+        return targetIds;
+    }
+
+    public void setTargetIds(List<UUID> targetIds) {
+        this.targetIds = targetIds;
+    }
+}
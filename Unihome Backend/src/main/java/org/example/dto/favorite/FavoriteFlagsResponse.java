@@ -0,0 +1,17 @@
+package org.example.dto.favorite;
+
+import java.util.Map;
+import java.util.UUID;
+
+public class FavoriteFlagsResponse {
+
+    private Map<UUID, Boolean> flags;
+
+    public Map<UUID, Boolean> getFlags() {
+        return flags;
+    }
+
+    public void setFlags(Map<UUID, Boolean> flags) {
+        this.flags = flags;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.dto.property;
+
+import org.example.exception.ValidationException;
+import java.util.Map;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+public enum PropertyImportFormat {
+    NDJSON,
+    CSV;
+
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+
+    public static PropertyImportFormat fromContentType(String contentType) {
+        try {
+            MediaType mediaType = contentType != null ? MediaType.parseMediaType(contentType) : null;
+            if (mediaType != null && mediaType.isCompatibleWith(MediaType.parseMediaType(CSV_MEDIA_TYPE))) {
+                return CSV;
+            }
+            if (mediaType != null && mediaType.isCompatibleWith(MediaType.parseMediaType(NDJSON_MEDIA_TYPE))) {
+                return NDJSON;
+            }
+        } catch (InvalidMediaTypeException ignored) {
+            // reported below
+        }
+        throw new ValidationException("Unsupported import format", Map.of("Content-Type", "Use " + NDJSON_MEDIA_TYPE + " or " + CSV_MEDIA_TYPE));
+    }
+}
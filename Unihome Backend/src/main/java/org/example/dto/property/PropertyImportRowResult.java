@@ -0,0 +1,53 @@
+package org.example.dto.property;
+
+import java.util.Map;
+import java.util.UUID;
+
+public class PropertyImportRowResult {
+
+    private int row;
+    private PropertyImportStatus status;
+    private UUID id;
+    private String message;
+    private Map<String, String> errors;
+
+    public int getRow() {
+        return row;
+    }
+
+    public void setRow(int row) {
+        this.row = row;
+    }
+
+    public PropertyImportStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(PropertyImportStatus status) {
+        this.status = status;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(Map<String, String> errors) {
+        this.errors = errors;
+    }
+}
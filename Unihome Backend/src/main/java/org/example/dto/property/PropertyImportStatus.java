@@ -0,0 +1,6 @@
+package org.example.dto.property;
+
+public enum PropertyImportStatus {
+    CREATED,
+    REJECTED
+}
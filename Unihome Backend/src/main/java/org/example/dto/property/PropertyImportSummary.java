@@ -0,0 +1,59 @@
+package org.example.dto.property;
+
+public class PropertyImportSummary {
+
+    private int received;
+    private int created;
+    private int rejected;
+    private int hospitalityListings;
+    private boolean truncated;
+    private long elapsedMs;
+
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public int getHospitalityListings() {
+        return hospitalityListings;
+    }
+
+    public void setHospitalityListings(int hospitalityListings) {
+        this.hospitalityListings = hospitalityListings;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public void setTruncated(boolean truncated) {
+        this.truncated = truncated;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public void setElapsedMs(long elapsedMs) {
+        this.elapsedMs = elapsedMs;
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.dto.property;
 
 import org.example.dto.common.AvailabilityScheduleDto;
+import org.example.dto.common.ListingStatsResponse;
 import org.example.model.property.PropertyType;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -29,6 +30,7 @@ public class PropertyResponse {
     private boolean hospitality;
     private UUID hospitalityListingId;
     private boolean published;
+    private ListingStatsResponse stats;
 
     public UUID getId() {
         return id;
@@ -181,4 +183,12 @@ public class PropertyResponse {
     public void setPublished(boolean published) {
         this.published = published;
     }
+
+    public ListingStatsResponse getStats() {
+        return stats;
+    }
+
+    public void setStats(ListingStatsResponse stats) {
+        this.stats = stats;
+    }
 }
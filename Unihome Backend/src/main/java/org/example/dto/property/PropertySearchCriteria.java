@@ -1,5 +1,6 @@
 package org.example.dto.property;
 
+import org.example.dto.common.ListingSort;
 import org.example.model.property.PropertyType;
 import java.math.BigDecimal;
 import java.util.List;
@@ -16,6 +17,7 @@ public class PropertySearchCriteria {
     private Boolean furnished;
     private Boolean hasDamage;
     private String search;
+    private ListingSort sort;
 
     public List<PropertyType> getTypes() {
         return types;
@@ -96,4 +98,12 @@ public class PropertySearchCriteria {
     public void setSearch(String search) {
         this.search = search;
     }
+
+    public ListingSort getSort() {
+        return sort;
+    }
+
+    public void setSort(ListingSort sort) {
+        this.sort = sort;
+    }
 }
@@ -0,0 +1,41 @@
+package org.example.dto.roommate;
+
+public class CompatibilityFactorDto {
+
+    private String name;
+    private double weight;
+    private double similarity;
+
+    public CompatibilityFactorDto() {
+    }
+
+    public CompatibilityFactorDto(String name, double weight, double similarity) {
+        this.name = name;
+        this.weight = weight;
+        this.similarity = similarity;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public void setWeight(double weight) {
+        this.weight = weight;
+    }
+
+    public double getSimilarity() {
+        return similarity;
+    }
+
+    public void setSimilarity(double similarity) {
+        this.similarity = similarity;
+    }
+}
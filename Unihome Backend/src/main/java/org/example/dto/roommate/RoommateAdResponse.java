@@ -1,6 +1,7 @@
 package org.example.dto.roommate;
 
 import org.example.dto.common.AvailabilityScheduleDto;
+import org.example.dto.common.ListingStatsResponse;
 import org.example.model.roommate.RoommateAdMode;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -20,6 +21,7 @@ public class RoommateAdResponse {
     private LocalDate availableFrom;
     private Instant createdAt;
     private boolean published;
+    private ListingStatsResponse stats;
     private UUID authorId;
     private String authorName;
     private List<String> preferences = new ArrayList<>();
@@ -108,6 +110,14 @@ public class RoommateAdResponse {
         this.published = published;
     }
 
+    public ListingStatsResponse getStats() {
+        return stats;
+    }
+
+    public void setStats(ListingStatsResponse stats) {
+        this.stats = stats;
+    }
+
     public UUID getAuthorId() {
         return authorId;
     }
@@ -0,0 +1,44 @@
+package org.example.dto.roommate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RoommateMatchResponse {
+
+    private RoommateAdResponse ad;
+    private double score;
+    private List<CompatibilityFactorDto> factors = new ArrayList<>();
+    private List<String> sharedLifestyle = new ArrayList<>();
+
+    public RoommateAdResponse getAd() {
+        return ad;
+    }
+
+    public void setAd(RoommateAdResponse ad) {
+        this.ad = ad;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public List<CompatibilityFactorDto> getFactors() {
+        return factors;
+    }
+
+    public void setFactors(List<CompatibilityFactorDto> factors) {
+        this.factors = factors;
+    }
+
+    public List<String> getSharedLifestyle() {
+        return sharedLifestyle;
+    }
+
+    public void setSharedLifestyle(List<String> sharedLifestyle) {
+        this.sharedLifestyle = sharedLifestyle;
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.dto.roommate;
 
+import org.example.dto.common.ListingSort;
+import org.example.dto.common.TagMatchMode;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -13,6 +15,9 @@ public class RoommateSearchCriteria {
     private Boolean studentOnly;
     private List<String> interests;
     private List<String> amenities;
+    private TagMatchMode interestMatch;
+    private TagMatchMode amenityMatch;
+    private ListingSort sort;
 
     public BigDecimal getMinRent() {
         return minRent;
@@ -69,4 +74,28 @@ public class RoommateSearchCriteria {
     public void setAmenities(List<String> amenities) {
         this.amenities = amenities;
     }
+
+    public TagMatchMode getInterestMatch() {
+        return interestMatch;
+    }
+
+    public void setInterestMatch(TagMatchMode interestMatch) {
+        this.interestMatch = interestMatch;
+    }
+
+    public TagMatchMode getAmenityMatch() {
+        return amenityMatch;
+    }
+
+    public void setAmenityMatch(TagMatchMode amenityMatch) {
+        this.amenityMatch = amenityMatch;
+    }
+
+    public ListingSort getSort() {
+        return sort;
+    }
+
+    public void setSort(ListingSort sort) {
+        this.sort = sort;
+    }
 }
@@ -0,0 +1,63 @@
+package org.example.dto.search;
+
+import org.example.dto.property.PropertySearchCriteria;
+import org.example.dto.roommate.RoommateSearchCriteria;
+import org.example.dto.temporary.TemporaryStaySearchCriteria;
+import org.example.model.listing.ListingType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class CreateSavedSearchRequest {
+
+    @NotBlank
+    @Size(max = 120)
+    private String name;
+
+    @NotNull
+    private ListingType type;
+
+    private PropertySearchCriteria property;
+    private RoommateSearchCriteria roommate;
+    private TemporaryStaySearchCriteria temporaryStay;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public ListingType getType() {
+        return type;
+    }
+
+    public void setType(ListingType type) {
+        this.type = type;
+    }
+
+    public PropertySearchCriteria getProperty() {
+        return property;
+    }
+
+    public void setProperty(PropertySearchCriteria property) {
+        this.property = property;
+    }
+
+    public RoommateSearchCriteria getRoommate() {
+        return roommate;
+    }
+
+    public void setRoommate(RoommateSearchCriteria roommate) {
+        this.roommate = roommate;
+    }
+
+    public TemporaryStaySearchCriteria getTemporaryStay() {
+        return temporaryStay;
+    }
+
+    public void setTemporaryStay(TemporaryStaySearchCriteria temporaryStay) {
+        this.temporaryStay = temporaryStay;
+    }
+}
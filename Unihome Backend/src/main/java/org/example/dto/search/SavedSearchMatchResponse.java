@@ -0,0 +1,54 @@
+package org.example.dto.search;
+
+import org.example.model.listing.ListingType;
+import java.time.Instant;
+import java.util.UUID;
+
+public class SavedSearchMatchResponse {
+
+    private ListingType listingType;
+    private UUID listingId;
+    private String listingTitle;
+    private Instant matchedAt;
+    private boolean notified;
+
+    public ListingType getListingType() {
+        return listingType;
+    }
+
+    public void setListingType(ListingType listingType) {
+        this.listingType = listingType;
+    }
+
+    public UUID getListingId() {
+        return listingId;
+    }
+
+    public void setListingId(UUID listingId) {
+        this.listingId = listingId;
+    }
+
+    public String getListingTitle() {
+        return listingTitle;
+    }
+
+    public void setListingTitle(String listingTitle) {
+        this.listingTitle = listingTitle;
+    }
+
+    public Instant getMatchedAt() {
+        return matchedAt;
+    }
+
+    public void setMatchedAt(Instant matchedAt) {
+        this.matchedAt = matchedAt;
+    }
+
+    public boolean isNotified() {
+        return notified;
+    }
+
+    public void setNotified(boolean notified) {
+        this.notified = notified;
+    }
+}
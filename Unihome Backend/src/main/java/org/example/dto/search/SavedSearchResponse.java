@@ -0,0 +1,63 @@
+package org.example.dto.search;
+
+import org.example.model.listing.ListingType;
+import java.time.Instant;
+import java.util.UUID;
+
+public class SavedSearchResponse {
+
+    private UUID id;
+    private String name;
+    private ListingType type;
+    private Object criteria;
+    private long pendingMatches;
+    private Instant createdAt;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public ListingType getType() {
+        return type;
+    }
+
+    public void setType(ListingType type) {
+        this.type = type;
+    }
+
+    public Object getCriteria() {
+        return criteria;
+    }
+
+    public void setCriteria(Object criteria) {
+        this.criteria = criteria;
+    }
+
+    public long getPendingMatches() {
+        return pendingMatches;
+    }
+
+    public void setPendingMatches(long pendingMatches) {
+        this.pendingMatches = pendingMatches;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.dto.search;
+
+public enum SuggestField {
+    CITY,
+    AREA,
+    AMENITY
+}
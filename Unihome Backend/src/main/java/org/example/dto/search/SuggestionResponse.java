@@ -0,0 +1,20 @@
+package org.example.dto.search;
+
+public class SuggestionResponse {
+
+    private final String value;
+    private final long listings;
+
+    public SuggestionResponse(String value, long listings) {
+        this.value = value;
+        this.listings = listings;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public long getListings() {
+        return listings;
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.dto.search;
+
+import org.example.model.listing.ListingType;
+import java.math.BigDecimal;
+import java.util.List;
+
+public class UnifiedSearchCriteria {
+
+    private List<ListingType> types;
+    private String city;
+    private BigDecimal minMonthlyPrice;
+    private BigDecimal maxMonthlyPrice;
+
+    public List<ListingType> getTypes() {
+        return types;
+    }
+
+    public void setTypes(List<ListingType> types) {
+        this.types = types;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public BigDecimal getMinMonthlyPrice() {
+        return minMonthlyPrice;
+    }
+
+    public void setMinMonthlyPrice(BigDecimal minMonthlyPrice) {
+        this.minMonthlyPrice = minMonthlyPrice;
+    }
+
+    public BigDecimal getMaxMonthlyPrice() {
+        return maxMonthlyPrice;
+    }
+
+    public void setMaxMonthlyPrice(BigDecimal maxMonthlyPrice) {
+        this.maxMonthlyPrice = maxMonthlyPrice;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.dto.search;
+
+import org.example.dto.common.ListingCardResponse;
+import org.example.dto.common.PagedResponse;
+import org.example.model.listing.ListingType;
+import java.util.ArrayList;
+import java.util.List;
+
+public class UnifiedSearchResponse extends PagedResponse<ListingCardResponse> {
+
+    private List<ListingType> incompleteTypes = new ArrayList<>();
+
+    public UnifiedSearchResponse() {
+    }
+
+    public UnifiedSearchResponse(
+        List<ListingCardResponse> items,
+        long totalItems,
+        int totalPages,
+        int page,
+        int size,
+        List<ListingType> incompleteTypes
+    ) {
+        super(items, totalItems, totalPages, page, size);
+        this.incompleteTypes = incompleteTypes;
+    }
+
+    public List<ListingType> getIncompleteTypes() {
+        return incompleteTypes;
+    }
+
+    public void setIncompleteTypes(List<ListingType> incompleteTypes) {
+        this.incompleteTypes = incompleteTypes;
+    }
+}
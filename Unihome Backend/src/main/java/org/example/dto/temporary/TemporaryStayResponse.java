@@ -1,6 +1,7 @@
 package org.example.dto.temporary;
 
 import org.example.dto.common.AvailabilityScheduleDto;
+import org.example.dto.common.ListingStatsResponse;
 import org.example.model.temporary.TemporaryStayCostCategory;
 import org.example.model.temporary.TemporaryStayPurpose;
 import org.example.model.temporary.TemporaryStayType;
@@ -29,6 +30,7 @@ public class TemporaryStayResponse {
     private TemporaryStayPurpose purpose;
     private UUID linkedPropertyId;
     private boolean published;
+    private ListingStatsResponse stats;
 
     public UUID getId() {
         return id;
@@ -165,4 +167,12 @@ public class TemporaryStayResponse {
     public void setPublished(boolean published) {
         this.published = published;
     }
+
+    public ListingStatsResponse getStats() {
+        return stats;
+    }
+
+    public void setStats(ListingStatsResponse stats) {
+        this.stats = stats;
+    }
 }
@@ -1,10 +1,14 @@
 package org.example.dto.temporary;
 
+import org.example.dto.common.ListingSort;
+import org.example.dto.common.TagMatchMode;
 import org.example.model.temporary.TemporaryStayCostCategory;
 import org.example.model.temporary.TemporaryStayPurpose;
 import org.example.model.temporary.TemporaryStayType;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
 
 public class TemporaryStaySearchCriteria {
 
@@ -14,7 +18,13 @@ public class TemporaryStaySearchCriteria {
     private String city;
     private TemporaryStayCostCategory costCategory;
     private List<String> amenities;
+    private TagMatchMode amenityMatch;
     private TemporaryStayPurpose purpose;
+    private ListingSort sort;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate checkIn;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate checkOut;
 
     public List<TemporaryStayType> getTypes() {
         return types;
@@ -64,6 +74,14 @@ public class TemporaryStaySearchCriteria {
         this.amenities = amenities;
     }
 
+    public TagMatchMode getAmenityMatch() {
+        return amenityMatch;
+    }
+
+    public void setAmenityMatch(TagMatchMode amenityMatch) {
+        this.amenityMatch = amenityMatch;
+    }
+
     public TemporaryStayPurpose getPurpose() {
         return purpose;
     }
@@ -71,4 +89,28 @@ public class TemporaryStaySearchCriteria {
     public void setPurpose(TemporaryStayPurpose purpose) {
         this.purpose = purpose;
     }
+
+    public ListingSort getSort() {
+        return sort;
+    }
+
+    public void setSort(ListingSort sort) {
+        this.sort = sort;
+    }
+
+    public LocalDate getCheckIn() {
+        return checkIn;
+    }
+
+    public void setCheckIn(LocalDate checkIn) {
+        this.checkIn = checkIn;
+    }
+
+    public LocalDate getCheckOut() {
+        return checkOut;
+    }
+
+    public void setCheckOut(LocalDate checkOut) {
+        this.checkOut = checkOut;
+    }
 }
@@ -0,0 +1,16 @@
+package org.example.event;
+
+import java.util.UUID;
+
+public class FavoritesChangedEvent {
+
+    private final UUID userId;
+
+    public FavoritesChangedEvent(UUID userId) {
+        this.userId = userId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+}
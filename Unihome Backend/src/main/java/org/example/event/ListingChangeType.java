@@ -0,0 +1,9 @@
+package org.example.event;
+
+public enum ListingChangeType {
+    CREATED,
+    UPDATED,
+    HIDDEN,
+    PUBLISHED,
+    DELETED
+}
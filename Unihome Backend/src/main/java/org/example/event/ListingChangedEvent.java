@@ -0,0 +1,46 @@
+package org.example.event;
+
+import org.example.model.listing.ListingType;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public class ListingChangedEvent {
+
+    private final ListingType listingType;
+    private final UUID listingId;
+    private final ListingChangeType changeType;
+    private final Set<String> cityKeys;
+
+    public ListingChangedEvent(ListingType listingType, UUID listingId, ListingChangeType changeType) {
+        this(listingType, listingId, changeType, Set.of());
+    }
+
+    public ListingChangedEvent(ListingType listingType, UUID listingId, ListingChangeType changeType, Collection<String> cityKeys) {
+        this.listingType = listingType;
+        this.listingId = listingId;
+        this.changeType = changeType;
+        this.cityKeys = cityKeys.stream().filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet());
+    }
+
+    public ListingType getListingType() {
+        return listingType;
+    }
+
+    public UUID getListingId() {
+        return listingId;
+    }
+
+    public ListingChangeType getChangeType() {
+        return changeType;
+    }
+
+    /**
+     * City keys the listing had before and after the change; empty when unknown.
+     */
+    public Set<String> getCityKeys() {
+        return cityKeys;
+    }
+}
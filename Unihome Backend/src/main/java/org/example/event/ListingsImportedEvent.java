@@ -0,0 +1,41 @@
+package org.example.event;
+
+import org.example.model.listing.ListingType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * One committed batch of a bulk import, published instead of a {@link ListingChangedEvent} per row
+ * so listeners can load and index the whole batch at once. Only property imports publish it.
+ */
+public class ListingsImportedEvent {
+
+    private final ListingType listingType;
+    private final List<UUID> listingIds;
+    private final Set<String> cityKeys;
+
+    public ListingsImportedEvent(ListingType listingType, Collection<UUID> listingIds, Collection<String> cityKeys) {
+        this.listingType = listingType;
+        this.listingIds = List.copyOf(listingIds);
+        this.cityKeys = cityKeys.stream().filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet());
+    }
+
+    public ListingType getListingType() {
+        return listingType;
+    }
+
+    public List<UUID> getListingIds() {
+        return listingIds;
+    }
+
+    /**
+     * City keys of the imported listings; empty when none of them has one.
+     */
+    public Set<String> getCityKeys() {
+        return cityKeys;
+    }
+}
@@ -50,6 +50,39 @@ public class AvailabilityMapper {
         return embeddable;
     }
 
+    public AvailabilityScheduleEmbeddable merge(AvailabilityScheduleEmbeddable current, AvailabilityScheduleDto dto) {
+        if (dto == null || current == null) {
+            return toEmbeddable(dto);
+        }
+        CollectionSync.syncList(current.getUnavailable(), mapWindows(dto.getUnavailable()));
+        current.setNote(dto.getNote());
+        current.setLastUpdated(dto.getLastUpdated());
+        current.setCalendarUrl(dto.getCalendarUrl());
+        return current;
+    }
+
+    public TemporaryAvailabilityScheduleEmbeddable merge(TemporaryAvailabilityScheduleEmbeddable current, AvailabilityScheduleDto dto) {
+        if (dto == null || current == null) {
+            return toTemporaryEmbeddable(dto);
+        }
+        CollectionSync.syncList(current.getUnavailable(), mapWindows(dto.getUnavailable()));
+        current.setNote(dto.getNote());
+        current.setLastUpdated(dto.getLastUpdated());
+        current.setCalendarUrl(dto.getCalendarUrl());
+        return current;
+    }
+
+    public RoommateAvailabilityScheduleEmbeddable merge(RoommateAvailabilityScheduleEmbeddable current, AvailabilityScheduleDto dto) {
+        if (dto == null || current == null) {
+            return toRoommateEmbeddable(dto);
+        }
+        CollectionSync.syncList(current.getUnavailable(), mapWindows(dto.getUnavailable()));
+        current.setNote(dto.getNote());
+        current.setLastUpdated(dto.getLastUpdated());
+        current.setCalendarUrl(dto.getCalendarUrl());
+        return current;
+    }
+
     public AvailabilityScheduleDto toDto(AvailabilityScheduleEmbeddable embeddable) {
         if (embeddable == null) {
             return null;
@@ -0,0 +1,38 @@
+package org.example.mapper;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Brings a managed collection in line with the requested values by mutating it in place. Assigning
+ * a new collection makes Hibernate delete and re-insert every row; editing the persistent one lets
+ * it touch only the rows that actually changed.
+ */
+final class CollectionSync {
+
+    private CollectionSync() {
+    }
+
+    static <T> void syncSet(Set<T> target, Collection<T> desired) {
+        Set<T> wanted = desired != null ? new LinkedHashSet<>(desired) : new LinkedHashSet<>();
+        target.retainAll(wanted);
+        target.addAll(wanted);
+    }
+
+    static <T> void syncList(List<T> target, List<T> desired) {
+        List<T> wanted = desired != null ? desired : List.of();
+        int shared = Math.min(target.size(), wanted.size());
+        for (int i = 0; i < shared; i++) {
+            if (!Objects.equals(target.get(i), wanted.get(i))) {
+                target.set(i, wanted.get(i));
+            }
+        }
+        while (target.size() > wanted.size()) {
+            target.remove(target.size() - 1);
+        }
+        target.addAll(wanted.subList(shared, wanted.size()));
+    }
+}
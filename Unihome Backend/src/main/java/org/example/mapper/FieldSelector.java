@@ -0,0 +1,85 @@
+package org.example.mapper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies a {@code fields=} sparse fieldset to a response. Paths are comma separated and may use
+ * dots to reach nested objects (applied to every element of a list); unknown names are ignored.
+ */
+@Component
+public class FieldSelector {
+
+    private final ObjectMapper objectMapper;
+
+    public FieldSelector(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public Object select(Object response, String fields) {
+        if (response == null || fields == null || fields.isBlank()) {
+            return response;
+        }
+        Selection selection = new Selection();
+        for (String path : fields.split(",")) {
+            String trimmed = path.trim();
+            if (!trimmed.isEmpty()) {
+                selection.add(trimmed.split("\\.", -1));
+            }
+        }
+        if (selection.children.isEmpty()) {
+            return response;
+        }
+        return retain(objectMapper.valueToTree(response), selection);
+    }
+
+    private JsonNode retain(JsonNode node, Selection selection) {
+        if (selection.whole) {
+            return node;
+        }
+        if (node.isArray()) {
+            ArrayNode array = objectMapper.createArrayNode();
+            node.forEach(element -> array.add(retain(element, selection)));
+            return array;
+        }
+        if (!node.isObject()) {
+            return node;
+        }
+        ObjectNode object = objectMapper.createObjectNode();
+        selection.children.forEach((name, child) -> {
+            JsonNode value = node.get(name);
+            if (value != null) {
+                object.set(name, retain(value, child));
+            }
+        });
+        return object;
+    }
+
+    private static final class Selection {
+
+        private final Map<String, Selection> children = new LinkedHashMap<>();
+        private boolean whole;
+
+        private void add(String[] path) {
+            for (String segment : path) {
+                if (segment.isBlank()) {
+                    return;
+                }
+            }
+            Selection current = this;
+            for (String segment : path) {
+                if (current.whole) {
+                    return;
+                }
+                current = current.children.computeIfAbsent(segment, name -> new Selection());
+            }
+            current.whole = true;
+            current.children.clear();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package org.example.mapper;
+
+import org.example.dto.property.CreatePropertyRequest;
+import org.example.dto.property.PropertyImportFormat;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads a bulk property import one row at a time, so the body is never held in memory. NDJSON rows
+ * are {@link CreatePropertyRequest} objects; CSV rows use the same field names as header columns,
+ * with dots for nested objects ({@code location.city}) and {@code |} between list entries.
+ */
+@Component
+public class PropertyImportReader {
+
+    private static final Set<String> LIST_COLUMNS = Set.of("features", "images");
+    private static final String LIST_SEPARATOR = "\\|";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader requestReader;
+
+    public PropertyImportReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.requestReader = objectMapper.readerFor(CreatePropertyRequest.class);
+    }
+
+    public Cursor open(InputStream body, PropertyImportFormat format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        return format == PropertyImportFormat.CSV ? new CsvCursor(reader) : new NdjsonCursor(reader);
+    }
+
+    /** One parsed row: either a request or the reason it could not be read. */
+    public static final class Row {
+
+        private final int number;
+        private final CreatePropertyRequest request;
+        private final String error;
+
+        private Row(int number, CreatePropertyRequest request, String error) {
+            this.number = number;
+            this.request = request;
+            this.error = error;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public CreatePropertyRequest getRequest() {
+            return request;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
+
+    public interface Cursor {
+
+        /** The next row, or {@code null} at the end of the body. */
+        Row next() throws IOException;
+    }
+
+    private final class NdjsonCursor implements Cursor {
+
+        private final BufferedReader reader;
+        private int row;
+
+        private NdjsonCursor(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                row++;
+                try {
+                    return new Row(row, requestReader.readValue(line), null);
+                } catch (JsonProcessingException ex) {
+                    return new Row(row, null, ex.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    private final class CsvCursor implements Cursor {
+
+        private final BufferedReader reader;
+        private List<String[]> header;
+        private int row;
+
+        private CsvCursor(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            if (header == null) {
+                List<String> names = readRecord();
+                if (names == null) {
+                    return null;
+                }
+                header = new ArrayList<>();
+                for (String name : names) {
+                    header.add(name.replace("\uFEFF", "").trim().split("\\."));
+                }
+            }
+            List<String> values;
+            do {
+                values = readRecord();
+                if (values == null) {
+                    return null;
+                }
+            } while (values.size() == 1 && values.get(0).isBlank());
+            row++;
+            if (values.size() > header.size()) {
+                return new Row(row, null, "Row has " + values.size() + " columns, header has " + header.size());
+            }
+            ObjectNode node = objectMapper.createObjectNode();
+            for (int i = 0; i < values.size(); i++) {
+                put(node, header.get(i), values.get(i));
+            }
+            try {
+                return new Row(row, requestReader.readValue(node), null);
+            } catch (JsonProcessingException ex) {
+                return new Row(row, null, ex.getOriginalMessage());
+            }
+        }
+
+        private void put(ObjectNode node, String[] path, String value) {
+            if (value.isEmpty()) {
+                return;
+            }
+            ObjectNode parent = node;
+            for (int i = 0; i < path.length - 1; i++) {
+                parent = parent.has(path[i]) && parent.get(path[i]).isObject()
+                    ? (ObjectNode) parent.get(path[i])
+                    : parent.putObject(path[i]);
+            }
+            String field = path[path.length - 1];
+            if (path.length == 1 && LIST_COLUMNS.contains(field)) {
+                ArrayNode list = parent.putArray(field);
+                for (String entry : value.split(LIST_SEPARATOR)) {
+                    if (!entry.isBlank()) {
+                        list.add(entry.trim());
+                    }
+                }
+                return;
+            }
+            parent.put(field, value);
+        }
+
+        /** RFC 4180 record: quoted fields may contain commas, doubled quotes and line breaks. */
+        private List<String> readRecord() throws IOException {
+            int next = reader.read();
+            if (next == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (next != -1) {
+                char c = (char) next;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append(c);
+                }
+                next = reader.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
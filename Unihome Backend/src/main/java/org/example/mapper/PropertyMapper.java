@@ -1,29 +1,39 @@
 package org.example.mapper;
 
+import org.example.dto.common.ListingCardResponse;
 import org.example.dto.property.CreatePropertyRequest;
 import org.example.dto.property.PropertyBasicsDto;
 import org.example.dto.property.PropertyContactDto;
 import org.example.dto.property.PropertyLocationDto;
 import org.example.dto.property.PropertyResponse;
 import org.example.dto.property.UpdatePropertyRequest;
+import org.example.model.listing.ListingType;
 import org.example.model.property.PropertyBasicsEmbeddable;
 import org.example.model.property.PropertyContactEmbeddable;
 import org.example.model.property.PropertyEntity;
 import org.example.model.property.PropertyLocationEmbeddable;
 import org.example.model.user.UserEntity;
+import org.example.search.CityKeys;
+import org.example.search.TagDictionary;
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 import org.springframework.stereotype.Component;
 
 @Component
 public class PropertyMapper {
 
     private final AvailabilityMapper availabilityMapper;
+    private final TagDictionary tagDictionary;
 
-    public PropertyMapper(AvailabilityMapper availabilityMapper) {
+    public PropertyMapper(AvailabilityMapper availabilityMapper, TagDictionary tagDictionary) {
         this.availabilityMapper = availabilityMapper;
+        this.tagDictionary = tagDictionary;
     }
 
     public PropertyEntity toEntity(CreatePropertyRequest request, UserEntity owner) {
@@ -40,12 +50,12 @@ public class PropertyMapper {
         entity.setPrice(request.getPrice());
         entity.setArea(request.getArea());
         entity.setRooms(request.getRooms());
-        entity.setFeatures(normalize(request.getFeatures()));
-        entity.setImages(normalize(request.getImages()));
+        CollectionSync.syncSet(entity.getFeatureTagIds(), tagDictionary.resolveIds(request.getFeatures()));
+        CollectionSync.syncSet(entity.getImages(), normalize(request.getImages()));
         entity.setBasics(toBasics(request.getBasics()));
         entity.setLocation(toLocation(request.getLocation()));
         entity.setContact(toContact(request.getContact()));
-        entity.setAvailability(availabilityMapper.toEmbeddable(request.getAvailability()));
+        entity.setAvailability(availabilityMapper.merge(entity.getAvailability(), request.getAvailability()));
         if (request.getHospitality() != null) {
             entity.setHospitalityOptIn(request.getHospitality());
         }
@@ -81,7 +91,7 @@ public class PropertyMapper {
         dto.setPrice(entity.getPrice());
         dto.setArea(entity.getArea());
         dto.setRooms(entity.getRooms());
-        dto.setFeatures(normalize(entity.getFeatures()));
+        dto.setFeatures(tagDictionary.labels(entity.getFeatureTagIds()));
         dto.setImages(normalize(entity.getImages()));
         dto.setBasics(toBasicsDto(entity.getBasics()));
         dto.setLocation(toLocationDto(entity.getLocation()));
@@ -98,6 +108,32 @@ public class PropertyMapper {
         return dto;
     }
 
+    public ListingCardResponse toCard(PropertyEntity entity) {
+        ListingCardResponse card = new ListingCardResponse();
+        card.setType(ListingType.PROPERTY);
+        card.setId(entity.getId());
+        card.setTitle(entity.getTitle());
+        card.setCity(entity.getLocation() != null ? entity.getLocation().getCity() : null);
+        card.setPrice(entity.getPrice());
+        card.setMonthlyPrice(entity.getPrice());
+        card.setImageUrl(firstImage(entity.getImages()));
+        card.setCreatedAt(entity.getCreatedAt());
+        return card;
+    }
+
+    public ListingCardResponse toCard(Object[] row) {
+        ListingCardResponse card = new ListingCardResponse();
+        card.setType(ListingType.PROPERTY);
+        card.setId((UUID) row[0]);
+        card.setTitle((String) row[1]);
+        card.setCity((String) row[2]);
+        card.setPrice((BigDecimal) row[3]);
+        card.setMonthlyPrice((BigDecimal) row[3]);
+        card.setCreatedAt((Instant) row[4]);
+        card.setImageUrl((String) row[5]);
+        return card;
+    }
+
     private PropertyBasicsEmbeddable toBasics(PropertyBasicsDto dto) {
         if (dto == null) {
             return null;
@@ -125,6 +161,7 @@ public class PropertyMapper {
         PropertyLocationEmbeddable embeddable = new PropertyLocationEmbeddable();
         embeddable.setAddress(dto.getAddress());
         embeddable.setCity(dto.getCity());
+        embeddable.setCityKey(CityKeys.key(dto.getCity()));
         embeddable.setPostalCode(dto.getPostalCode());
         embeddable.setLatitude(dto.getLat());
         embeddable.setLongitude(dto.getLng());
@@ -170,13 +207,20 @@ public class PropertyMapper {
         return dto;
     }
 
-    private List<String> normalize(List<String> values) {
+    private List<String> normalize(Collection<String> values) {
         if (values == null) {
             return new ArrayList<>();
         }
         return values.stream().filter(Objects::nonNull).map(String::trim).filter(s -> !s.isEmpty()).distinct().collect(java.util.stream.Collectors.toList());
     }
 
+    private String firstImage(Collection<String> images) {
+        if (images == null) {
+            return null;
+        }
+        return images.stream().filter(Objects::nonNull).map(String::trim).filter(s -> !s.isEmpty()).findFirst().orElse(null);
+    }
+
     private String formatOwnerName(UserEntity owner) {
         String first = owner.getFirstName() != null ? owner.getFirstName().trim() : "";
         String last = owner.getLastName() != null ? owner.getLastName().trim() : "";
@@ -1,5 +1,6 @@
 package org.example.mapper;
 
+import org.example.dto.common.ListingCardResponse;
 import org.example.dto.roommate.CreateRoommateAdRequest;
 import org.example.dto.roommate.RoommateAdResponse;
 import org.example.dto.roommate.RoommateContactDto;
@@ -7,6 +8,7 @@ import org.example.dto.roommate.RoommateLocationDto;
 import org.example.dto.roommate.RoommateProfileDto;
 import org.example.dto.roommate.RoommateRatingDto;
 import org.example.dto.roommate.UpdateRoommateAdRequest;
+import org.example.model.listing.ListingType;
 import org.example.model.roommate.RoommateAdEntity;
 import org.example.model.roommate.RoommateAdMode;
 import org.example.model.roommate.RoommateContactEmbeddable;
@@ -14,11 +16,16 @@ import org.example.model.roommate.RoommateLocationEmbeddable;
 import org.example.model.roommate.RoommateProfileEmbeddable;
 import org.example.model.roommate.RoommateRatingEntity;
 import org.example.model.user.UserEntity;
+import org.example.search.CityKeys;
+import org.example.search.TagDictionary;
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
@@ -26,9 +33,11 @@ import org.springframework.stereotype.Component;
 public class RoommateMapper {
 
     private final AvailabilityMapper availabilityMapper;
+    private final TagDictionary tagDictionary;
 
-    public RoommateMapper(AvailabilityMapper availabilityMapper) {
+    public RoommateMapper(AvailabilityMapper availabilityMapper, TagDictionary tagDictionary) {
         this.availabilityMapper = availabilityMapper;
+        this.tagDictionary = tagDictionary;
     }
 
     public RoommateAdEntity toEntity(CreateRoommateAdRequest request, UserEntity author) {
@@ -68,15 +77,15 @@ public class RoommateMapper {
         RoommateAdMode requestedMode = request.getMode() != null ? request.getMode() : currentMode;
         entity.setMode(requestedMode);
         entity.setAvailableFrom(request.getAvailableFrom());
-        entity.setPreferences(normalize(request.getPreferences()));
-        entity.setPropertyFeatures(normalize(request.getPropertyFeatures()));
-        entity.setLifestyle(normalize(request.getLifestyle()));
-        entity.setImages(normalize(request.getImages()));
-        entity.setAmenities(normalize(request.getAmenities()));
+        CollectionSync.syncSet(entity.getPreferenceTagIds(), tagDictionary.resolveIds(request.getPreferences()));
+        CollectionSync.syncSet(entity.getPropertyFeatures(), normalize(request.getPropertyFeatures()));
+        CollectionSync.syncList(entity.getLifestyleTagIds(), tagDictionary.resolveIds(request.getLifestyle()));
+        CollectionSync.syncSet(entity.getImages(), normalize(request.getImages()));
+        CollectionSync.syncSet(entity.getAmenityTagIds(), tagDictionary.resolveIds(request.getAmenities()));
         entity.setProfile(toProfile(request.getProfile()));
         entity.setLocation(toLocation(request.getLocation()));
         entity.setContact(toContact(request.getContact()));
-        entity.setAvailability(availabilityMapper.toRoommateEmbeddable(request.getAvailability()));
+        entity.setAvailability(availabilityMapper.merge(entity.getAvailability(), request.getAvailability()));
     }
 
     public RoommateAdResponse toResponse(RoommateAdEntity entity, List<RoommateRatingEntity> ratings) {
@@ -97,11 +106,11 @@ public class RoommateMapper {
             dto.setAuthorId(entity.getAuthor().getId());
             dto.setAuthorName(formatName(entity.getAuthor()));
         }
-        dto.setPreferences(normalize(entity.getPreferences()));
+        dto.setPreferences(tagDictionary.labels(entity.getPreferenceTagIds()));
         dto.setPropertyFeatures(normalize(entity.getPropertyFeatures()));
-        dto.setLifestyle(normalize(entity.getLifestyle()));
+        dto.setLifestyle(tagDictionary.labels(entity.getLifestyleTagIds()));
         dto.setImages(normalize(entity.getImages()));
-        dto.setAmenities(normalize(entity.getAmenities()));
+        dto.setAmenities(tagDictionary.labels(entity.getAmenityTagIds()));
         dto.setProfile(toProfileDto(entity.getProfile()));
         dto.setLocation(toLocationDto(entity.getLocation()));
         dto.setContact(toContactDto(entity.getContact()));
@@ -110,6 +119,35 @@ public class RoommateMapper {
         return dto;
     }
 
+    public ListingCardResponse toCard(RoommateAdEntity entity) {
+        ListingCardResponse card = new ListingCardResponse();
+        card.setType(ListingType.ROOMMATE_AD);
+        card.setId(entity.getId());
+        card.setTitle(entity.getTitle());
+        card.setCity(entity.getLocation() != null ? entity.getLocation().getCity() : entity.getPropertyLocation());
+        card.setPrice(entity.getMonthlyRent());
+        card.setMonthlyPrice(entity.getMonthlyRent());
+        card.setImageUrl(firstImage(entity.getImages()));
+        card.setCreatedAt(entity.getCreatedAt());
+        return card;
+    }
+
+    public ListingCardResponse toCard(Object[] row) {
+        ListingCardResponse card = new ListingCardResponse();
+        card.setType(ListingType.ROOMMATE_AD);
+        card.setId((UUID) row[0]);
+        card.setTitle((String) row[1]);
+        card.setCity((String) row[2]);
+        card.setPrice((BigDecimal) row[3]);
+        card.setMonthlyPrice((BigDecimal) row[3]);
+        card.setCreatedAt((Instant) row[4]);
+        card.setImageUrl((String) row[5]);
+        Long ratingCount = row[7] != null ? ((Number) row[7]).longValue() : 0L;
+        card.setRatingCount(ratingCount);
+        card.setRatingAverage(ratingCount > 0 && row[6] != null ? ((Number) row[6]).doubleValue() : null);
+        return card;
+    }
+
     private void applyRatings(RoommateAdResponse response, List<RoommateRatingEntity> ratings) {
         if (ratings == null || ratings.isEmpty()) {
             response.setRatings(new ArrayList<>());
@@ -190,6 +228,7 @@ public class RoommateMapper {
         }
         RoommateLocationEmbeddable embeddable = new RoommateLocationEmbeddable();
         embeddable.setCity(dto.getCity());
+        embeddable.setCityKey(CityKeys.key(dto.getCity()));
         embeddable.setArea(dto.getArea());
         embeddable.setProximity(dto.getProximity());
         return embeddable;
@@ -232,7 +271,7 @@ public class RoommateMapper {
         return dto;
     }
 
-    private List<String> normalize(List<String> values) {
+    private List<String> normalize(Collection<String> values) {
         if (values == null) {
             return new ArrayList<>();
         }
@@ -244,6 +283,13 @@ public class RoommateMapper {
             .collect(Collectors.toList());
     }
 
+    private String firstImage(Collection<String> images) {
+        if (images == null) {
+            return null;
+        }
+        return images.stream().filter(Objects::nonNull).map(String::trim).filter(s -> !s.isEmpty()).findFirst().orElse(null);
+    }
+
     private String formatName(UserEntity user) {
         String first = user.getFirstName() != null ? user.getFirstName().trim() : "";
         String last = user.getLastName() != null ? user.getLastName().trim() : "";
@@ -1,19 +1,28 @@
 package org.example.mapper;
 
+import org.example.dto.common.ListingCardResponse;
 import org.example.dto.temporary.CreateTemporaryStayRequest;
 import org.example.dto.temporary.TemporaryStayContactDto;
 import org.example.dto.temporary.TemporaryStayLocationDto;
 import org.example.dto.temporary.TemporaryStayManagerDto;
 import org.example.dto.temporary.TemporaryStayResponse;
 import org.example.dto.temporary.UpdateTemporaryStayRequest;
+import org.example.model.listing.ListingType;
 import org.example.model.temporary.TemporaryStayContactEmbeddable;
 import org.example.model.temporary.TemporaryStayEntity;
 import org.example.model.temporary.TemporaryStayLocationEmbeddable;
 import org.example.model.temporary.TemporaryStayPurpose;
 import org.example.model.user.UserEntity;
+import org.example.search.CityKeys;
+import org.example.search.MonthlyPrices;
+import org.example.search.TagDictionary;
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
@@ -21,9 +30,11 @@ import org.springframework.stereotype.Component;
 public class TemporaryStayMapper {
 
     private final AvailabilityMapper availabilityMapper;
+    private final TagDictionary tagDictionary;
 
-    public TemporaryStayMapper(AvailabilityMapper availabilityMapper) {
+    public TemporaryStayMapper(AvailabilityMapper availabilityMapper, TagDictionary tagDictionary) {
         this.availabilityMapper = availabilityMapper;
+        this.tagDictionary = tagDictionary;
     }
 
     public TemporaryStayEntity toEntity(CreateTemporaryStayRequest request) {
@@ -60,9 +71,9 @@ public class TemporaryStayMapper {
         entity.setCostCategory(request.getCostCategory());
         entity.setLocation(toLocation(request.getLocation()));
         entity.setContact(toContact(request.getContact()));
-        entity.setAvailability(availabilityMapper.toTemporaryEmbeddable(request.getAvailability()));
-        entity.setAmenities(normalize(request.getAmenities()));
-        entity.setImages(normalize(request.getImages()));
+        entity.setAvailability(availabilityMapper.merge(entity.getAvailability(), request.getAvailability()));
+        CollectionSync.syncSet(entity.getAmenityTagIds(), tagDictionary.resolveIds(request.getAmenities()));
+        CollectionSync.syncSet(entity.getImages(), normalize(request.getImages()));
         if (request.getPurpose() != null) {
             entity.setPurpose(request.getPurpose());
         }
@@ -83,7 +94,7 @@ public class TemporaryStayMapper {
         dto.setLocation(toLocationDto(entity.getLocation()));
         dto.setContact(toContactDto(entity.getContact()));
         dto.setAvailability(availabilityMapper.toDto(entity.getAvailability()));
-        dto.setAmenities(normalize(entity.getAmenities()));
+        dto.setAmenities(tagDictionary.labels(entity.getAmenityTagIds()));
         dto.setImages(normalize(entity.getImages()));
         dto.setManager(toManagerDto(entity.getManager()));
         dto.setCreatedAt(entity.getCreatedAt());
@@ -93,6 +104,32 @@ public class TemporaryStayMapper {
         return dto;
     }
 
+    public ListingCardResponse toCard(TemporaryStayEntity entity) {
+        ListingCardResponse card = new ListingCardResponse();
+        card.setType(ListingType.TEMPORARY_STAY);
+        card.setId(entity.getId());
+        card.setTitle(entity.getTitle());
+        card.setCity(entity.getLocation() != null ? entity.getLocation().getCity() : null);
+        card.setPrice(entity.getPricePerNight());
+        card.setMonthlyPrice(MonthlyPrices.fromNightly(entity.getPricePerNight()));
+        card.setImageUrl(firstImage(entity.getImages()));
+        card.setCreatedAt(entity.getCreatedAt());
+        return card;
+    }
+
+    public ListingCardResponse toCard(Object[] row) {
+        ListingCardResponse card = new ListingCardResponse();
+        card.setType(ListingType.TEMPORARY_STAY);
+        card.setId((UUID) row[0]);
+        card.setTitle((String) row[1]);
+        card.setCity((String) row[2]);
+        card.setPrice((BigDecimal) row[3]);
+        card.setMonthlyPrice(MonthlyPrices.fromNightly((BigDecimal) row[3]));
+        card.setCreatedAt((Instant) row[4]);
+        card.setImageUrl((String) row[5]);
+        return card;
+    }
+
     private TemporaryStayLocationEmbeddable toLocation(TemporaryStayLocationDto dto) {
         if (dto == null) {
             return null;
@@ -100,6 +137,7 @@ public class TemporaryStayMapper {
         TemporaryStayLocationEmbeddable embeddable = new TemporaryStayLocationEmbeddable();
         embeddable.setAddress(dto.getAddress());
         embeddable.setCity(dto.getCity());
+        embeddable.setCityKey(CityKeys.key(dto.getCity()));
         embeddable.setPostalCode(dto.getPostalCode());
         embeddable.setLatitude(dto.getLat());
         embeddable.setLongitude(dto.getLng());
@@ -147,7 +185,7 @@ public class TemporaryStayMapper {
         return dto;
     }
 
-    private List<String> normalize(List<String> values) {
+    private List<String> normalize(Collection<String> values) {
         if (values == null) {
             return new ArrayList<>();
         }
@@ -159,6 +197,13 @@ public class TemporaryStayMapper {
             .collect(Collectors.toList());
     }
 
+    private String firstImage(Collection<String> images) {
+        if (images == null) {
+            return null;
+        }
+        return images.stream().filter(Objects::nonNull).map(String::trim).filter(s -> !s.isEmpty()).findFirst().orElse(null);
+    }
+
     private TemporaryStayManagerDto toManagerDto(UserEntity manager) {
         if (manager == null) {
             return null;
@@ -0,0 +1,66 @@
+package org.example.model.archive;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read-only mapping of {@code contact_messages_archive}; rows are moved in with INSERT ... SELECT
+ * by {@link org.example.repository.ContactMessageArchiveRepository}.
+ */
+@Entity
+@Table(name = "contact_messages_archive")
+public class ContactMessageArchiveEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Column(length = 255)
+    private String subject;
+
+    @Column(nullable = false, length = 4000)
+    private String message;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false, updatable = false)
+    private Instant archivedAt;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -3,6 +3,7 @@ package org.example.model.availability;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import java.time.LocalDate;
+import java.util.Objects;
 
 @Embeddable
 public class AvailabilityWindowEmbeddable {
@@ -39,4 +40,22 @@ public class AvailabilityWindowEmbeddable {
     public void setLabel(String label) {
         this.label = label;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof AvailabilityWindowEmbeddable window)) {
+            return false;
+        }
+        return Objects.equals(startDate, window.startDate)
+            && Objects.equals(endDate, window.endDate)
+            && Objects.equals(label, window.label);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startDate, endDate, label);
+    }
 }
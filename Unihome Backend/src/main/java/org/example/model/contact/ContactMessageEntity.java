@@ -1,9 +1,8 @@
 package org.example.model.contact;
 
+import org.example.model.id.UuidV7;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
@@ -15,7 +14,7 @@ import java.util.UUID;
 public class ContactMessageEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(nullable = false)
@@ -1,24 +1,30 @@
 package org.example.model.content;
 
+import org.example.model.id.UuidV7;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import java.time.Instant;
 import java.util.UUID;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
 @Table(name = "about_sections")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "about-sections")
+@NaturalIdCache(region = "about-sections-by-slug")
 public class AboutSectionEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true, length = 120)
     private String slug;
 
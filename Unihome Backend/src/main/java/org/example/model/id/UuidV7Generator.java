@@ -0,0 +1,59 @@
+package org.example.model.id;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * Generates RFC 9562 version 7 UUIDs: a 48-bit Unix millisecond timestamp followed by a 12-bit
+ * counter and 62 random bits. Ids stored as big-endian {@code BINARY(16)} therefore sort by creation
+ * time, and ids created in the same millisecond by this process stay strictly increasing. Existing
+ * version 4 ids are ordinary UUIDs to every reader, so both kinds live side by side.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int COUNTER_BITS = 12;
+    private static final int MAX_COUNTER = (1 << COUNTER_BITS) - 1;
+
+    private static long lastMillis;
+    private static int counter;
+
+    public static UUID next() {
+        long millis;
+        int sequence;
+        synchronized (UuidV7Generator.class) {
+            long now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                // Start low in the counter space so a burst in one millisecond rarely overflows it.
+                counter = RANDOM.nextInt(1 << (COUNTER_BITS - 1));
+            } else if (counter < MAX_COUNTER) {
+                counter++;
+            } else {
+                // Counter exhausted (or the clock moved back): borrow the next millisecond.
+                lastMillis++;
+                counter = 0;
+            }
+            millis = lastMillis;
+            sequence = counter;
+        }
+        long mostSignificant = (millis << 16) | 0x7000L | sequence;
+        long leastSignificant = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
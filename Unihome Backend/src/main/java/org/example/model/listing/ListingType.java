@@ -0,0 +1,7 @@
+package org.example.model.listing;
+
+public enum ListingType {
+    PROPERTY,
+    ROOMMATE_AD,
+    TEMPORARY_STAY
+}
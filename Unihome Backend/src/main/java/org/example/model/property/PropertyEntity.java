@@ -1,6 +1,7 @@
 package org.example.model.property;
 
 import org.example.model.availability.AvailabilityScheduleEmbeddable;
+import org.example.model.id.UuidV7;
 import org.example.model.user.UserEntity;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
@@ -10,17 +11,16 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.UUID;
 
 @Entity
@@ -28,7 +28,7 @@ import java.util.UUID;
 public class PropertyEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(nullable = false)
@@ -47,18 +47,23 @@ public class PropertyEntity {
     @Column(nullable = false)
     private Double area;
 
+    @Column(name = "price_per_sqm", precision = 12, scale = 2, insertable = false, updatable = false)
+    private BigDecimal pricePerSqm;
+
     @Column(nullable = false)
     private Integer rooms;
 
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "property_features", joinColumns = @JoinColumn(name = "property_id"))
-    @Column(name = "feature", length = 100)
-    private List<String> features = new ArrayList<>();
+    @OrderBy
+    @Column(name = "tag_id")
+    private Set<Integer> featureTagIds = new LinkedHashSet<>();
 
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "property_images", joinColumns = @JoinColumn(name = "property_id"))
+    @OrderBy
     @Column(name = "image_url", length = 2000)
-    private List<String> images = new ArrayList<>();
+    private Set<String> images = new LinkedHashSet<>();
 
     @Embedded
     private PropertyBasicsEmbeddable basics;
@@ -85,6 +90,9 @@ public class PropertyEntity {
     @Column(name = "is_published", nullable = false)
     private boolean published = true;
 
+    @Column(name = "unpublished_at")
+    private Instant unpublishedAt;
+
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -143,6 +151,10 @@ public class PropertyEntity {
         this.area = area;
     }
 
+    public BigDecimal getPricePerSqm() {
+        return pricePerSqm;
+    }
+
     public Integer getRooms() {
         return rooms;
     }
@@ -151,19 +163,19 @@ public class PropertyEntity {
         this.rooms = rooms;
     }
 
-    public List<String> getFeatures() {
-        return features;
+    public Set<Integer> getFeatureTagIds() {
+        return featureTagIds;
     }
 
-    public void setFeatures(List<String> features) {
-        this.features = features;
+    public void setFeatureTagIds(Set<Integer> featureTagIds) {
+        this.featureTagIds = featureTagIds;
     }
 
-    public List<String> getImages() {
+    public Set<String> getImages() {
         return images;
     }
 
-    public void setImages(List<String> images) {
+    public void setImages(Set<String> images) {
         this.images = images;
     }
 
@@ -231,6 +243,14 @@ public class PropertyEntity {
         this.published = published;
     }
 
+    public Instant getUnpublishedAt() {
+        return unpublishedAt;
+    }
+
+    public void setUnpublishedAt(Instant unpublishedAt) {
+        this.unpublishedAt = unpublishedAt;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
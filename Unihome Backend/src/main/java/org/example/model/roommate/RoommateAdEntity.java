@@ -1,6 +1,7 @@
 package org.example.model.roommate;
 
 import org.example.model.availability.RoommateAvailabilityScheduleEmbeddable;
+import org.example.model.id.UuidV7;
 import org.example.model.user.UserEntity;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
@@ -10,12 +11,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.OrderColumn;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
@@ -23,7 +23,9 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Entity
@@ -31,7 +33,7 @@ import java.util.UUID;
 public class RoommateAdEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(nullable = false)
@@ -59,35 +61,42 @@ public class RoommateAdEntity {
     @Column(name = "is_published", nullable = false)
     private boolean published = true;
 
+    @Column(name = "unpublished_at")
+    private Instant unpublishedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private UserEntity author;
 
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "roommate_preferences", joinColumns = @JoinColumn(name = "ad_id"))
-    @Column(name = "preference")
-    private List<String> preferences = new ArrayList<>();
+    @OrderBy
+    @Column(name = "tag_id")
+    private Set<Integer> preferenceTagIds = new LinkedHashSet<>();
 
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "roommate_property_features", joinColumns = @JoinColumn(name = "ad_id"))
+    @OrderBy
     @Column(name = "feature")
-    private List<String> propertyFeatures = new ArrayList<>();
+    private Set<String> propertyFeatures = new LinkedHashSet<>();
 
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "roommate_lifestyle", joinColumns = @JoinColumn(name = "ad_id"))
     @OrderColumn(name = "lifestyle_order")
-    @Column(name = "lifestyle_tag")
-    private List<String> lifestyle = new ArrayList<>();
+    @Column(name = "tag_id")
+    private List<Integer> lifestyleTagIds = new ArrayList<>();
 
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "roommate_images", joinColumns = @JoinColumn(name = "ad_id"))
+    @OrderBy
     @Column(name = "image_url", length = 2000)
-    private List<String> images = new ArrayList<>();
+    private Set<String> images = new LinkedHashSet<>();
 
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "roommate_amenities", joinColumns = @JoinColumn(name = "ad_id"))
-    @Column(name = "amenity")
-    private List<String> amenities = new ArrayList<>();
+    @OrderBy
+    @Column(name = "tag_id")
+    private Set<Integer> amenityTagIds = new LinkedHashSet<>();
 
     @Embedded
     private RoommateProfileEmbeddable profile;
@@ -183,6 +192,14 @@ public class RoommateAdEntity {
         this.published = published;
     }
 
+    public Instant getUnpublishedAt() {
+        return unpublishedAt;
+    }
+
+    public void setUnpublishedAt(Instant unpublishedAt) {
+        this.unpublishedAt = unpublishedAt;
+    }
+
     public UserEntity getAuthor() {
         return author;
     }
@@ -191,44 +208,44 @@ public class RoommateAdEntity {
         this.author = author;
     }
 
-    public List<String> getPreferences() {
-        return preferences;
+    public Set<Integer> getPreferenceTagIds() {
+        return preferenceTagIds;
     }
 
-    public void setPreferences(List<String> preferences) {
-        this.preferences = preferences;
+    public void setPreferenceTagIds(Set<Integer> preferenceTagIds) {
+        this.preferenceTagIds = preferenceTagIds;
     }
 
-    public List<String> getPropertyFeatures() {
+    public Set<String> getPropertyFeatures() {
         return propertyFeatures;
     }
 
-    public void setPropertyFeatures(List<String> propertyFeatures) {
+    public void setPropertyFeatures(Set<String> propertyFeatures) {
         this.propertyFeatures = propertyFeatures;
     }
 
-    public List<String> getLifestyle() {
-        return lifestyle;
+    public List<Integer> getLifestyleTagIds() {
+        return lifestyleTagIds;
     }
 
-    public void setLifestyle(List<String> lifestyle) {
-        this.lifestyle = lifestyle;
+    public void setLifestyleTagIds(List<Integer> lifestyleTagIds) {
+        this.lifestyleTagIds = lifestyleTagIds;
     }
 
-    public List<String> getImages() {
+    public Set<String> getImages() {
         return images;
     }
 
-    public void setImages(List<String> images) {
+    public void setImages(Set<String> images) {
         this.images = images;
     }
 
-    public List<String> getAmenities() {
-        return amenities;
+    public Set<Integer> getAmenityTagIds() {
+        return amenityTagIds;
     }
 
-    public void setAmenities(List<String> amenities) {
-        this.amenities = amenities;
+    public void setAmenityTagIds(Set<Integer> amenityTagIds) {
+        this.amenityTagIds = amenityTagIds;
     }
 
     public RoommateProfileEmbeddable getProfile() {
@@ -9,6 +9,9 @@ public class RoommateLocationEmbeddable {
     @Column(name = "location_city")
     private String city;
 
+    @Column(name = "location_city_key", length = 240)
+    private String cityKey;
+
     @Column(name = "location_area")
     private String area;
 
@@ -23,6 +26,14 @@ public class RoommateLocationEmbeddable {
         this.city = city;
     }
 
+    public String getCityKey() {
+        return cityKey;
+    }
+
+    public void setCityKey(String cityKey) {
+        this.cityKey = cityKey;
+    }
+
     public String getArea() {
         return area;
     }
@@ -0,0 +1,108 @@
+package org.example.model.search;
+
+import org.example.model.id.UuidV7;
+import org.example.model.listing.ListingType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "saved_search_matches")
+public class SavedSearchMatchEntity {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "saved_search_id", nullable = false)
+    private SavedSearchEntity savedSearch;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "listing_type", nullable = false, length = 30)
+    private ListingType listingType;
+
+    @Column(name = "listing_id", nullable = false)
+    private UUID listingId;
+
+    @Column(name = "listing_title", nullable = false)
+    private String listingTitle;
+
+    @Column(name = "matched_at", nullable = false, updatable = false)
+    private Instant matchedAt;
+
+    @Column(name = "notified_at")
+    private Instant notifiedAt;
+
+    @PrePersist
+    void onCreate() {
+        if (matchedAt == null) {
+            matchedAt = Instant.now();
+        }
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public SavedSearchEntity getSavedSearch() {
+        return savedSearch;
+    }
+
+    public void setSavedSearch(SavedSearchEntity savedSearch) {
+        this.savedSearch = savedSearch;
+    }
+
+    public ListingType getListingType() {
+        return listingType;
+    }
+
+    public void setListingType(ListingType listingType) {
+        this.listingType = listingType;
+    }
+
+    public UUID getListingId() {
+        return listingId;
+    }
+
+    public void setListingId(UUID listingId) {
+        this.listingId = listingId;
+    }
+
+    public String getListingTitle() {
+        return listingTitle;
+    }
+
+    public void setListingTitle(String listingTitle) {
+        this.listingTitle = listingTitle;
+    }
+
+    public Instant getMatchedAt() {
+        return matchedAt;
+    }
+
+    public void setMatchedAt(Instant matchedAt) {
+        this.matchedAt = matchedAt;
+    }
+
+    public Instant getNotifiedAt() {
+        return notifiedAt;
+    }
+
+    public void setNotifiedAt(Instant notifiedAt) {
+        this.notifiedAt = notifiedAt;
+    }
+}
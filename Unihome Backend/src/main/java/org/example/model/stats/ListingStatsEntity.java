@@ -0,0 +1,84 @@
+package org.example.model.stats;
+
+import org.example.model.listing.ListingType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "listing_stats")
+public class ListingStatsEntity {
+
+    @Id
+    @Column(name = "listing_id")
+    private UUID listingId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "listing_type", nullable = false, length = 30)
+    private ListingType listingType;
+
+    @Column(nullable = false)
+    private long views;
+
+    @Column(name = "unique_viewers", nullable = false)
+    private long uniqueViewers;
+
+    @Column(name = "viewer_sketch", nullable = false, length = 1024)
+    private byte[] viewerSketch;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    public UUID getListingId() {
+        return listingId;
+    }
+
+    public void setListingId(UUID listingId) {
+        this.listingId = listingId;
+    }
+
+    public ListingType getListingType() {
+        return listingType;
+    }
+
+    public void setListingType(ListingType listingType) {
+        this.listingType = listingType;
+    }
+
+    public long getViews() {
+        return views;
+    }
+
+    public void setViews(long views) {
+        this.views = views;
+    }
+
+    public long getUniqueViewers() {
+        return uniqueViewers;
+    }
+
+    public void setUniqueViewers(long uniqueViewers) {
+        this.uniqueViewers = uniqueViewers;
+    }
+
+    public byte[] getViewerSketch() {
+        return viewerSketch;
+    }
+
+    public void setViewerSketch(byte[] viewerSketch) {
+        this.viewerSketch = viewerSketch;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.model.temporary;
 
 import org.example.model.availability.TemporaryAvailabilityScheduleEmbeddable;
+import org.example.model.id.UuidV7;
 import org.example.model.user.UserEntity;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
@@ -10,17 +11,16 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.UUID;
 
 @Entity
@@ -28,7 +28,7 @@ import java.util.UUID;
 public class TemporaryStayEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(nullable = false)
@@ -66,24 +66,29 @@ public class TemporaryStayEntity {
 
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "temporary_stay_amenities", joinColumns = @JoinColumn(name = "stay_id"))
-    @Column(name = "amenity")
-    private List<String> amenities = new ArrayList<>();
+    @OrderBy
+    @Column(name = "tag_id")
+    private Set<Integer> amenityTagIds = new LinkedHashSet<>();
 
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "temporary_stay_images", joinColumns = @JoinColumn(name = "stay_id"))
+    @OrderBy
     @Column(name = "image_url", length = 2000)
-    private List<String> images = new ArrayList<>();
+    private Set<String> images = new LinkedHashSet<>();
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "manager_id", nullable = false)
     private UserEntity manager;
 
-    @Column(name = "linked_property_id")
+    @Column(name = "linked_property_id", unique = true)
     private UUID linkedPropertyId;
 
     @Column(name = "is_published", nullable = false)
     private boolean published = true;
 
+    @Column(name = "unpublished_at")
+    private Instant unpublishedAt;
+
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -182,19 +187,19 @@ public class TemporaryStayEntity {
         this.availability = availability;
     }
 
-    public List<String> getAmenities() {
-        return amenities;
+    public Set<Integer> getAmenityTagIds() {
+        return amenityTagIds;
     }
 
-    public void setAmenities(List<String> amenities) {
-        this.amenities = amenities;
+    public void setAmenityTagIds(Set<Integer> amenityTagIds) {
+        this.amenityTagIds = amenityTagIds;
     }
 
-    public List<String> getImages() {
+    public Set<String> getImages() {
         return images;
     }
 
-    public void setImages(List<String> images) {
+    public void setImages(Set<String> images) {
         this.images = images;
     }
 
@@ -222,6 +227,14 @@ public class TemporaryStayEntity {
         this.published = published;
     }
 
+    public Instant getUnpublishedAt() {
+        return unpublishedAt;
+    }
+
+    public void setUnpublishedAt(Instant unpublishedAt) {
+        this.unpublishedAt = unpublishedAt;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
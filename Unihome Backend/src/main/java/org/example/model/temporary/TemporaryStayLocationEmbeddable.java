@@ -12,6 +12,9 @@ public class TemporaryStayLocationEmbeddable {
     @Column(name = "city", length = 120)
     private String city;
 
+    @Column(name = "city_key", length = 240)
+    private String cityKey;
+
     @Column(name = "postal_code", length = 20)
     private String postalCode;
 
@@ -37,6 +40,14 @@ public class TemporaryStayLocationEmbeddable {
         this.city = city;
     }
 
+    public String getCityKey() {
+        return cityKey;
+    }
+
+    public void setCityKey(String cityKey) {
+        this.cityKey = cityKey;
+    }
+
     public String getPostalCode() {
         return postalCode;
     }
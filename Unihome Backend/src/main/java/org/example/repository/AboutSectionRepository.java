@@ -1,12 +1,16 @@
 package org.example.repository;
 
 import org.example.model.content.AboutSectionEntity;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface AboutSectionRepository extends JpaRepository<AboutSectionEntity, UUID> {
     Optional<AboutSectionEntity> findBySlug(String slug);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<AboutSectionEntity> findAllByPublishedIsTrueOrderByOrderIndexAsc();
 }
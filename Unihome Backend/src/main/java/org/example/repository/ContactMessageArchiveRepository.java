@@ -0,0 +1,18 @@
+package org.example.repository;
+
+import org.example.model.archive.ContactMessageArchiveEntity;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ContactMessageArchiveRepository extends JpaRepository<ContactMessageArchiveEntity, UUID> {
+
+    @Modifying
+    @Query("insert into ContactMessageArchiveEntity (id, name, email, subject, message, createdAt, archivedAt) "
+        + "select m.id, m.name, m.email, m.subject, m.message, m.createdAt, :archivedAt from ContactMessageEntity m where m.id in :ids")
+    int copyFrom(@Param("ids") Collection<UUID> ids, @Param("archivedAt") Instant archivedAt);
+}
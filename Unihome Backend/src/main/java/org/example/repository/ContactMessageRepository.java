@@ -1,11 +1,18 @@
 package org.example.repository;
 
 import org.example.model.contact.ContactMessageEntity;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ContactMessageRepository extends JpaRepository<ContactMessageEntity, UUID> {
     Page<ContactMessageEntity> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    @Query("select m.id from ContactMessageEntity m where m.createdAt < :cutoff order by m.createdAt")
+    List<UUID> findIdsCreatedBefore(@Param("cutoff") Instant cutoff, Pageable pageable);
 }
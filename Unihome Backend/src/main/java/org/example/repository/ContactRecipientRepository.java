@@ -1,10 +1,14 @@
 package org.example.repository;
 
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
 import java.util.UUID;
 import org.example.model.contact.ContactRecipientEntity;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface ContactRecipientRepository extends JpaRepository<ContactRecipientEntity, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ContactRecipientEntity> findFirstByActiveTrueOrderByCreatedAtDesc();
 }
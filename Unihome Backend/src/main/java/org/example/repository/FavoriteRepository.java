@@ -2,13 +2,39 @@ package org.example.repository;
 
 import org.example.model.favorite.FavoriteEntity;
 import org.example.model.favorite.FavoriteType;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FavoriteRepository extends JpaRepository<FavoriteEntity, UUID> {
     List<FavoriteEntity> findByUserId(UUID userId);
     List<FavoriteEntity> findByUserIdAndType(UUID userId, FavoriteType type);
     Optional<FavoriteEntity> findByUserIdAndTypeAndTargetId(UUID userId, FavoriteType type, UUID targetId);
+
+    @Query("select f.type, f.targetId from FavoriteEntity f where f.user.id = :userId")
+    List<Object[]> findTargetsByUserId(@Param("userId") UUID userId);
+
+    @Query("select f.type, f.targetId from FavoriteEntity f where f.user.id = :userId and (:type is null or f.type = :type) "
+        + "order by f.createdAt desc, f.id desc")
+    List<Object[]> findTargetsNewestFirst(@Param("userId") UUID userId, @Param("type") FavoriteType type);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO favorites (id, user_id, type, target_id, created_at) "
+        + "VALUES (:id, :userId, :type, :targetId, :createdAt)", nativeQuery = true)
+    int insertIfAbsent(
+        @Param("id") UUID id,
+        @Param("userId") UUID userId,
+        @Param("type") String type,
+        @Param("targetId") UUID targetId,
+        @Param("createdAt") Instant createdAt
+    );
+
+    @Modifying
+    @Query("delete from FavoriteEntity f where f.user.id = :userId and f.type = :type and f.targetId = :targetId")
+    int deleteTarget(@Param("userId") UUID userId, @Param("type") FavoriteType type, @Param("targetId") UUID targetId);
 }
@@ -2,11 +2,17 @@ package org.example.repository;
 
 import org.example.model.content.HomeHighlightEntity;
 import org.example.model.content.HomeHighlightType;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface HomeHighlightRepository extends JpaRepository<HomeHighlightEntity, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<HomeHighlightEntity> findByPublishedIsTrueOrderByPriorityAsc();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<HomeHighlightEntity> findByTypeAndPublishedIsTrueOrderByPriorityAsc(HomeHighlightType type);
 }
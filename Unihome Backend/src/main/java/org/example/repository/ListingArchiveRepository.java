@@ -0,0 +1,10 @@
+package org.example.repository;
+
+import org.example.model.archive.ListingArchiveEntity;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ListingArchiveRepository extends JpaRepository<ListingArchiveEntity, UUID> {
+    List<ListingArchiveEntity> findByOwnerIdOrderByArchivedAtDesc(UUID ownerId);
+}
@@ -0,0 +1,8 @@
+package org.example.repository;
+
+import org.example.model.stats.ListingStatsEntity;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ListingStatsRepository extends JpaRepository<ListingStatsEntity, UUID> {
+}
@@ -0,0 +1,30 @@
+package org.example.repository;
+
+import jakarta.persistence.EntityManager;
+import java.util.Optional;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Loads entities by their {@code @NaturalId} through Hibernate's natural-id API, which consults the
+ * natural-id and entity second-level cache regions before querying. Derived {@code findByXxx}
+ * queries always hit the database.
+ */
+@Repository
+public class NaturalIdLookup {
+
+    private final EntityManager entityManager;
+
+    public NaturalIdLookup(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Transactional(readOnly = true)
+    public <T> Optional<T> find(Class<T> type, Object naturalId) {
+        if (naturalId == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(type).loadOptional(naturalId);
+    }
+}
@@ -1,12 +1,17 @@
 package org.example.repository;
 
 import org.example.model.property.PropertyEntity;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PropertyRepository extends JpaRepository<PropertyEntity, UUID>, JpaSpecificationExecutor<PropertyEntity> {
     List<PropertyEntity> findTop6ByOrderByCreatedAtDesc();
@@ -14,4 +19,48 @@ public interface PropertyRepository extends JpaRepository<PropertyEntity, UUID>,
     Page<PropertyEntity> findByPublishedTrue(Pageable pageable);
 
     List<PropertyEntity> findAllByOwnerIdOrderByCreatedAtDesc(UUID ownerId);
+
+    @Query("select p.id, p.location.city from PropertyEntity p where p.published = true")
+    List<Object[]> findPublishedCities();
+
+    @Query("select p.id, tagId from PropertyEntity p join p.featureTagIds tagId")
+    List<Object[]> findAllFeaturePairs();
+
+    @Query("select p.id, p.location.cityKey, p.location.latitude, p.location.longitude, p.price, p.area, p.rooms, p.type "
+        + "from PropertyEntity p where p.published = true")
+    List<Object[]> findSimilarityRows();
+
+    @Query("select p.id, p.title, p.location.city, p.price, p.createdAt, min(image) from PropertyEntity p left join p.images image "
+        + "where p.id in :ids and p.published = true group by p.id, p.title, p.location.city, p.price, p.createdAt")
+    List<Object[]> findCardRows(@Param("ids") Collection<UUID> ids);
+
+    @Query("select p.id, p.location.city, p.location.cityKey from PropertyEntity p where p.location.city is not null")
+    List<Object[]> findCityKeys();
+
+    @Modifying
+    @Query("update PropertyEntity p set p.location.cityKey = :cityKey where p.id = :id")
+    int updateCityKey(@Param("id") UUID id, @Param("cityKey") String cityKey);
+
+    @Modifying
+    @Query("update PropertyEntity p set p.hospitalityListingId = :stayId where p.id = :id")
+    int updateHospitalityListingId(@Param("id") UUID id, @Param("stayId") UUID stayId);
+
+    @Query("select p.id from PropertyEntity p where p.hospitalityOptIn = true and (p.hospitalityListingId is null "
+        + "or not exists (select s.id from TemporaryStayEntity s where s.linkedPropertyId = p.id and s.id = p.hospitalityListingId))")
+    List<UUID> findHospitalityIdsWithoutStay();
+
+    @Query("select p.id from PropertyEntity p where p.id in :ids and p.hospitalityOptIn = true")
+    List<UUID> findHospitalityOptInIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("select p.id from PropertyEntity p where p.id in :ids and p.published = true")
+    List<UUID> findPublishedIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("select p.id from PropertyEntity p where p.published = true and p.id > :after order by p.id")
+    List<UUID> findPublishedIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+    List<PropertyEntity> findByPublishedFalseAndUnpublishedAtBefore(Instant cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("update PropertyEntity p set p.unpublishedAt = :now where p.published = false and p.unpublishedAt is null")
+    int startUnpublishedClock(@Param("now") Instant now);
 }
@@ -1,16 +1,64 @@
 package org.example.repository;
 
 import org.example.model.roommate.RoommateAdEntity;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface RoommateAdRepository extends JpaRepository<RoommateAdEntity, UUID>, JpaSpecificationExecutor<RoommateAdEntity> {
     Page<RoommateAdEntity> findByAuthorId(UUID authorId, Pageable pageable);
     List<RoommateAdEntity> findByAuthorIdOrderByCreatedAtDesc(UUID authorId);
+    Optional<RoommateAdEntity> findFirstByAuthorIdOrderByCreatedAtDesc(UUID authorId);
     List<RoommateAdEntity> findTop6ByOrderByCreatedAtDesc();
     List<RoommateAdEntity> findTop6ByPublishedTrueOrderByCreatedAtDesc();
+
+    @Query("select a.id, tagId from RoommateAdEntity a join a.amenityTagIds tagId")
+    List<Object[]> findAllAmenityPairs();
+
+    @Query("select a.id, tagId from RoommateAdEntity a join a.lifestyleTagIds tagId")
+    List<Object[]> findAllLifestylePairs();
+
+    @Query("select a.id, tagId from RoommateAdEntity a join a.preferenceTagIds tagId")
+    List<Object[]> findAllPreferencePairs();
+
+    @Query("select a.id, a.author.id, a.location.cityKey, a.monthlyRent, a.availableFrom, a.profile.age, a.profile.university, a.profile.student "
+        + "from RoommateAdEntity a where a.published = true")
+    List<Object[]> findCompatibilityRows();
+
+    @Query("select a.id, a.title, coalesce(a.location.city, a.propertyLocation), a.monthlyRent, a.createdAt, min(image), "
+        + "(select avg(r.score) from RoommateRatingEntity r where r.ad = a), (select count(r) from RoommateRatingEntity r where r.ad = a) "
+        + "from RoommateAdEntity a left join a.images image "
+        + "where a.id in :ids and a.published = true group by a.id, a.title, a.location.city, a.propertyLocation, a.monthlyRent, a.createdAt")
+    List<Object[]> findCardRows(@Param("ids") Collection<UUID> ids);
+
+    @Query("select a.id, a.location.city, a.location.area from RoommateAdEntity a where a.published = true")
+    List<Object[]> findPublishedLocations();
+
+    @Query("select a.id, a.location.city, a.location.cityKey from RoommateAdEntity a where a.location.city is not null")
+    List<Object[]> findCityKeys();
+
+    @Modifying
+    @Query("update RoommateAdEntity a set a.location.cityKey = :cityKey where a.id = :id")
+    int updateCityKey(@Param("id") UUID id, @Param("cityKey") String cityKey);
+
+    @Query("select r.id from RoommateAdEntity r where r.id in :ids and r.published = true")
+    List<UUID> findPublishedIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("select r.id from RoommateAdEntity r where r.published = true and r.id > :after order by r.id")
+    List<UUID> findPublishedIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+    List<RoommateAdEntity> findByPublishedFalseAndUnpublishedAtBefore(Instant cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("update RoommateAdEntity r set r.unpublishedAt = :now where r.published = false and r.unpublishedAt is null")
+    int startUnpublishedClock(@Param("now") Instant now);
 }
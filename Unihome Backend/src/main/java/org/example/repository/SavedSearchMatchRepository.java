@@ -0,0 +1,21 @@
+package org.example.repository;
+
+import org.example.model.search.SavedSearchMatchEntity;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SavedSearchMatchRepository extends JpaRepository<SavedSearchMatchEntity, UUID> {
+    List<SavedSearchMatchEntity> findBySavedSearchIdOrderByMatchedAtDesc(UUID savedSearchId, Pageable pageable);
+
+    long countBySavedSearchIdAndNotifiedAtIsNull(UUID savedSearchId);
+
+    @Query("select distinct s.user.id from SavedSearchMatchEntity m join m.savedSearch s where m.notifiedAt is null")
+    List<UUID> findUserIdsWithPendingMatches();
+
+    @Query("select m from SavedSearchMatchEntity m join fetch m.savedSearch s where s.user.id = :userId and m.notifiedAt is null order by s.name, m.matchedAt")
+    List<SavedSearchMatchEntity> findPendingForUser(@Param("userId") UUID userId);
+}
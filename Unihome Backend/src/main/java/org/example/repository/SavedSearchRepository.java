@@ -0,0 +1,17 @@
+package org.example.repository;
+
+import org.example.model.search.SavedSearchEntity;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface SavedSearchRepository extends JpaRepository<SavedSearchEntity, UUID> {
+    List<SavedSearchEntity> findByUserIdOrderByCreatedAtDesc(UUID userId);
+    Optional<SavedSearchEntity> findByIdAndUserId(UUID id, UUID userId);
+    long countByUserId(UUID userId);
+
+    @Query("select s.id from SavedSearchEntity s")
+    List<UUID> findAllIds();
+}
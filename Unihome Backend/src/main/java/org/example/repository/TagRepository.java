@@ -0,0 +1,17 @@
+package org.example.repository;
+
+import org.example.model.tag.TagEntity;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TagRepository extends JpaRepository<TagEntity, Integer> {
+    List<TagEntity> findByCanonicalIn(Collection<String> canonicals);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO tags (canonical, label) VALUES (:canonical, :label)", nativeQuery = true)
+    int insertIfAbsent(@Param("canonical") String canonical, @Param("label") String label);
+}
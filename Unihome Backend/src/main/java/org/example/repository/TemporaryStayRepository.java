@@ -1,10 +1,16 @@
 package org.example.repository;
 
 import org.example.model.temporary.TemporaryStayEntity;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -14,4 +20,46 @@ public interface TemporaryStayRepository extends JpaRepository<TemporaryStayEnti
     Page<TemporaryStayEntity> findByPublishedTrue(Pageable pageable);
 
     List<TemporaryStayEntity> findAllByManagerIdOrderByCreatedAtDesc(UUID managerId);
+
+    Optional<TemporaryStayEntity> findByLinkedPropertyId(UUID linkedPropertyId);
+
+    @Query("select s.linkedPropertyId from TemporaryStayEntity s where s.linkedPropertyId is not null and not exists "
+        + "(select p.id from PropertyEntity p where p.id = s.linkedPropertyId and p.hospitalityOptIn = true)")
+    List<UUID> findOrphanedLinkedPropertyIds();
+
+    @Query("select s.id, tagId from TemporaryStayEntity s join s.amenityTagIds tagId")
+    List<Object[]> findAllAmenityPairs();
+
+    @Query("select s.id, s.location.city from TemporaryStayEntity s where s.published = true")
+    List<Object[]> findPublishedCities();
+
+    @Query("select s.id, s.minNights, w.startDate, w.endDate from TemporaryStayEntity s left join s.availability.unavailable w")
+    List<Object[]> findAvailabilityRows();
+
+    @Query("select s.id, s.location.cityKey, s.location.latitude, s.location.longitude, s.pricePerNight, s.type "
+        + "from TemporaryStayEntity s where s.published = true")
+    List<Object[]> findSimilarityRows();
+
+    @Query("select s.id, s.title, s.location.city, s.pricePerNight, s.createdAt, min(image) from TemporaryStayEntity s left join s.images image "
+        + "where s.id in :ids and s.published = true group by s.id, s.title, s.location.city, s.pricePerNight, s.createdAt")
+    List<Object[]> findCardRows(@Param("ids") Collection<UUID> ids);
+
+    @Query("select s.id, s.location.city, s.location.cityKey from TemporaryStayEntity s where s.location.city is not null")
+    List<Object[]> findCityKeys();
+
+    @Modifying
+    @Query("update TemporaryStayEntity s set s.location.cityKey = :cityKey where s.id = :id")
+    int updateCityKey(@Param("id") UUID id, @Param("cityKey") String cityKey);
+
+    @Query("select s.id from TemporaryStayEntity s where s.id in :ids and s.published = true")
+    List<UUID> findPublishedIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("select s.id from TemporaryStayEntity s where s.published = true and s.id > :after order by s.id")
+    List<UUID> findPublishedIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+    List<TemporaryStayEntity> findByPublishedFalseAndUnpublishedAtBefore(Instant cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("update TemporaryStayEntity s set s.unpublishedAt = :now where s.published = false and s.unpublishedAt is null")
+    int startUnpublishedClock(@Param("now") Instant now);
 }
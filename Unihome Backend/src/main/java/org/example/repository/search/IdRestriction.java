@@ -0,0 +1,51 @@
+package org.example.repository.search;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Ids an in-memory index resolved for a search: either the only ids the search may return, or the
+ * ids it must leave out when that is the smaller set. An empty exclusion restricts nothing, so a
+ * search the index does not narrow runs exactly the statements of an unfiltered one.
+ */
+public final class IdRestriction {
+
+    private final Set<UUID> ids;
+    private final boolean excluded;
+
+    private IdRestriction(Set<UUID> ids, boolean excluded) {
+        this.ids = ids;
+        this.excluded = excluded;
+    }
+
+    public static IdRestriction only(Set<UUID> ids) {
+        return new IdRestriction(ids, false);
+    }
+
+    public static IdRestriction except(Set<UUID> ids) {
+        return new IdRestriction(ids, true);
+    }
+
+    /**
+     * The candidates this restriction lets through, as an inclusive restriction.
+     */
+    public IdRestriction retain(Collection<UUID> candidates) {
+        Set<UUID> retained = new HashSet<>(candidates);
+        if (excluded) {
+            retained.removeAll(ids);
+        } else {
+            retained.retainAll(ids);
+        }
+        return only(retained);
+    }
+
+    public Set<UUID> getIds() {
+        return ids;
+    }
+
+    public boolean isExcluded() {
+        return excluded;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.repository.search;
+
+import org.example.dto.property.PropertySearchCriteria;
+import org.example.dto.roommate.RoommateSearchCriteria;
+import org.example.dto.temporary.TemporaryStaySearchCriteria;
+import org.example.model.property.PropertyEntity;
+import org.example.model.roommate.RoommateAdEntity;
+import org.example.model.temporary.TemporaryStayEntity;
+import java.util.Collection;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Executes the filter part of the listing searches. {@code restrictTo} and {@code restriction},
+ * when not null, narrow the result to ids already resolved by an in-memory index (tags,
+ * availability); above {@code unihome.search.max-restricted-ids} the engine applies those filters
+ * in SQL instead of binding the ids. The {@code ...Ids}
+ * variants return only the matching ids, for callers that project their own columns.
+ * Selected with {@code unihome.search.engine}.
+ */
+public interface ListingSearchEngine {
+
+    Page<PropertyEntity> findProperties(PropertySearchCriteria criteria, Pageable pageable);
+
+    Page<RoommateAdEntity> findRoommates(RoommateSearchCriteria criteria, Collection<UUID> restrictTo, Pageable pageable);
+
+    Page<TemporaryStayEntity> findTemporaryStays(TemporaryStaySearchCriteria criteria, IdRestriction restriction, Pageable pageable);
+
+    Page<UUID> findPropertyIds(PropertySearchCriteria criteria, Pageable pageable);
+
+    Page<UUID> findRoommateIds(RoommateSearchCriteria criteria, Collection<UUID> restrictTo, Pageable pageable);
+
+    Page<UUID> findTemporaryStayIds(TemporaryStaySearchCriteria criteria, IdRestriction restriction, Pageable pageable);
+}
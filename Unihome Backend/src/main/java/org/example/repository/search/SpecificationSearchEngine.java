@@ -0,0 +1,155 @@
+package org.example.repository.search;
+
+import org.example.dto.common.TagMatchMode;
+import org.example.dto.property.PropertySearchCriteria;
+import org.example.dto.roommate.RoommateSearchCriteria;
+import org.example.dto.temporary.TemporaryStaySearchCriteria;
+import org.example.model.property.PropertyEntity;
+import org.example.model.roommate.RoommateAdEntity;
+import org.example.model.temporary.TemporaryStayEntity;
+import org.example.repository.PropertyRepository;
+import org.example.repository.RoommateAdRepository;
+import org.example.repository.TemporaryStayRepository;
+import org.example.repository.specification.PropertySpecifications;
+import org.example.repository.specification.RoommateSpecifications;
+import org.example.repository.specification.TagSpecifications;
+import org.example.repository.specification.TemporaryStaySpecifications;
+import org.example.search.TagDictionary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "unihome.search.engine", havingValue = "specification", matchIfMissing = true)
+public class SpecificationSearchEngine implements ListingSearchEngine {
+
+    private final PropertyRepository propertyRepository;
+    private final RoommateAdRepository roommateAdRepository;
+    private final TemporaryStayRepository temporaryStayRepository;
+    private final EntityManager entityManager;
+    private final TagDictionary tagDictionary;
+
+    @Value("${unihome.search.max-restricted-ids:512}")
+    private int maxRestrictedIds;
+
+    public SpecificationSearchEngine(
+        PropertyRepository propertyRepository,
+        RoommateAdRepository roommateAdRepository,
+        TemporaryStayRepository temporaryStayRepository,
+        EntityManager entityManager,
+        TagDictionary tagDictionary
+    ) {
+        this.propertyRepository = propertyRepository;
+        this.roommateAdRepository = roommateAdRepository;
+        this.temporaryStayRepository = temporaryStayRepository;
+        this.entityManager = entityManager;
+        this.tagDictionary = tagDictionary;
+    }
+
+    @Override
+    public Page<PropertyEntity> findProperties(PropertySearchCriteria criteria, Pageable pageable) {
+        return propertyRepository.findAll(PropertySpecifications.fromCriteria(criteria), pageable);
+    }
+
+    @Override
+    public Page<RoommateAdEntity> findRoommates(RoommateSearchCriteria criteria, Collection<UUID> restrictTo, Pageable pageable) {
+        return roommateAdRepository.findAll(roommateSpecification(criteria, restrictTo), pageable);
+    }
+
+    @Override
+    public Page<TemporaryStayEntity> findTemporaryStays(TemporaryStaySearchCriteria criteria, IdRestriction restriction, Pageable pageable) {
+        return temporaryStayRepository.findAll(temporaryStaySpecification(criteria, restriction), pageable);
+    }
+
+    @Override
+    public Page<UUID> findPropertyIds(PropertySearchCriteria criteria, Pageable pageable) {
+        return findIds(PropertyEntity.class, PropertySpecifications.fromCriteria(criteria), pageable);
+    }
+
+    @Override
+    public Page<UUID> findRoommateIds(RoommateSearchCriteria criteria, Collection<UUID> restrictTo, Pageable pageable) {
+        return findIds(RoommateAdEntity.class, roommateSpecification(criteria, restrictTo), pageable);
+    }
+
+    @Override
+    public Page<UUID> findTemporaryStayIds(TemporaryStaySearchCriteria criteria, IdRestriction restriction, Pageable pageable) {
+        return findIds(TemporaryStayEntity.class, temporaryStaySpecification(criteria, restriction), pageable);
+    }
+
+    private Specification<RoommateAdEntity> roommateSpecification(RoommateSearchCriteria criteria, Collection<UUID> restrictTo) {
+        Specification<RoommateAdEntity> specification = RoommateSpecifications.fromCriteria(criteria);
+        if (bindable(restrictTo)) {
+            return specification.and(RoommateSpecifications.idIn(restrictTo));
+        }
+        if (criteria != null) {
+            specification = withTags(specification, "amenityTagIds", criteria.getAmenities(), criteria.getAmenityMatch());
+            specification = withTags(specification, "lifestyleTagIds", criteria.getInterests(), criteria.getInterestMatch());
+        }
+        return specification;
+    }
+
+    private Specification<TemporaryStayEntity> temporaryStaySpecification(TemporaryStaySearchCriteria criteria, IdRestriction restriction) {
+        Specification<TemporaryStayEntity> specification = TemporaryStaySpecifications.fromCriteria(criteria);
+        if (restriction != null && bindable(restriction.getIds())) {
+            if (!restriction.isExcluded()) {
+                return specification.and(TemporaryStaySpecifications.idIn(restriction.getIds()));
+            }
+            return restriction.getIds().isEmpty() ? specification : specification.and(TemporaryStaySpecifications.idNotIn(restriction.getIds()));
+        }
+        if (criteria != null) {
+            specification = withTags(specification, "amenityTagIds", criteria.getAmenities(), criteria.getAmenityMatch());
+            if (criteria.getCheckIn() != null && criteria.getCheckOut() != null) {
+                specification = specification.and(TemporaryStaySpecifications.freeBetween(criteria.getCheckIn(), criteria.getCheckOut()));
+            }
+        }
+        return specification;
+    }
+
+    /**
+     * Index results up to {@code unihome.search.max-restricted-ids} are bound as an id list; larger
+     * ones would turn into an unbounded {@code IN} on both the page and the count query, so the
+     * filters they stand for are evaluated by the database instead.
+     */
+    private boolean bindable(Collection<UUID> restrictTo) {
+        return restrictTo != null && restrictTo.size() <= maxRestrictedIds;
+    }
+
+    private <T> Specification<T> withTags(Specification<T> specification, String attribute, Collection<String> labels, TagMatchMode mode) {
+        if (labels == null || labels.stream().allMatch(label -> label == null || label.isBlank())) {
+            return specification;
+        }
+        List<Integer> tagIds = tagDictionary.lookupIds(labels);
+        return specification.and(TagSpecifications.tagsMatch(attribute, tagIds, mode != null ? mode : TagMatchMode.ALL));
+    }
+
+    private <T> Page<UUID> findIds(Class<T> type, Specification<T> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UUID> query = cb.createQuery(UUID.class);
+        Root<T> root = query.from(type);
+        query.select(root.get("id"))
+            .where(specification.toPredicate(root, query, cb))
+            .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        List<UUID> ids = entityManager.createQuery(query)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList();
+        return PageableExecutionUtils.getPage(ids, pageable, () -> {
+            CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+            Root<T> countRoot = countQuery.from(type);
+            countQuery.select(cb.count(countRoot)).where(specification.toPredicate(countRoot, countQuery, cb));
+            return entityManager.createQuery(countQuery).getSingleResult();
+        });
+    }
+}
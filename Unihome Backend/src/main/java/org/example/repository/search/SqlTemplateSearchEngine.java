@@ -0,0 +1,392 @@
+package org.example.repository.search;
+
+import org.example.dto.common.TagMatchMode;
+import org.example.dto.property.PropertySearchCriteria;
+import org.example.dto.roommate.RoommateSearchCriteria;
+import org.example.dto.temporary.TemporaryStaySearchCriteria;
+import org.example.model.property.PropertyEntity;
+import org.example.model.roommate.RoommateAdEntity;
+import org.example.model.temporary.TemporaryStayEntity;
+import org.example.repository.PropertyRepository;
+import org.example.repository.RoommateAdRepository;
+import org.example.repository.TemporaryStayRepository;
+import org.example.search.CityKeys;
+import org.example.search.TagDictionary;
+import java.nio.ByteBuffer;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Search engine that resolves a page of ids with native SQL and then hydrates the entities by
+ * primary key. Every combination of present filters (a bitmask) plus sort order maps to one SQL
+ * string that is built once and reused, so the driver and server see a small, stable set of
+ * statements instead of a freshly translated Criteria query per request. Lists bound to
+ * {@code IN} are padded to a power of two, since the driver expands them into one placeholder
+ * per value and every other length would be another statement.
+ */
+@Component
+@ConditionalOnProperty(name = "unihome.search.engine", havingValue = "sql")
+public class SqlTemplateSearchEngine implements ListingSearchEngine {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PropertyRepository propertyRepository;
+    private final RoommateAdRepository roommateAdRepository;
+    private final TemporaryStayRepository temporaryStayRepository;
+    private final TagDictionary tagDictionary;
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+    @Value("${unihome.search.max-restricted-ids:512}")
+    private int maxRestrictedIds;
+
+    public SqlTemplateSearchEngine(
+        NamedParameterJdbcTemplate jdbcTemplate,
+        PropertyRepository propertyRepository,
+        RoommateAdRepository roommateAdRepository,
+        TemporaryStayRepository temporaryStayRepository,
+        TagDictionary tagDictionary
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.propertyRepository = propertyRepository;
+        this.roommateAdRepository = roommateAdRepository;
+        this.temporaryStayRepository = temporaryStayRepository;
+        this.tagDictionary = tagDictionary;
+    }
+
+    @Override
+    public Page<PropertyEntity> findProperties(PropertySearchCriteria criteria, Pageable pageable) {
+        return execute(propertyShape(criteria), pageable, propertyRepository, PropertyEntity::getId);
+    }
+
+    @Override
+    public Page<RoommateAdEntity> findRoommates(RoommateSearchCriteria criteria, Collection<UUID> restrictTo, Pageable pageable) {
+        Shape shape = roommateShape(criteria, restrictTo);
+        return shape.none ? Page.empty(pageable) : execute(shape, pageable, roommateAdRepository, RoommateAdEntity::getId);
+    }
+
+    @Override
+    public Page<TemporaryStayEntity> findTemporaryStays(TemporaryStaySearchCriteria criteria, IdRestriction restriction, Pageable pageable) {
+        Shape shape = temporaryStayShape(criteria, restriction);
+        return shape.none ? Page.empty(pageable) : execute(shape, pageable, temporaryStayRepository, TemporaryStayEntity::getId);
+    }
+
+    private Shape propertyShape(PropertySearchCriteria criteria) {
+        Shape shape = new Shape(Table.PROPERTIES);
+        if (criteria != null) {
+            if (criteria.getTypes() != null && !criteria.getTypes().isEmpty()) {
+                shape.add("types", padded(criteria.getTypes().stream().map(Enum::name).distinct().toList()));
+            }
+            shape.add("minPrice", criteria.getMinPrice());
+            shape.add("maxPrice", criteria.getMaxPrice());
+            shape.add("minArea", criteria.getMinArea());
+            shape.add("maxArea", criteria.getMaxArea());
+            shape.add("minRooms", criteria.getMinRooms());
+            shape.add("cityKey", CityKeys.key(criteria.getCity()));
+            shape.add("furnished", criteria.getFurnished());
+            shape.add("hasDamage", criteria.getHasDamage());
+            if (criteria.getSearch() != null && !criteria.getSearch().isBlank()) {
+                shape.add("term", "%" + criteria.getSearch().toLowerCase(Locale.ROOT).trim() + "%");
+            }
+        }
+        return shape;
+    }
+
+    private Shape roommateShape(RoommateSearchCriteria criteria, Collection<UUID> restrictTo) {
+        Shape shape = new Shape(Table.ROOMMATE_ADS);
+        if (!restrict(shape, restrictTo) && criteria != null) {
+            addTags(shape, "amenities", criteria.getAmenities(), criteria.getAmenityMatch());
+            addTags(shape, "lifestyle", criteria.getInterests(), criteria.getInterestMatch());
+        }
+        if (criteria != null) {
+            shape.add("minRent", criteria.getMinRent());
+            shape.add("maxRent", criteria.getMaxRent());
+            shape.add("cityKey", CityKeys.key(criteria.getCity()));
+            shape.add("availableFrom", criteria.getAvailableFrom());
+            if (Boolean.TRUE.equals(criteria.getStudentOnly())) {
+                shape.add("student", Boolean.TRUE);
+            }
+        }
+        return shape;
+    }
+
+    private Shape temporaryStayShape(TemporaryStaySearchCriteria criteria, IdRestriction restriction) {
+        Shape shape = new Shape(Table.TEMPORARY_STAYS);
+        boolean restricted = restriction != null && (restriction.isExcluded()
+            ? exclude(shape, restriction.getIds())
+            : restrict(shape, restriction.getIds()));
+        if (!restricted && criteria != null) {
+            addTags(shape, "amenities", criteria.getAmenities(), criteria.getAmenityMatch());
+            if (criteria.getCheckIn() != null && criteria.getCheckOut() != null) {
+                shape.add("nights", ChronoUnit.DAYS.between(criteria.getCheckIn(), criteria.getCheckOut()));
+                shape.params.addValue("checkIn", criteria.getCheckIn()).addValue("checkOut", criteria.getCheckOut());
+            }
+        }
+        if (criteria != null) {
+            if (criteria.getTypes() != null && !criteria.getTypes().isEmpty()) {
+                shape.add("types", padded(criteria.getTypes().stream().map(Enum::name).distinct().toList()));
+            }
+            shape.add("minPrice", criteria.getMinPrice());
+            shape.add("maxPrice", criteria.getMaxPrice());
+            shape.add("cityKey", CityKeys.key(criteria.getCity()));
+            shape.add("costCategory", criteria.getCostCategory() != null ? criteria.getCostCategory().name() : null);
+            shape.add("purpose", criteria.getPurpose() != null ? criteria.getPurpose().name() : null);
+        }
+        return shape;
+    }
+
+    /**
+     * Binds an index result of up to {@code unihome.search.max-restricted-ids} ids; returns false
+     * when there is none or it is larger, in which case the caller adds the equivalent SQL filters.
+     */
+    private boolean restrict(Shape shape, Collection<UUID> restrictTo) {
+        if (restrictTo == null || restrictTo.size() > maxRestrictedIds) {
+            return false;
+        }
+        if (restrictTo.isEmpty()) {
+            shape.none = true;
+        } else {
+            shape.add("ids", padded(restrictTo.stream().map(SqlTemplateSearchEngine::toBytes).toList()));
+        }
+        return true;
+    }
+
+    private boolean exclude(Shape shape, Collection<UUID> excluded) {
+        if (excluded.size() > maxRestrictedIds) {
+            return false;
+        }
+        if (!excluded.isEmpty()) {
+            shape.add("excludedIds", padded(excluded.stream().map(SqlTemplateSearchEngine::toBytes).toList()));
+        }
+        return true;
+    }
+
+    private void addTags(Shape shape, String field, Collection<String> labels, TagMatchMode mode) {
+        if (labels == null || labels.stream().allMatch(label -> label == null || label.isBlank())) {
+            return;
+        }
+        List<Integer> tagIds = tagDictionary.lookupIds(labels);
+        if (mode == TagMatchMode.ANY) {
+            shape.add(field + "Any", padded(tagIds));
+        } else {
+            shape.add(field + "All", padded(tagIds));
+            shape.params.addValue(field + "AllCount", tagIds.size());
+        }
+    }
+
+    @Override
+    public Page<UUID> findPropertyIds(PropertySearchCriteria criteria, Pageable pageable) {
+        return ids(propertyShape(criteria), pageable);
+    }
+
+    @Override
+    public Page<UUID> findRoommateIds(RoommateSearchCriteria criteria, Collection<UUID> restrictTo, Pageable pageable) {
+        Shape shape = roommateShape(criteria, restrictTo);
+        return shape.none ? Page.empty(pageable) : ids(shape, pageable);
+    }
+
+    @Override
+    public Page<UUID> findTemporaryStayIds(TemporaryStaySearchCriteria criteria, IdRestriction restriction, Pageable pageable) {
+        Shape shape = temporaryStayShape(criteria, restriction);
+        return shape.none ? Page.empty(pageable) : ids(shape, pageable);
+    }
+
+    private <T> Page<T> execute(Shape shape, Pageable pageable, JpaRepository<T, UUID> repository, Function<T, UUID> idOf) {
+        Page<UUID> ids = ids(shape, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+        Map<UUID, T> loaded = repository.findAllById(ids.getContent()).stream()
+            .collect(Collectors.toMap(idOf, Function.identity()));
+        List<T> content = ids.stream().map(loaded::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
+    }
+
+    private Page<UUID> ids(Shape shape, Pageable pageable) {
+        Template template = templates.computeIfAbsent(
+            shape.table.name() + ':' + shape.mask + ':' + pageable.getSort(),
+            key -> Template.of(shape.table, shape.mask, pageable.getSort())
+        );
+        long total = Objects.requireNonNullElse(jdbcTemplate.queryForObject(template.count, shape.params, Long.class), 0L);
+        if (total == 0 || pageable.getOffset() >= total) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+        MapSqlParameterSource params = shape.params
+            .addValue("limit", pageable.getPageSize())
+            .addValue("offset", pageable.getOffset());
+        List<UUID> ids = jdbcTemplate.query(template.select, params, (rs, rowNum) -> toUuid(rs.getBytes(1)));
+        return new PageImpl<>(ids, pageable, total);
+    }
+
+    /**
+     * Fills a non-empty list up to the next power of two by repeating its last value, which
+     * changes neither {@code IN} nor {@code NOT IN}. Up to {@code unihome.search.max-restricted-ids}
+     * (512) values that leaves ten list lengths per predicate instead of 512.
+     */
+    static <T> List<T> padded(List<T> values) {
+        int size = values.size();
+        int slots = size <= 1 ? size : Integer.highestOneBit(size - 1) << 1;
+        if (slots == size) {
+            return values;
+        }
+        List<T> padded = new ArrayList<>(slots);
+        padded.addAll(values);
+        T sentinel = values.get(size - 1);
+        while (padded.size() < slots) {
+            padded.add(sentinel);
+        }
+        return padded;
+    }
+
+    static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+
+    private static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private enum Table {
+
+        PROPERTIES(
+            "properties",
+            Map.of("id", "id", "createdAt", "created_at", "price", "price", "pricePerSqm", "price_per_sqm", "area", "area"),
+            new String[][] {
+                {"types", "type IN (:types)"},
+                {"minPrice", "price >= :minPrice"},
+                {"maxPrice", "price <= :maxPrice"},
+                {"minArea", "area >= :minArea"},
+                {"maxArea", "area <= :maxArea"},
+                {"minRooms", "rooms >= :minRooms"},
+                {"cityKey", "city_key = :cityKey"},
+                {"furnished", "is_furnished = :furnished"},
+                {"hasDamage", "has_damage = :hasDamage"},
+                {"term", "(LOWER(title) LIKE :term OR LOWER(description) LIKE :term)"}
+            }
+        ),
+        ROOMMATE_ADS(
+            "roommate_ads",
+            Map.of("id", "id", "createdAt", "created_at", "monthlyRent", "monthly_rent", "availableFrom", "available_from"),
+            new String[][] {
+                {"minRent", "monthly_rent >= :minRent"},
+                {"maxRent", "monthly_rent <= :maxRent"},
+                {"cityKey", "location_city_key = :cityKey"},
+                {"availableFrom", "(available_from IS NULL OR available_from <= :availableFrom)"},
+                {"student", "profile_is_student = :student"},
+                {"ids", "id IN (:ids)"},
+                {"amenitiesAll", "(SELECT COUNT(DISTINCT t.tag_id) FROM roommate_amenities t WHERE t.ad_id = roommate_ads.id AND t.tag_id IN (:amenitiesAll)) = :amenitiesAllCount"},
+                {"amenitiesAny", "EXISTS (SELECT 1 FROM roommate_amenities t WHERE t.ad_id = roommate_ads.id AND t.tag_id IN (:amenitiesAny))"},
+                {"lifestyleAll", "(SELECT COUNT(DISTINCT t.tag_id) FROM roommate_lifestyle t WHERE t.ad_id = roommate_ads.id AND t.tag_id IN (:lifestyleAll)) = :lifestyleAllCount"},
+                {"lifestyleAny", "EXISTS (SELECT 1 FROM roommate_lifestyle t WHERE t.ad_id = roommate_ads.id AND t.tag_id IN (:lifestyleAny))"}
+            }
+        ),
+        TEMPORARY_STAYS(
+            "temporary_stays",
+            Map.of("id", "id", "createdAt", "created_at", "pricePerNight", "price_per_night"),
+            new String[][] {
+                {"types", "type IN (:types)"},
+                {"minPrice", "price_per_night >= :minPrice"},
+                {"maxPrice", "price_per_night <= :maxPrice"},
+                {"cityKey", "city_key = :cityKey"},
+                {"costCategory", "cost_category = :costCategory"},
+                {"purpose", "purpose = :purpose"},
+                {"ids", "id IN (:ids)"},
+                {"amenitiesAll", "(SELECT COUNT(DISTINCT t.tag_id) FROM temporary_stay_amenities t WHERE t.stay_id = temporary_stays.id AND t.tag_id IN (:amenitiesAll)) = :amenitiesAllCount"},
+                {"amenitiesAny", "EXISTS (SELECT 1 FROM temporary_stay_amenities t WHERE t.stay_id = temporary_stays.id AND t.tag_id IN (:amenitiesAny))"},
+                {"excludedIds", "id NOT IN (:excludedIds)"},
+                {"nights", "min_nights <= :nights AND NOT EXISTS (SELECT 1 FROM temporary_stay_unavailable_windows w "
+                    + "WHERE w.stay_id = temporary_stays.id AND w.window_start_date < :checkOut "
+                    + "AND COALESCE(w.window_end_date, w.window_start_date) >= :checkIn "
+                    + "AND COALESCE(w.window_end_date, w.window_start_date) >= w.window_start_date)"}
+            }
+        );
+
+        private final String tableName;
+        private final Map<String, String> sortColumns;
+        private final String[] predicates;
+        private final Map<String, Integer> bits = new HashMap<>();
+
+        Table(String tableName, Map<String, String> sortColumns, String[][] filters) {
+            this.tableName = tableName;
+            this.sortColumns = sortColumns;
+            this.predicates = new String[filters.length];
+            for (int i = 0; i < filters.length; i++) {
+                bits.put(filters[i][0], i);
+                predicates[i] = filters[i][1];
+            }
+        }
+    }
+
+    private static final class Shape {
+
+        private final Table table;
+        private final MapSqlParameterSource params = new MapSqlParameterSource();
+        private int mask;
+        private boolean none;
+
+        private Shape(Table table) {
+            this.table = table;
+        }
+
+        private void add(String name, Object value) {
+            if (value != null) {
+                mask |= 1 << table.bits.get(name);
+                params.addValue(name, value);
+            }
+        }
+    }
+
+    private static final class Template {
+
+        private final String select;
+        private final String count;
+
+        private Template(String select, String count) {
+            this.select = select;
+            this.count = count;
+        }
+
+        static Template of(Table table, int mask, Sort sort) {
+            StringBuilder where = new StringBuilder(" FROM ").append(table.tableName).append(" WHERE is_published = TRUE");
+            for (int bit = 0; bit < table.predicates.length; bit++) {
+                if ((mask & (1 << bit)) != 0) {
+                    where.append(" AND ").append(table.predicates[bit]);
+                }
+            }
+            StringBuilder orderBy = new StringBuilder();
+            for (Sort.Order order : sort) {
+                String column = table.sortColumns.get(order.getProperty());
+                if (column == null) {
+                    throw new IllegalArgumentException("Unsupported sort property " + order.getProperty() + " for " + table.tableName);
+                }
+                orderBy.append(orderBy.length() == 0 ? " ORDER BY " : ", ").append(column).append(order.isAscending() ? " ASC" : " DESC");
+            }
+            if (orderBy.length() == 0) {
+                orderBy.append(" ORDER BY id");
+            }
+            return new Template(
+                "SELECT id" + where + orderBy + " LIMIT :limit OFFSET :offset",
+                "SELECT COUNT(*)" + where
+            );
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.repository.specification;
+
+import org.example.dto.common.ListingSort;
+import org.example.exception.ValidationException;
+import java.util.Map;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Sort orders accepted by each listing search. Every order is backed by an
+ * {@code (is_published, <column>, id)} index in schema.sql and ends on {@code id} in the same
+ * direction, so pages are stable and MySQL can walk the index instead of filesorting.
+ */
+public final class ListingSorts {
+
+    private ListingSorts() {
+    }
+
+    public static Sort forProperties(ListingSort sort) {
+        return switch (sort != null ? sort : ListingSort.NEWEST) {
+            case NEWEST -> descending("createdAt");
+            case PRICE_ASC -> ascending("price");
+            case PRICE_DESC -> descending("price");
+            case PRICE_PER_SQM_ASC -> ascending("pricePerSqm");
+            case AREA_DESC -> descending("area");
+            default -> throw unsupported(sort, "properties");
+        };
+    }
+
+    public static Sort forRoommates(ListingSort sort) {
+        return switch (sort != null ? sort : ListingSort.NEWEST) {
+            case NEWEST -> descending("createdAt");
+            case PRICE_ASC -> ascending("monthlyRent");
+            case PRICE_DESC -> descending("monthlyRent");
+            case AVAILABLE_SOONEST -> ascending("availableFrom");
+            default -> throw unsupported(sort, "roommate ads");
+        };
+    }
+
+    public static Sort forTemporaryStays(ListingSort sort) {
+        return switch (sort != null ? sort : ListingSort.NEWEST) {
+            case NEWEST -> descending("createdAt");
+            case PRICE_ASC -> ascending("pricePerNight");
+            case PRICE_DESC -> descending("pricePerNight");
+            default -> throw unsupported(sort, "temporary stays");
+        };
+    }
+
+    private static Sort ascending(String property) {
+        return Sort.by(Sort.Direction.ASC, property, "id");
+    }
+
+    private static Sort descending(String property) {
+        return Sort.by(Sort.Direction.DESC, property, "id");
+    }
+
+    private static ValidationException unsupported(ListingSort sort, String listings) {
+        return new ValidationException("Unsupported sort", Map.of("sort", sort + " is not available for " + listings));
+    }
+}
@@ -2,6 +2,7 @@ package org.example.repository.specification;
 
 import org.example.dto.property.PropertySearchCriteria;
 import org.example.model.property.PropertyEntity;
+import org.example.search.CityKeys;
 import jakarta.persistence.criteria.JoinType;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -12,7 +13,7 @@ public final class PropertySpecifications {
 
     public static Specification<PropertyEntity> fromCriteria(PropertySearchCriteria criteria) {
         Specification<PropertyEntity> specification = Specification.where(null);
-        specification = specification.and((root, query, cb) -> cb.isTrue(root.get("published")));
+        specification = specification.and((root, query, cb) -> cb.equal(root.get("published"), true));
         if (criteria == null) {
             return specification;
         }
@@ -35,9 +36,9 @@ public final class PropertySpecifications {
         if (criteria.getMinRooms() != null) {
             specification = specification.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("rooms"), criteria.getMinRooms()));
         }
-        if (criteria.getCity() != null && !criteria.getCity().isBlank()) {
-            String likePattern = "%" + criteria.getCity().toLowerCase().trim() + "%";
-            specification = specification.and((root, query, cb) -> cb.like(cb.lower(root.get("location").get("city")), likePattern));
+        String cityKey = CityKeys.key(criteria.getCity());
+        if (cityKey != null) {
+            specification = specification.and((root, query, cb) -> cb.equal(root.get("location").get("cityKey"), cityKey));
         }
         if (criteria.getFurnished() != null) {
             specification = specification.and((root, query, cb) -> cb.equal(root.join("basics", JoinType.LEFT).get("furnished"), criteria.getFurnished()));
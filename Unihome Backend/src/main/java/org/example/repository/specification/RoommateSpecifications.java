@@ -2,9 +2,12 @@ package org.example.repository.specification;
 
 import org.example.dto.roommate.RoommateSearchCriteria;
 import org.example.model.roommate.RoommateAdEntity;
+import org.example.search.CityKeys;
 import jakarta.persistence.criteria.JoinType;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
 import org.springframework.data.jpa.domain.Specification;
 
 public final class RoommateSpecifications {
@@ -23,8 +26,9 @@ public final class RoommateSpecifications {
         if (criteria.getMaxRent() != null) {
             specification = specification.and(maxRent(criteria.getMaxRent()));
         }
-        if (criteria.getCity() != null && !criteria.getCity().isBlank()) {
-            specification = specification.and(city(criteria.getCity()));
+        String cityKey = CityKeys.key(criteria.getCity());
+        if (cityKey != null) {
+            specification = specification.and(cityKey(cityKey));
         }
         if (criteria.getAvailableFrom() != null) {
             specification = specification.and(availableFrom(criteria.getAvailableFrom()));
@@ -32,17 +36,15 @@ public final class RoommateSpecifications {
         if (criteria.getStudentOnly() != null && criteria.getStudentOnly()) {
             specification = specification.and(studentOnly());
         }
-        if (criteria.getAmenities() != null && !criteria.getAmenities().isEmpty()) {
-            specification = specification.and(amenitiesContain(criteria));
-        }
-        if (criteria.getInterests() != null && !criteria.getInterests().isEmpty()) {
-            specification = specification.and(lifestyleContain(criteria));
-        }
         return specification;
     }
 
+    public static Specification<RoommateAdEntity> idIn(Collection<UUID> ids) {
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+    }
+
     private static Specification<RoommateAdEntity> publishedOnly() {
-        return (root, query, cb) -> cb.isTrue(root.get("published"));
+        return (root, query, cb) -> cb.equal(root.get("published"), true);
     }
 
     private static Specification<RoommateAdEntity> minRent(BigDecimal min) {
@@ -53,8 +55,8 @@ public final class RoommateSpecifications {
         return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("monthlyRent"), max);
     }
 
-    private static Specification<RoommateAdEntity> city(String city) {
-        return (root, query, cb) -> cb.equal(cb.lower(root.get("location").get("city")), city.toLowerCase());
+    private static Specification<RoommateAdEntity> cityKey(String cityKey) {
+        return (root, query, cb) -> cb.equal(root.get("location").get("cityKey"), cityKey);
     }
 
     private static Specification<RoommateAdEntity> availableFrom(LocalDate date) {
@@ -67,20 +69,4 @@ public final class RoommateSpecifications {
     private static Specification<RoommateAdEntity> studentOnly() {
         return (root, query, cb) -> cb.isTrue(root.join("profile", JoinType.LEFT).get("student"));
     }
-
-    private static Specification<RoommateAdEntity> amenitiesContain(RoommateSearchCriteria criteria) {
-        return (root, query, cb) -> {
-            query.distinct(true);
-            var join = root.join("amenities", JoinType.LEFT);
-            return join.in(criteria.getAmenities());
-        };
-    }
-
-    private static Specification<RoommateAdEntity> lifestyleContain(RoommateSearchCriteria criteria) {
-        return (root, query, cb) -> {
-            query.distinct(true);
-            var join = root.join("lifestyle", JoinType.LEFT);
-            return join.in(criteria.getInterests());
-        };
-    }
 }
@@ -0,0 +1,42 @@
+package org.example.repository.specification;
+
+import org.example.dto.common.TagMatchMode;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Tag filters evaluated by the database, for searches whose in-memory tag match is unavailable or
+ * too large to bind as an id list. Each tag is an {@code EXISTS} probe on the join table's
+ * primary key, so the listing query itself is never joined or made {@code DISTINCT}.
+ */
+public final class TagSpecifications {
+
+    private TagSpecifications() {
+    }
+
+    public static <T> Specification<T> tagsMatch(String attribute, Collection<Integer> tagIds, TagMatchMode mode) {
+        return (root, query, cb) -> {
+            if (mode == TagMatchMode.ANY) {
+                return tagExists(root, query, cb, attribute, tagIds);
+            }
+            return cb.and(tagIds.stream()
+                .map(tagId -> tagExists(root, query, cb, attribute, List.of(tagId)))
+                .toArray(Predicate[]::new));
+        };
+    }
+
+    private static <T> Predicate tagExists(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb, String attribute, Collection<Integer> tagIds) {
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Root<T> correlated = subquery.correlate(root);
+        Join<T, Integer> tag = correlated.join(attribute);
+        subquery.select(tag).where(tagIds.size() == 1 ? cb.equal(tag, tagIds.iterator().next()) : tag.in(tagIds));
+        return cb.exists(subquery);
+    }
+}
@@ -1,9 +1,18 @@
 package org.example.repository.specification;
 
 import org.example.dto.temporary.TemporaryStaySearchCriteria;
+import org.example.model.availability.AvailabilityWindowEmbeddable;
 import org.example.model.temporary.TemporaryStayEntity;
-import jakarta.persistence.criteria.JoinType;
+import org.example.search.CityKeys;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.UUID;
 import org.springframework.data.jpa.domain.Specification;
 
 public final class TemporaryStaySpecifications {
@@ -25,8 +34,9 @@ public final class TemporaryStaySpecifications {
         if (criteria.getMaxPrice() != null) {
             specification = specification.and(maxPrice(criteria.getMaxPrice()));
         }
-        if (criteria.getCity() != null && !criteria.getCity().isBlank()) {
-            specification = specification.and(city(criteria.getCity()));
+        String cityKey = CityKeys.key(criteria.getCity());
+        if (cityKey != null) {
+            specification = specification.and(cityKey(cityKey));
         }
         if (criteria.getCostCategory() != null) {
             specification = specification.and(costCategory(criteria));
@@ -34,14 +44,42 @@ public final class TemporaryStaySpecifications {
         if (criteria.getPurpose() != null) {
             specification = specification.and(purpose(criteria));
         }
-        if (criteria.getAmenities() != null && !criteria.getAmenities().isEmpty()) {
-            specification = specification.and(amenitiesContain(criteria));
-        }
         return specification;
     }
 
+    public static Specification<TemporaryStayEntity> idIn(Collection<UUID> ids) {
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+    }
+
+    public static Specification<TemporaryStayEntity> idNotIn(Collection<UUID> ids) {
+        return (root, query, cb) -> cb.not(root.get("id").in(ids));
+    }
+
+    /**
+     * The database form of the availability index: long enough for the stay's minimum and not
+     * overlapping any of its blocked windows (a window without an end blocks its start night).
+     */
+    public static Specification<TemporaryStayEntity> freeBetween(LocalDate checkIn, LocalDate checkOut) {
+        return (root, query, cb) -> {
+            Subquery<Integer> blocked = query.subquery(Integer.class);
+            Root<TemporaryStayEntity> stay = blocked.correlate(root);
+            Join<?, AvailabilityWindowEmbeddable> window = stay.join("availability").join("unavailable");
+            Expression<LocalDate> start = window.get("startDate");
+            Expression<LocalDate> end = cb.coalesce(window.<LocalDate>get("endDate"), start);
+            blocked.select(cb.literal(1)).where(
+                cb.lessThan(start, checkOut),
+                cb.greaterThanOrEqualTo(end, checkIn),
+                cb.greaterThanOrEqualTo(end, start)
+            );
+            return cb.and(
+                cb.lessThanOrEqualTo(root.get("minNights"), (int) ChronoUnit.DAYS.between(checkIn, checkOut)),
+                cb.not(cb.exists(blocked))
+            );
+        };
+    }
+
     private static Specification<TemporaryStayEntity> publishedOnly() {
-        return (root, query, cb) -> cb.isTrue(root.get("published"));
+        return (root, query, cb) -> cb.equal(root.get("published"), true);
     }
 
     private static Specification<TemporaryStayEntity> typeIn(TemporaryStaySearchCriteria criteria) {
@@ -56,22 +94,14 @@ public final class TemporaryStaySpecifications {
         return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("pricePerNight"), max);
     }
 
-    private static Specification<TemporaryStayEntity> city(String city) {
-        return (root, query, cb) -> cb.equal(cb.lower(root.get("location").get("city")), city.toLowerCase());
+    private static Specification<TemporaryStayEntity> cityKey(String cityKey) {
+        return (root, query, cb) -> cb.equal(root.get("location").get("cityKey"), cityKey);
     }
 
     private static Specification<TemporaryStayEntity> costCategory(TemporaryStaySearchCriteria criteria) {
         return (root, query, cb) -> cb.equal(root.get("costCategory"), criteria.getCostCategory());
     }
 
-    private static Specification<TemporaryStayEntity> amenitiesContain(TemporaryStaySearchCriteria criteria) {
-        return (root, query, cb) -> {
-            query.distinct(true);
-            var join = root.join("amenities", JoinType.LEFT);
-            return join.in(criteria.getAmenities());
-        };
-    }
-
     private static Specification<TemporaryStayEntity> purpose(TemporaryStaySearchCriteria criteria) {
         return (root, query, cb) -> cb.equal(root.get("purpose"), criteria.getPurpose());
     }
@@ -0,0 +1,61 @@
+package org.example.search;
+
+import org.example.repository.PropertyRepository;
+import org.example.repository.RoommateAdRepository;
+import org.example.repository.TemporaryStayRepository;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Fills in city keys for rows written before the column existed, or whose key changed because the
+ * transliteration or alias table was extended.
+ */
+@Component
+public class CityKeyBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(CityKeyBackfill.class);
+
+    private final PropertyRepository propertyRepository;
+    private final RoommateAdRepository roommateAdRepository;
+    private final TemporaryStayRepository temporaryStayRepository;
+
+    public CityKeyBackfill(
+        PropertyRepository propertyRepository,
+        RoommateAdRepository roommateAdRepository,
+        TemporaryStayRepository temporaryStayRepository
+    ) {
+        this.propertyRepository = propertyRepository;
+        this.roommateAdRepository = roommateAdRepository;
+        this.temporaryStayRepository = temporaryStayRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        int updated = refresh(propertyRepository.findCityKeys(), propertyRepository::updateCityKey)
+            + refresh(roommateAdRepository.findCityKeys(), roommateAdRepository::updateCityKey)
+            + refresh(temporaryStayRepository.findCityKeys(), temporaryStayRepository::updateCityKey);
+        if (updated > 0) {
+            log.info("Recomputed {} city keys", updated);
+        }
+    }
+
+    private int refresh(List<Object[]> rows, BiFunction<UUID, String, Integer> update) {
+        int updated = 0;
+        for (Object[] row : rows) {
+            String expected = CityKeys.key((String) row[1]);
+            if (!Objects.equals(expected, row[2])) {
+                updated += update.apply((UUID) row[0], expected);
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.search;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Normalized city keys: accents stripped, Greek transliterated to Latin (ELOT 743 style) and common
+ * exonyms folded onto one spelling, so "Αθήνα", "ΑΘΗΝΑ", "Athina" and "Athens" share a key. Folding
+ * only applies to complete names; a typed prefix such as "athe" is left as is and matched against
+ * the alias spellings instead.
+ */
+public final class CityKeys {
+
+    /**
+     * Length of the city key columns. Transliteration can double a Greek name (θ, χ, ψ), so this is
+     * twice the 120-character city columns; longer keys are cut to it.
+     */
+    public static final int MAX_LENGTH = 240;
+
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+
+    private static final Map<String, String> DIGRAPHS = Map.of(
+        "ου", "ou",
+        "αυ", "av",
+        "ευ", "ev",
+        "γγ", "ng",
+        "γκ", "gk"
+    );
+
+    private static final Map<Character, String> LETTERS = Map.ofEntries(
+        Map.entry('α', "a"), Map.entry('β', "v"), Map.entry('γ', "g"), Map.entry('δ', "d"),
+        Map.entry('ε', "e"), Map.entry('ζ', "z"), Map.entry('η', "i"), Map.entry('θ', "th"),
+        Map.entry('ι', "i"), Map.entry('κ', "k"), Map.entry('λ', "l"), Map.entry('μ', "m"),
+        Map.entry('ν', "n"), Map.entry('ξ', "x"), Map.entry('ο', "o"), Map.entry('π', "p"),
+        Map.entry('ρ', "r"), Map.entry('σ', "s"), Map.entry('τ', "t"), Map.entry('υ', "y"),
+        Map.entry('φ', "f"), Map.entry('χ', "ch"), Map.entry('ψ', "ps"), Map.entry('ω', "o")
+    );
+
+    private static final Map<String, String> ALIASES = Map.ofEntries(
+        Map.entry("athens", "athina"),
+        Map.entry("athena", "athina"),
+        Map.entry("saloniki", "thessaloniki"),
+        Map.entry("salonica", "thessaloniki"),
+        Map.entry("thessalonica", "thessaloniki"),
+        Map.entry("thessalonike", "thessaloniki"),
+        Map.entry("patras", "patra"),
+        Map.entry("heraklion", "irakleio"),
+        Map.entry("iraklio", "irakleio"),
+        Map.entry("iraklion", "irakleio"),
+        Map.entry("piraeus", "peiraias"),
+        Map.entry("pireas", "peiraias"),
+        Map.entry("piraias", "peiraias"),
+        Map.entry("larissa", "larisa"),
+        Map.entry("corfu", "kerkyra"),
+        Map.entry("kerkira", "kerkyra"),
+        Map.entry("rhodes", "rodos"),
+        Map.entry("mytilene", "mytilini"),
+        Map.entry("mitilini", "mytilini"),
+        Map.entry("halkida", "chalkida"),
+        Map.entry("chalcis", "chalkida"),
+        Map.entry("hania", "chania"),
+        Map.entry("rethimno", "rethymno"),
+        Map.entry("rethymnon", "rethymno"),
+        Map.entry("ioanina", "ioannina"),
+        Map.entry("kozane", "kozani"),
+        Map.entry("tripolis", "tripoli")
+    );
+
+    private static final Map<String, List<String>> SPELLINGS = ALIASES.entrySet().stream()
+        .collect(Collectors.groupingBy(
+            Map.Entry::getValue,
+            TreeMap::new,
+            Collectors.mapping(Map.Entry::getKey, Collectors.toUnmodifiableList())
+        ));
+
+    private CityKeys() {
+    }
+
+    public static String key(String city) {
+        String transliterated = transliterate(city);
+        if (transliterated.isEmpty()) {
+            return null;
+        }
+        return truncate(ALIASES.getOrDefault(transliterated, transliterated));
+    }
+
+    /**
+     * Key of a partially typed city name, transliterated like {@link #key} but without folding
+     * aliases, which only make sense for a complete name.
+     */
+    public static String prefixKey(String typed) {
+        return truncate(transliterate(typed));
+    }
+
+    /**
+     * Alias spellings by the key they fold onto, e.g. "athina" to "athens" and "athena".
+     */
+    public static Map<String, List<String>> spellings() {
+        return SPELLINGS;
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_LENGTH ? key.substring(0, MAX_LENGTH).trim() : key;
+    }
+
+    public static String transliterate(String value) {
+        String canonical = TagDictionary.canonical(value);
+        StringBuilder latin = new StringBuilder(canonical.length() + 4);
+        int i = 0;
+        while (i < canonical.length()) {
+            if (i + 1 < canonical.length()) {
+                String digraph = DIGRAPHS.get(canonical.substring(i, i + 2));
+                if (digraph != null) {
+                    latin.append(digraph);
+                    i += 2;
+                    continue;
+                }
+            }
+            char current = canonical.charAt(i);
+            latin.append(LETTERS.getOrDefault(current, String.valueOf(current)));
+            i++;
+        }
+        return NON_ALPHANUMERIC.matcher(latin).replaceAll(" ").trim();
+    }
+}
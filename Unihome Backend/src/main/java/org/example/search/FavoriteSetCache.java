@@ -0,0 +1,68 @@
+package org.example.search;
+
+import org.example.event.FavoritesChangedEvent;
+import org.example.model.favorite.FavoriteType;
+import org.example.repository.FavoriteRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Favorite target ids of recently active users, grouped by type, so result pages can flag their
+ * listings without reading {@code favorites}. A user's entry is dropped once a change to their
+ * favorites commits and reloaded with one query on the next lookup. That only reaches this
+ * instance, so entries also expire a fixed time after loading, which bounds how long a change made
+ * through another instance stays unseen here.
+ */
+@Component
+public class FavoriteSetCache {
+
+    private final LoadingCache<UUID, Map<FavoriteType, Set<UUID>>> cache;
+
+    public FavoriteSetCache(
+        FavoriteRepository favoriteRepository,
+        MeterRegistry meterRegistry,
+        @Value("${unihome.favorites.cache.max-users:20000}") long maxUsers,
+        @Value("${unihome.favorites.cache.idle-minutes:30}") long idleMinutes,
+        @Value("${unihome.favorites.cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxUsers)
+            .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build(userId -> load(favoriteRepository, userId));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "favoriteSets");
+    }
+
+    public Map<FavoriteType, Set<UUID>> favorites(UUID userId) {
+        return cache.get(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoritesChanged(FavoritesChangedEvent event) {
+        cache.invalidate(event.getUserId());
+    }
+
+    private static Map<FavoriteType, Set<UUID>> load(FavoriteRepository favoriteRepository, UUID userId) {
+        Map<FavoriteType, Set<UUID>> favorites = new EnumMap<>(FavoriteType.class);
+        for (FavoriteType type : FavoriteType.values()) {
+            favorites.put(type, new HashSet<>());
+        }
+        for (Object[] row : favoriteRepository.findTargetsByUserId(userId)) {
+            favorites.get((FavoriteType) row[0]).add((UUID) row[1]);
+        }
+        favorites.replaceAll((type, ids) -> Set.copyOf(ids));
+        return favorites;
+    }
+}
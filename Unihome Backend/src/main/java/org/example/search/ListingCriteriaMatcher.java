@@ -0,0 +1,148 @@
+package org.example.search;
+
+import org.example.dto.common.TagMatchMode;
+import org.example.dto.property.PropertySearchCriteria;
+import org.example.dto.roommate.RoommateSearchCriteria;
+import org.example.dto.temporary.TemporaryStaySearchCriteria;
+import org.example.model.property.PropertyEntity;
+import org.example.model.roommate.RoommateAdEntity;
+import org.example.model.temporary.TemporaryStayEntity;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory counterpart of the listing specifications: decides whether a single loaded listing
+ * satisfies a search criteria object without going back to the database.
+ */
+@Component
+public class ListingCriteriaMatcher {
+
+    private final TagDictionary tagDictionary;
+    private final StayAvailabilityIndex stayAvailabilityIndex;
+
+    public ListingCriteriaMatcher(TagDictionary tagDictionary, StayAvailabilityIndex stayAvailabilityIndex) {
+        this.tagDictionary = tagDictionary;
+        this.stayAvailabilityIndex = stayAvailabilityIndex;
+    }
+
+    public boolean matches(PropertySearchCriteria criteria, PropertyEntity property) {
+        if (!property.isPublished()) {
+            return false;
+        }
+        if (criteria.getTypes() != null && !criteria.getTypes().isEmpty() && !criteria.getTypes().contains(property.getType())) {
+            return false;
+        }
+        if (!within(property.getPrice(), criteria.getMinPrice(), criteria.getMaxPrice())) {
+            return false;
+        }
+        if (criteria.getMinArea() != null && (property.getArea() == null || property.getArea() < criteria.getMinArea())) {
+            return false;
+        }
+        if (criteria.getMaxArea() != null && (property.getArea() == null || property.getArea() > criteria.getMaxArea())) {
+            return false;
+        }
+        if (criteria.getMinRooms() != null && (property.getRooms() == null || property.getRooms() < criteria.getMinRooms())) {
+            return false;
+        }
+        String cityKey = property.getLocation() != null ? property.getLocation().getCityKey() : null;
+        if (!sameCity(criteria.getCity(), cityKey)) {
+            return false;
+        }
+        if (criteria.getFurnished() != null
+            && (property.getBasics() == null || !criteria.getFurnished().equals(property.getBasics().getFurnished()))) {
+            return false;
+        }
+        if (criteria.getHasDamage() != null
+            && (property.getBasics() == null || !criteria.getHasDamage().equals(property.getBasics().getHasDamage()))) {
+            return false;
+        }
+        if (criteria.getSearch() != null && !criteria.getSearch().isBlank()) {
+            String term = criteria.getSearch().toLowerCase(Locale.ROOT).trim();
+            return contains(property.getTitle(), term) || contains(property.getDescription(), term);
+        }
+        return true;
+    }
+
+    public boolean matches(RoommateSearchCriteria criteria, RoommateAdEntity ad) {
+        if (!ad.isPublished()) {
+            return false;
+        }
+        if (!within(ad.getMonthlyRent(), criteria.getMinRent(), criteria.getMaxRent())) {
+            return false;
+        }
+        String cityKey = ad.getLocation() != null ? ad.getLocation().getCityKey() : null;
+        if (!sameCity(criteria.getCity(), cityKey)) {
+            return false;
+        }
+        if (criteria.getAvailableFrom() != null && ad.getAvailableFrom() != null && ad.getAvailableFrom().isAfter(criteria.getAvailableFrom())) {
+            return false;
+        }
+        if (Boolean.TRUE.equals(criteria.getStudentOnly())
+            && (ad.getProfile() == null || !Boolean.TRUE.equals(ad.getProfile().getStudent()))) {
+            return false;
+        }
+        return tagsMatch(criteria.getAmenities(), criteria.getAmenityMatch(), ad.getAmenityTagIds())
+            && tagsMatch(criteria.getInterests(), criteria.getInterestMatch(), ad.getLifestyleTagIds());
+    }
+
+    public boolean matches(TemporaryStaySearchCriteria criteria, TemporaryStayEntity stay) {
+        if (!stay.isPublished()) {
+            return false;
+        }
+        if (criteria.getTypes() != null && !criteria.getTypes().isEmpty() && !criteria.getTypes().contains(stay.getType())) {
+            return false;
+        }
+        if (!within(stay.getPricePerNight(), criteria.getMinPrice(), criteria.getMaxPrice())) {
+            return false;
+        }
+        String cityKey = stay.getLocation() != null ? stay.getLocation().getCityKey() : null;
+        if (!sameCity(criteria.getCity(), cityKey)) {
+            return false;
+        }
+        if (criteria.getCostCategory() != null && criteria.getCostCategory() != stay.getCostCategory()) {
+            return false;
+        }
+        if (criteria.getPurpose() != null && criteria.getPurpose() != stay.getPurpose()) {
+            return false;
+        }
+        if (criteria.getCheckIn() != null && criteria.getCheckOut() != null
+            && !stayAvailabilityIndex.isFree(stay, criteria.getCheckIn(), criteria.getCheckOut())) {
+            return false;
+        }
+        return tagsMatch(criteria.getAmenities(), criteria.getAmenityMatch(), stay.getAmenityTagIds());
+    }
+
+    private boolean within(BigDecimal value, BigDecimal min, BigDecimal max) {
+        if (min != null && (value == null || value.compareTo(min) < 0)) {
+            return false;
+        }
+        return max == null || (value != null && value.compareTo(max) <= 0);
+    }
+
+    private boolean sameCity(String requestedCity, String listingCityKey) {
+        String requestedKey = CityKeys.key(requestedCity);
+        return requestedKey == null || requestedKey.equals(listingCityKey);
+    }
+
+    private boolean contains(String value, String term) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(term);
+    }
+
+    private boolean tagsMatch(Collection<String> labels, TagMatchMode mode, Collection<Integer> listingTagIds) {
+        if (labels == null || labels.stream().allMatch(label -> label == null || label.isBlank())) {
+            return true;
+        }
+        List<Integer> requested = tagDictionary.lookupIds(labels);
+        Set<Integer> present = listingTagIds != null ? new HashSet<>(listingTagIds) : Set.of();
+        if (mode == TagMatchMode.ANY) {
+            return requested.stream().filter(Objects::nonNull).anyMatch(present::contains);
+        }
+        return present.containsAll(requested);
+    }
+}
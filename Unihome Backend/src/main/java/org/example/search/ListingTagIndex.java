@@ -0,0 +1,138 @@
+package org.example.search;
+
+import org.example.dto.common.TagMatchMode;
+import org.example.dto.roommate.RoommateSearchCriteria;
+import org.example.dto.temporary.TemporaryStaySearchCriteria;
+import org.example.event.ListingChangeType;
+import org.example.event.ListingChangedEvent;
+import org.example.model.roommate.RoommateAdEntity;
+import org.example.model.temporary.TemporaryStayEntity;
+import org.example.repository.RoommateAdRepository;
+import org.example.repository.TemporaryStayRepository;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class ListingTagIndex {
+
+    private static final String AMENITIES = "amenities";
+    private static final String LIFESTYLE = "lifestyle";
+
+    private final RoommateAdRepository roommateAdRepository;
+    private final TemporaryStayRepository temporaryStayRepository;
+    private final TagDictionary tagDictionary;
+    private final TagBitmapIndex<Integer> roommateIndex = new TagBitmapIndex<>();
+    private final TagBitmapIndex<Integer> temporaryStayIndex = new TagBitmapIndex<>();
+
+    public ListingTagIndex(
+        RoommateAdRepository roommateAdRepository,
+        TemporaryStayRepository temporaryStayRepository,
+        TagDictionary tagDictionary
+    ) {
+        this.roommateAdRepository = roommateAdRepository;
+        this.temporaryStayRepository = temporaryStayRepository;
+        this.tagDictionary = tagDictionary;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        roommateIndex.clear();
+        temporaryStayIndex.clear();
+        load(roommateIndex, AMENITIES, roommateAdRepository.findAllAmenityPairs());
+        load(roommateIndex, LIFESTYLE, roommateAdRepository.findAllLifestylePairs());
+        load(temporaryStayIndex, AMENITIES, temporaryStayRepository.findAllAmenityPairs());
+    }
+
+    @TransactionalEventListener
+    @Order(SearchResultCache.INDEX_LISTENER_ORDER)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onListingChanged(ListingChangedEvent event) {
+        if (event.getChangeType() == ListingChangeType.HIDDEN || event.getChangeType() == ListingChangeType.PUBLISHED) {
+            return;
+        }
+        UUID id = event.getListingId();
+        switch (event.getListingType()) {
+            case ROOMMATE_AD -> {
+                Optional<RoommateAdEntity> ad = event.getChangeType() == ListingChangeType.DELETED
+                    ? Optional.empty()
+                    : roommateAdRepository.findById(id);
+                if (ad.isEmpty()) {
+                    roommateIndex.remove(id);
+                    return;
+                }
+                roommateIndex.put(id, AMENITIES, ad.get().getAmenityTagIds());
+                roommateIndex.put(id, LIFESTYLE, ad.get().getLifestyleTagIds());
+            }
+            case TEMPORARY_STAY -> {
+                Optional<TemporaryStayEntity> stay = event.getChangeType() == ListingChangeType.DELETED
+                    ? Optional.empty()
+                    : temporaryStayRepository.findById(id);
+                if (stay.isEmpty()) {
+                    temporaryStayIndex.remove(id);
+                    return;
+                }
+                temporaryStayIndex.put(id, AMENITIES, stay.get().getAmenityTagIds());
+            }
+            default -> {
+            }
+        }
+    }
+
+    public Optional<Set<UUID>> matchRoommates(RoommateSearchCriteria criteria) {
+        if (criteria == null) {
+            return Optional.empty();
+        }
+        BitSet matches = null;
+        if (hasValues(criteria.getAmenities())) {
+            matches = roommateIndex.match(AMENITIES, tagDictionary.lookupIds(criteria.getAmenities()), mode(criteria.getAmenityMatch()));
+        }
+        if (hasValues(criteria.getInterests())) {
+            BitSet lifestyle = roommateIndex.match(LIFESTYLE, tagDictionary.lookupIds(criteria.getInterests()), mode(criteria.getInterestMatch()));
+            if (matches == null) {
+                matches = lifestyle;
+            } else {
+                matches.and(lifestyle);
+            }
+        }
+        return matches == null ? Optional.empty() : Optional.of(roommateIndex.resolve(matches));
+    }
+
+    public Optional<Set<UUID>> matchTemporaryStays(TemporaryStaySearchCriteria criteria) {
+        if (criteria == null || !hasValues(criteria.getAmenities())) {
+            return Optional.empty();
+        }
+        BitSet matches = temporaryStayIndex.match(AMENITIES, tagDictionary.lookupIds(criteria.getAmenities()), mode(criteria.getAmenityMatch()));
+        return Optional.of(temporaryStayIndex.resolve(matches));
+    }
+
+    private void load(TagBitmapIndex<Integer> index, String field, List<Object[]> pairs) {
+        Map<UUID, List<Integer>> grouped = new HashMap<>();
+        for (Object[] pair : pairs) {
+            grouped.computeIfAbsent((UUID) pair[0], key -> new ArrayList<>()).add((Integer) pair[1]);
+        }
+        grouped.forEach((id, tagIds) -> index.put(id, field, tagIds));
+    }
+
+    private boolean hasValues(Collection<String> values) {
+        return values != null && values.stream().anyMatch(value -> value != null && !value.isBlank());
+    }
+
+    private TagMatchMode mode(TagMatchMode requested) {
+        return requested != null ? requested : TagMatchMode.ALL;
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.search;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class MonthlyPrices {
+
+    public static final int NIGHTS_PER_MONTH = 30;
+
+    private static final BigDecimal NIGHTS = BigDecimal.valueOf(NIGHTS_PER_MONTH);
+
+    private MonthlyPrices() {
+    }
+
+    public static BigDecimal fromNightly(BigDecimal pricePerNight) {
+        return pricePerNight != null ? pricePerNight.multiply(NIGHTS) : null;
+    }
+
+    public static BigDecimal toNightlyFloor(BigDecimal monthly) {
+        return monthly != null ? monthly.divide(NIGHTS, 2, RoundingMode.DOWN) : null;
+    }
+
+    public static BigDecimal toNightlyCeiling(BigDecimal monthly) {
+        return monthly != null ? monthly.divide(NIGHTS, 2, RoundingMode.UP) : null;
+    }
+}
@@ -0,0 +1,448 @@
+package org.example.search;
+
+import org.example.dto.roommate.CompatibilityFactorDto;
+import org.example.dto.roommate.RoommateSearchCriteria;
+import org.example.event.ListingChangeType;
+import org.example.event.ListingChangedEvent;
+import org.example.model.listing.ListingType;
+import org.example.model.roommate.RoommateAdEntity;
+import org.example.model.roommate.RoommateProfileEmbeddable;
+import org.example.model.user.StudentProfileEmbeddable;
+import org.example.model.user.UserEntity;
+import org.example.repository.RoommateAdRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Compact in-memory view of every published roommate ad used to rank candidates against a
+ * viewer. Lifestyle and preference tags are bitsets weighted by tag rarity; age, budget and
+ * move-in date contribute by proximity. Only the best {@code limit} ads are kept while scanning.
+ */
+@Component
+public class RoommateCompatibilityIndex {
+
+    public static final int MAX_RESULTS = 50;
+
+    private static final double LIFESTYLE_WEIGHT = 0.35;
+    private static final double PREFERENCES_WEIGHT = 0.25;
+    private static final double AGE_WEIGHT = 0.15;
+    private static final double UNIVERSITY_WEIGHT = 0.10;
+    private static final double BUDGET_WEIGHT = 0.10;
+    private static final double MOVE_IN_WEIGHT = 0.05;
+    private static final int AGE_SPAN_YEARS = 10;
+    private static final int MOVE_IN_SPAN_DAYS = 90;
+
+    private static final Comparator<Match> WORST_FIRST = Comparator.comparingDouble(Match::getScore)
+        .thenComparing(Match::getAdId, Comparator.reverseOrder());
+
+    private final RoommateAdRepository roommateAdRepository;
+    private final ListingTagIndex listingTagIndex;
+    private final TagDictionary tagDictionary;
+    private final Map<UUID, Profile> candidates = new HashMap<>();
+    private final Map<Integer, Integer> lifestyleFrequency = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public RoommateCompatibilityIndex(
+        RoommateAdRepository roommateAdRepository,
+        ListingTagIndex listingTagIndex,
+        TagDictionary tagDictionary
+    ) {
+        this.roommateAdRepository = roommateAdRepository;
+        this.listingTagIndex = listingTagIndex;
+        this.tagDictionary = tagDictionary;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<UUID, ProfileBuilder> loaded = new HashMap<>();
+        for (Object[] row : roommateAdRepository.findCompatibilityRows()) {
+            ProfileBuilder builder = new ProfileBuilder((UUID) row[0], (UUID) row[1]);
+            builder.cityKey = (String) row[2];
+            builder.rent = (BigDecimal) row[3];
+            builder.availableFrom = (LocalDate) row[4];
+            builder.age = (Integer) row[5];
+            builder.university = (String) row[6];
+            builder.student = Boolean.TRUE.equals(row[7]);
+            loaded.put(builder.adId, builder);
+        }
+        for (Object[] pair : roommateAdRepository.findAllLifestylePairs()) {
+            ProfileBuilder builder = loaded.get((UUID) pair[0]);
+            if (builder != null && pair[1] != null) {
+                builder.lifestyle.set((Integer) pair[1]);
+            }
+        }
+        for (Object[] pair : roommateAdRepository.findAllPreferencePairs()) {
+            ProfileBuilder builder = loaded.get((UUID) pair[0]);
+            if (builder != null && pair[1] != null) {
+                builder.preferences.set((Integer) pair[1]);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            candidates.clear();
+            lifestyleFrequency.clear();
+            loaded.values().forEach(builder -> put(builder.build()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onListingChanged(ListingChangedEvent event) {
+        if (event.getListingType() != ListingType.ROOMMATE_AD) {
+            return;
+        }
+        Optional<Profile> profile = event.getChangeType() == ListingChangeType.DELETED
+            || event.getChangeType() == ListingChangeType.HIDDEN
+            ? Optional.empty()
+            : roommateAdRepository.findById(event.getListingId())
+                .filter(RoommateAdEntity::isPublished)
+                .map(this::profileOf);
+        lock.writeLock().lock();
+        try {
+            remove(event.getListingId());
+            profile.ifPresent(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Profile profileOf(RoommateAdEntity ad) {
+        ProfileBuilder builder = new ProfileBuilder(ad.getId(), ad.getAuthor() != null ? ad.getAuthor().getId() : null);
+        builder.cityKey = ad.getLocation() != null ? ad.getLocation().getCityKey() : null;
+        builder.rent = ad.getMonthlyRent();
+        builder.availableFrom = ad.getAvailableFrom();
+        RoommateProfileEmbeddable profile = ad.getProfile();
+        if (profile != null) {
+            builder.age = profile.getAge();
+            builder.university = profile.getUniversity();
+            builder.student = Boolean.TRUE.equals(profile.getStudent());
+        }
+        setAll(builder.lifestyle, ad.getLifestyleTagIds());
+        setAll(builder.preferences, ad.getPreferenceTagIds());
+        return builder.build();
+    }
+
+    public Profile profileOf(UserEntity user, Collection<String> interests) {
+        ProfileBuilder builder = new ProfileBuilder(null, user.getId());
+        builder.age = user.getAge();
+        StudentProfileEmbeddable studentProfile = user.getStudentProfile();
+        if (studentProfile != null) {
+            builder.university = studentProfile.getUniversity();
+            builder.student = Boolean.TRUE.equals(studentProfile.getStudent());
+        }
+        setAll(builder.lifestyle, tagDictionary.lookupIds(interests));
+        return builder.build();
+    }
+
+    public List<Match> topMatches(Profile viewer, RoommateSearchCriteria criteria, int limit) {
+        int safeLimit = Math.min(Math.max(limit, 1), MAX_RESULTS);
+        Set<UUID> tagMatches = listingTagIndex.matchRoommates(criteria).orElse(null);
+        Filter filter = new Filter(criteria);
+        PriorityQueue<Match> best = new PriorityQueue<>(safeLimit + 1, WORST_FIRST);
+
+        lock.readLock().lock();
+        try {
+            Map<Integer, Double> weights = tagWeights();
+            for (Profile candidate : candidates.values()) {
+                if (viewer.authorId != null && viewer.authorId.equals(candidate.authorId)) {
+                    continue;
+                }
+                if (!filter.accepts(candidate) || (tagMatches != null && !tagMatches.contains(candidate.adId))) {
+                    continue;
+                }
+                Match match = score(viewer, candidate, weights);
+                if (best.size() < safeLimit) {
+                    best.offer(match);
+                } else if (WORST_FIRST.compare(match, best.peek()) > 0) {
+                    best.poll();
+                    best.offer(match);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Match> ranked = new ArrayList<>(best);
+        ranked.sort(WORST_FIRST.reversed());
+        return ranked;
+    }
+
+    public List<String> labels(BitSet tags) {
+        List<Integer> ids = new ArrayList<>(tags.cardinality());
+        tags.stream().forEach(ids::add);
+        return tagDictionary.labels(ids);
+    }
+
+    private Match score(Profile viewer, Profile candidate, Map<Integer, Double> weights) {
+        List<CompatibilityFactorDto> factors = new ArrayList<>(6);
+        double total = 0;
+        double available = 0;
+
+        if (!viewer.lifestyle.isEmpty()) {
+            double similarity = weightedJaccard(viewer.lifestyle, candidate.lifestyle, weights);
+            factors.add(new CompatibilityFactorDto("lifestyle", LIFESTYLE_WEIGHT, similarity));
+            total += LIFESTYLE_WEIGHT * similarity;
+            available += LIFESTYLE_WEIGHT;
+        }
+        if (!viewer.preferences.isEmpty() || !viewer.lifestyle.isEmpty()) {
+            double similarity = preferenceFit(viewer, candidate, weights);
+            factors.add(new CompatibilityFactorDto("preferences", PREFERENCES_WEIGHT, similarity));
+            total += PREFERENCES_WEIGHT * similarity;
+            available += PREFERENCES_WEIGHT;
+        }
+        if (viewer.age != null) {
+            double similarity = candidate.age != null
+                ? proximity(Math.abs(viewer.age - candidate.age), AGE_SPAN_YEARS)
+                : 0;
+            factors.add(new CompatibilityFactorDto("age", AGE_WEIGHT, similarity));
+            total += AGE_WEIGHT * similarity;
+            available += AGE_WEIGHT;
+        }
+        if (viewer.universityKey != null) {
+            double similarity = viewer.universityKey.equals(candidate.universityKey) ? 1 : 0;
+            factors.add(new CompatibilityFactorDto("university", UNIVERSITY_WEIGHT, similarity));
+            total += UNIVERSITY_WEIGHT * similarity;
+            available += UNIVERSITY_WEIGHT;
+        }
+        if (viewer.rent > 0) {
+            double similarity = candidate.rent > 0
+                ? proximity(Math.abs(viewer.rent - candidate.rent), Math.max(viewer.rent, candidate.rent))
+                : 0;
+            factors.add(new CompatibilityFactorDto("budget", BUDGET_WEIGHT, similarity));
+            total += BUDGET_WEIGHT * similarity;
+            available += BUDGET_WEIGHT;
+        }
+        if (viewer.availableFromDay != null) {
+            double similarity = candidate.availableFromDay != null
+                ? proximity(Math.abs(viewer.availableFromDay - candidate.availableFromDay), MOVE_IN_SPAN_DAYS)
+                : 0;
+            factors.add(new CompatibilityFactorDto("moveIn", MOVE_IN_WEIGHT, similarity));
+            total += MOVE_IN_WEIGHT * similarity;
+            available += MOVE_IN_WEIGHT;
+        }
+
+        double score = available > 0 ? total / available : 0;
+        if (available > 0) {
+            double scale = available;
+            factors.forEach(factor -> factor.setWeight(factor.getWeight() / scale));
+        }
+        BitSet shared = (BitSet) viewer.lifestyle.clone();
+        shared.and(candidate.lifestyle);
+        return new Match(candidate.adId, score, factors, shared);
+    }
+
+    private double preferenceFit(Profile viewer, Profile candidate, Map<Integer, Double> weights) {
+        double sum = 0;
+        int directions = 0;
+        if (!viewer.preferences.isEmpty()) {
+            sum += coverage(viewer.preferences, candidate.lifestyle, weights);
+            directions++;
+        }
+        if (!candidate.preferences.isEmpty()) {
+            sum += coverage(candidate.preferences, viewer.lifestyle, weights);
+            directions++;
+        }
+        return directions > 0 ? sum / directions : 0;
+    }
+
+    private double weightedJaccard(BitSet left, BitSet right, Map<Integer, Double> weights) {
+        double intersection = 0;
+        double union = 0;
+        for (int tag = left.nextSetBit(0); tag >= 0; tag = left.nextSetBit(tag + 1)) {
+            double weight = weights.getOrDefault(tag, 1.0);
+            union += weight;
+            if (right.get(tag)) {
+                intersection += weight;
+            }
+        }
+        for (int tag = right.nextSetBit(0); tag >= 0; tag = right.nextSetBit(tag + 1)) {
+            if (!left.get(tag)) {
+                union += weights.getOrDefault(tag, 1.0);
+            }
+        }
+        return union > 0 ? intersection / union : 0;
+    }
+
+    private double coverage(BitSet wanted, BitSet offered, Map<Integer, Double> weights) {
+        double covered = 0;
+        double total = 0;
+        for (int tag = wanted.nextSetBit(0); tag >= 0; tag = wanted.nextSetBit(tag + 1)) {
+            double weight = weights.getOrDefault(tag, 1.0);
+            total += weight;
+            if (offered.get(tag)) {
+                covered += weight;
+            }
+        }
+        return total > 0 ? covered / total : 0;
+    }
+
+    private double proximity(double distance, double span) {
+        return span > 0 ? Math.max(0, 1 - distance / span) : (distance == 0 ? 1 : 0);
+    }
+
+    private Map<Integer, Double> tagWeights() {
+        // Inverse document frequency: sharing a rare habit says more than sharing a common one.
+        int size = candidates.size();
+        Map<Integer, Double> weights = new HashMap<>(lifestyleFrequency.size() * 2);
+        lifestyleFrequency.forEach((tag, count) -> weights.put(tag, Math.log(1 + (double) size / count)));
+        return weights;
+    }
+
+    private void put(Profile profile) {
+        candidates.put(profile.adId, profile);
+        profile.lifestyle.stream().forEach(tag -> lifestyleFrequency.merge(tag, 1, Integer::sum));
+    }
+
+    private void remove(UUID adId) {
+        Profile previous = candidates.remove(adId);
+        if (previous != null) {
+            previous.lifestyle.stream().forEach(tag -> lifestyleFrequency.computeIfPresent(tag, (key, count) -> count > 1 ? count - 1 : null));
+        }
+    }
+
+    private static void setAll(BitSet bits, Collection<Integer> tagIds) {
+        if (tagIds == null) {
+            return;
+        }
+        for (Integer tagId : tagIds) {
+            if (tagId != null && tagId >= 0) {
+                bits.set(tagId);
+            }
+        }
+    }
+
+    public static final class Match {
+
+        private final UUID adId;
+        private final double score;
+        private final List<CompatibilityFactorDto> factors;
+        private final BitSet sharedLifestyle;
+
+        private Match(UUID adId, double score, List<CompatibilityFactorDto> factors, BitSet sharedLifestyle) {
+            this.adId = adId;
+            this.score = score;
+            this.factors = factors;
+            this.sharedLifestyle = sharedLifestyle;
+        }
+
+        public UUID getAdId() {
+            return adId;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public List<CompatibilityFactorDto> getFactors() {
+            return factors;
+        }
+
+        public BitSet getSharedLifestyle() {
+            return sharedLifestyle;
+        }
+    }
+
+    public static final class Profile {
+
+        private final UUID adId;
+        private final UUID authorId;
+        private final String cityKey;
+        private final double rent;
+        private final Long availableFromDay;
+        private final Integer age;
+        private final String universityKey;
+        private final boolean student;
+        private final BitSet lifestyle;
+        private final BitSet preferences;
+
+        private Profile(ProfileBuilder builder) {
+            this.adId = builder.adId;
+            this.authorId = builder.authorId;
+            this.cityKey = builder.cityKey;
+            this.rent = builder.rent != null ? builder.rent.doubleValue() : 0;
+            this.availableFromDay = builder.availableFrom != null ? builder.availableFrom.toEpochDay() : null;
+            this.age = builder.age;
+            String universityKey = TagDictionary.canonical(builder.university);
+            this.universityKey = universityKey.isEmpty() ? null : universityKey;
+            this.student = builder.student;
+            this.lifestyle = builder.lifestyle;
+            this.preferences = builder.preferences;
+        }
+    }
+
+    private static final class ProfileBuilder {
+
+        private final UUID adId;
+        private final UUID authorId;
+        private String cityKey;
+        private BigDecimal rent;
+        private LocalDate availableFrom;
+        private Integer age;
+        private String university;
+        private boolean student;
+        private final BitSet lifestyle = new BitSet();
+        private final BitSet preferences = new BitSet();
+
+        private ProfileBuilder(UUID adId, UUID authorId) {
+            this.adId = adId;
+            this.authorId = authorId;
+        }
+
+        private Profile build() {
+            return new Profile(this);
+        }
+    }
+
+    private static final class Filter {
+
+        private final double minRent;
+        private final double maxRent;
+        private final String cityKey;
+        private final Long availableBy;
+        private final boolean studentOnly;
+
+        private Filter(RoommateSearchCriteria criteria) {
+            this.minRent = criteria != null && criteria.getMinRent() != null ? criteria.getMinRent().doubleValue() : Double.NEGATIVE_INFINITY;
+            this.maxRent = criteria != null && criteria.getMaxRent() != null ? criteria.getMaxRent().doubleValue() : Double.POSITIVE_INFINITY;
+            this.cityKey = criteria != null ? CityKeys.key(criteria.getCity()) : null;
+            this.availableBy = criteria != null && criteria.getAvailableFrom() != null ? criteria.getAvailableFrom().toEpochDay() : null;
+            this.studentOnly = criteria != null && Boolean.TRUE.equals(criteria.getStudentOnly());
+        }
+
+        private boolean accepts(Profile candidate) {
+            if (candidate.rent < minRent || candidate.rent > maxRent) {
+                return false;
+            }
+            if (cityKey != null && !cityKey.equals(candidate.cityKey)) {
+                return false;
+            }
+            if (availableBy != null && candidate.availableFromDay != null && candidate.availableFromDay > availableBy) {
+                return false;
+            }
+            return !studentOnly || candidate.student;
+        }
+    }
+}
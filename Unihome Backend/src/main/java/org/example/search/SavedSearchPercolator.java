@@ -0,0 +1,363 @@
+package org.example.search;
+
+import org.example.dto.property.PropertySearchCriteria;
+import org.example.dto.roommate.RoommateSearchCriteria;
+import org.example.dto.temporary.TemporaryStaySearchCriteria;
+import org.example.event.ListingChangeType;
+import org.example.event.ListingChangedEvent;
+import org.example.event.ListingsImportedEvent;
+import org.example.model.id.UuidV7Generator;
+import org.example.model.listing.ListingType;
+import org.example.model.search.SavedSearchEntity;
+import org.example.repository.PropertyRepository;
+import org.example.repository.RoommateAdRepository;
+import org.example.repository.SavedSearchRepository;
+import org.example.repository.TemporaryStayRepository;
+import jakarta.annotation.PreDestroy;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reverse search: saved queries are held in memory, bucketed by listing type and city key, and
+ * each newly created or re-published listing is tested only against the queries in its bucket
+ * plus the city-less ones. Matching runs after the listing's transaction commits, on a background
+ * thread, so publishing a listing never waits for it; each batch's matches are written with one
+ * multi-row {@code INSERT IGNORE}.
+ */
+@Component
+public class SavedSearchPercolator {
+
+    private static final Logger log = LoggerFactory.getLogger(SavedSearchPercolator.class);
+
+    private static final String ANY_CITY = "";
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private static final String INSERT_MATCHES = "INSERT IGNORE INTO saved_search_matches "
+        + "(id, saved_search_id, listing_type, listing_id, listing_title, matched_at) VALUES :rows";
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final PropertyRepository propertyRepository;
+    private final RoommateAdRepository roommateAdRepository;
+    private final TemporaryStayRepository temporaryStayRepository;
+    private final ListingCriteriaMatcher matcher;
+    private final ObjectMapper objectMapper;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate percolationTransaction;
+    private final ExecutorService executor;
+    private final Map<ListingType, Map<String, Map<UUID, SavedQuery>>> buckets = new EnumMap<>(ListingType.class);
+    private final Map<UUID, SavedQuery> queries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SavedSearchPercolator(
+        SavedSearchRepository savedSearchRepository,
+        PropertyRepository propertyRepository,
+        RoommateAdRepository roommateAdRepository,
+        TemporaryStayRepository temporaryStayRepository,
+        ListingCriteriaMatcher matcher,
+        ObjectMapper objectMapper,
+        NamedParameterJdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.propertyRepository = propertyRepository;
+        this.roommateAdRepository = roommateAdRepository;
+        this.temporaryStayRepository = temporaryStayRepository;
+        this.matcher = matcher;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.percolationTransaction = new TransactionTemplate(transactionManager);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("saved-search-percolator-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newSingleThreadExecutor(threadFactory);
+        for (ListingType type : ListingType.values()) {
+            buckets.put(type, new HashMap<>());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<SavedSearchEntity> savedSearches = savedSearchRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            buckets.values().forEach(Map::clear);
+            queries.clear();
+            savedSearches.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Picks up searches saved and drops searches deleted through other instances; register and
+     * unregister only reach this one. Only the ids are scanned, plus the searches not loaded yet.
+     */
+    @Scheduled(
+        fixedDelayString = "${unihome.saved-searches.refresh-ms:30000}",
+        initialDelayString = "${unihome.saved-searches.refresh-ms:30000}"
+    )
+    @Transactional(readOnly = true)
+    public void refresh() {
+        long scanned = System.nanoTime();
+        Set<UUID> stored = new HashSet<>(savedSearchRepository.findAllIds());
+        List<UUID> missing;
+        lock.readLock().lock();
+        try {
+            missing = stored.stream().filter(id -> !queries.containsKey(id)).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<SavedSearchEntity> added = missing.isEmpty() ? List.of() : savedSearchRepository.findAllById(missing);
+        lock.writeLock().lock();
+        try {
+            // Searches registered after the scan may belong to a transaction that had not committed yet.
+            List<UUID> deleted = queries.values().stream()
+                .filter(query -> query.registeredAt - scanned < 0 && !stored.contains(query.savedSearchId))
+                .map(query -> query.savedSearchId)
+                .toList();
+            deleted.forEach(this::remove);
+            added.stream().filter(savedSearch -> !queries.containsKey(savedSearch.getId())).forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void register(SavedSearchEntity savedSearch) {
+        lock.writeLock().lock();
+        try {
+            remove(savedSearch.getId());
+            add(savedSearch);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void unregister(UUID savedSearchId) {
+        lock.writeLock().lock();
+        try {
+            remove(savedSearchId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Object readCriteria(ListingType type, String json) {
+        try {
+            return objectMapper.readValue(json, criteriaType(type));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unreadable saved search criteria", ex);
+        }
+    }
+
+    public String writeCriteria(Object criteria) {
+        try {
+            return objectMapper.writeValueAsString(criteria);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to store saved search criteria", ex);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onListingChanged(ListingChangedEvent event) {
+        if (event.getChangeType() == ListingChangeType.CREATED || event.getChangeType() == ListingChangeType.PUBLISHED) {
+            submit(event.getListingType(), List.of(event.getListingId()));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onListingsImported(ListingsImportedEvent event) {
+        submit(event.getListingType(), event.getListingIds());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submit(ListingType type, List<UUID> listingIds) {
+        try {
+            executor.execute(() -> {
+                try {
+                    percolationTransaction.executeWithoutResult(status -> percolate(type, listingIds));
+                } catch (RuntimeException ex) {
+                    log.warn("Could not percolate {} new {} listings against saved searches", listingIds.size(), type, ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            log.debug("Percolator is shut down, skipping {} listings", listingIds.size());
+        }
+    }
+
+    private void percolate(ListingType type, List<UUID> listingIds) {
+        List<Object[]> rows = new ArrayList<>();
+        switch (type) {
+            case PROPERTY -> propertyRepository.findAllById(listingIds).forEach(property -> percolate(
+                rows,
+                ListingType.PROPERTY,
+                property.getId(),
+                property.getTitle(),
+                property.getOwner() != null ? property.getOwner().getId() : null,
+                property.getLocation() != null ? property.getLocation().getCityKey() : null,
+                criteria -> matcher.matches((PropertySearchCriteria) criteria, property)
+            ));
+            case ROOMMATE_AD -> roommateAdRepository.findAllById(listingIds).forEach(ad -> percolate(
+                rows,
+                ListingType.ROOMMATE_AD,
+                ad.getId(),
+                ad.getTitle(),
+                ad.getAuthor() != null ? ad.getAuthor().getId() : null,
+                ad.getLocation() != null ? ad.getLocation().getCityKey() : null,
+                criteria -> matcher.matches((RoommateSearchCriteria) criteria, ad)
+            ));
+            case TEMPORARY_STAY -> temporaryStayRepository.findAllById(listingIds).forEach(stay -> percolate(
+                rows,
+                ListingType.TEMPORARY_STAY,
+                stay.getId(),
+                stay.getTitle(),
+                stay.getManager() != null ? stay.getManager().getId() : null,
+                stay.getLocation() != null ? stay.getLocation().getCityKey() : null,
+                criteria -> matcher.matches((TemporaryStaySearchCriteria) criteria, stay)
+            ));
+        }
+        // Matches that already exist are skipped by the unique key instead of failing the batch.
+        for (int from = 0; from < rows.size(); from += INSERT_BATCH_SIZE) {
+            List<Object[]> chunk = rows.subList(from, Math.min(from + INSERT_BATCH_SIZE, rows.size()));
+            jdbcTemplate.update(INSERT_MATCHES, new MapSqlParameterSource("rows", chunk));
+        }
+    }
+
+    private void percolate(
+        List<Object[]> rows,
+        ListingType type,
+        UUID listingId,
+        String title,
+        UUID publisherId,
+        String cityKey,
+        Predicate<Object> matches
+    ) {
+        List<SavedQuery> candidates = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<String, Map<UUID, SavedQuery>> byCity = buckets.get(type);
+            candidates.addAll(byCity.getOrDefault(ANY_CITY, Map.of()).values());
+            if (cityKey != null) {
+                candidates.addAll(byCity.getOrDefault(cityKey, Map.of()).values());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        for (SavedQuery query : candidates) {
+            if (query.userId.equals(publisherId) || !matches.test(query.criteria)) {
+                continue;
+            }
+            rows.add(new Object[] {
+                toBytes(UuidV7Generator.next()), toBytes(query.savedSearchId), type.name(), toBytes(listingId), title, now
+            });
+        }
+    }
+
+    private void add(SavedSearchEntity savedSearch) {
+        Object criteria;
+        try {
+            criteria = readCriteria(savedSearch.getListingType(), savedSearch.getCriteriaJson());
+        } catch (IllegalStateException ex) {
+            log.warn("Skipping saved search {} with unreadable criteria", savedSearch.getId(), ex);
+            return;
+        }
+        String cityKey = CityKeys.key(cityOf(criteria));
+        SavedQuery query = new SavedQuery(savedSearch.getId(), savedSearch.getUser().getId(), savedSearch.getListingType(),
+            cityKey != null ? cityKey : ANY_CITY, criteria);
+        queries.put(query.savedSearchId, query);
+        buckets.get(query.type).computeIfAbsent(query.bucket, key -> new LinkedHashMap<>()).put(query.savedSearchId, query);
+    }
+
+    private void remove(UUID savedSearchId) {
+        SavedQuery query = queries.remove(savedSearchId);
+        if (query == null) {
+            return;
+        }
+        Map<String, Map<UUID, SavedQuery>> byCity = buckets.get(query.type);
+        Map<UUID, SavedQuery> bucket = byCity.get(query.bucket);
+        if (bucket != null) {
+            bucket.remove(savedSearchId);
+            if (bucket.isEmpty()) {
+                byCity.remove(query.bucket);
+            }
+        }
+    }
+
+    private Class<?> criteriaType(ListingType type) {
+        return switch (type) {
+            case PROPERTY -> PropertySearchCriteria.class;
+            case ROOMMATE_AD -> RoommateSearchCriteria.class;
+            case TEMPORARY_STAY -> TemporaryStaySearchCriteria.class;
+        };
+    }
+
+    private String cityOf(Object criteria) {
+        if (criteria instanceof PropertySearchCriteria property) {
+            return property.getCity();
+        }
+        if (criteria instanceof RoommateSearchCriteria roommate) {
+            return roommate.getCity();
+        }
+        if (criteria instanceof TemporaryStaySearchCriteria stay) {
+            return stay.getCity();
+        }
+        return null;
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+
+    private static final class SavedQuery {
+
+        private final UUID savedSearchId;
+        private final UUID userId;
+        private final ListingType type;
+        private final String bucket;
+        private final Object criteria;
+        private final long registeredAt = System.nanoTime();
+
+        private SavedQuery(UUID savedSearchId, UUID userId, ListingType type, String bucket, Object criteria) {
+            this.savedSearchId = savedSearchId;
+            this.userId = userId;
+            this.type = type;
+            this.bucket = bucket;
+            this.criteria = criteria;
+        }
+    }
+}
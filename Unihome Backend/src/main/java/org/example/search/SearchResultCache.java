@@ -0,0 +1,190 @@
+package org.example.search;
+
+import org.example.dto.common.ListingView;
+import org.example.event.ListingChangedEvent;
+import org.example.event.ListingsImportedEvent;
+import org.example.model.listing.ListingType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Result cache for the listing search endpoints. Keys are the canonical form of the criteria plus
+ * the page and view, so equivalent query strings share an entry. A listing write evicts only the entries
+ * for the cities it was or is in (and the city-less searches); writes without that information
+ * bump the vertical's generation instead, which orphans every older entry of that type. Evictions
+ * run after the indexes searches read have applied the same write, so a search that misses the
+ * evicted entry cannot load and cache a result computed from the index's old state.
+ */
+@Component
+public class SearchResultCache {
+
+    /** Order of the commit listeners that update the in-memory indexes searches read. */
+    public static final int INDEX_LISTENER_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    private static final String CITY = "city";
+
+    private final Cache<Key, Object> cache;
+    private final ObjectMapper objectMapper;
+    private final Map<ListingType, AtomicLong> generations = new EnumMap<>(ListingType.class);
+    private final Map<ListingType, AtomicLong> invalidations = new EnumMap<>(ListingType.class);
+
+    public SearchResultCache(
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${unihome.search.cache.max-entries:2000}") long maxEntries,
+        @Value("${unihome.search.cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "listingSearchResults");
+        for (ListingType type : ListingType.values()) {
+            generations.put(type, new AtomicLong());
+            invalidations.put(type, new AtomicLong());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(ListingType type, ListingView view, Object criteria, int page, int size, Supplier<T> loader) {
+        Map<String, Object> canonical = canonicalize(criteria);
+        String cityKey = CityKeys.key((String) canonical.remove(CITY));
+        Key key = new Key(type, view, generations.get(type).get(), cityKey, serialize(canonical), Math.max(page, 0), Math.max(size, 1));
+        Object cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+        long seen = invalidations.get(type).get();
+        T result = loader.get();
+        // A write that committed while we were loading may not be reflected in the result.
+        if (result != null && invalidations.get(type).get() == seen) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onListingChanged(ListingChangedEvent event) {
+        evict(event.getListingType(), event.getCityKeys());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onListingsImported(ListingsImportedEvent event) {
+        evict(event.getListingType(), event.getCityKeys());
+    }
+
+    private void evict(ListingType type, Collection<String> cityKeys) {
+        invalidations.get(type).incrementAndGet();
+        if (cityKeys.isEmpty()) {
+            generations.get(type).incrementAndGet();
+            return;
+        }
+        cache.asMap().keySet().removeIf(key -> key.type == type && (key.cityKey == null || cityKeys.contains(key.cityKey)));
+    }
+
+    private Map<String, Object> canonicalize(Object criteria) {
+        Map<String, Object> canonical = new TreeMap<>();
+        if (criteria == null) {
+            return canonical;
+        }
+        Map<?, ?> values = objectMapper.convertValue(criteria, Map.class);
+        values.forEach((name, value) -> {
+            Object normalized = normalize(value);
+            if (normalized != null) {
+                canonical.put(name.toString(), normalized);
+            }
+        });
+        return canonical;
+    }
+
+    private Object normalize(Object value) {
+        if (value instanceof String text) {
+            String trimmed = text.trim();
+            return trimmed.isEmpty() ? null : trimmed;
+        }
+        if (value instanceof Collection<?> values) {
+            Collection<String> normalized = new TreeSet<>();
+            for (Object element : values) {
+                Object item = normalize(element);
+                if (item != null) {
+                    normalized.add(item.toString());
+                }
+            }
+            return normalized.isEmpty() ? null : normalized;
+        }
+        return value;
+    }
+
+    private String serialize(Map<String, Object> canonical) {
+        try {
+            return objectMapper.writeValueAsString(canonical);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to build search cache key", ex);
+        }
+    }
+
+    private static final class Key {
+
+        private final ListingType type;
+        private final ListingView view;
+        private final long generation;
+        private final String cityKey;
+        private final String criteria;
+        private final int page;
+        private final int size;
+
+        private Key(ListingType type, ListingView view, long generation, String cityKey, String criteria, int page, int size) {
+            this.type = type;
+            this.view = view;
+            this.generation = generation;
+            this.cityKey = cityKey;
+            this.criteria = criteria;
+            this.page = page;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key key)) {
+                return false;
+            }
+            return generation == key.generation
+                && page == key.page
+                && size == key.size
+                && type == key.type
+                && view == key.view
+                && Objects.equals(cityKey, key.cityKey)
+                && criteria.equals(key.criteria);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, view, generation, cityKey, criteria, page, size);
+        }
+    }
+}
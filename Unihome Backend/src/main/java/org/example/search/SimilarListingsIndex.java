@@ -0,0 +1,672 @@
+package org.example.search;
+
+import org.example.event.ListingChangedEvent;
+import org.example.event.ListingsImportedEvent;
+import org.example.model.listing.ListingType;
+import org.example.model.property.PropertyEntity;
+import org.example.model.temporary.TemporaryStayEntity;
+import org.example.repository.PropertyRepository;
+import org.example.repository.TemporaryStayRepository;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Precomputed "similar listings" table for properties and temporary stays. Each published listing
+ * is reduced to a small feature vector and its {@value #NEIGHBOURS} nearest neighbours are kept in
+ * memory; a periodic job recomputes the whole table and writes only patch the rows they affect,
+ * found through a reverse-neighbour map. Patches are queued after commit and applied in batches on
+ * a background thread.
+ */
+@Component
+public class SimilarListingsIndex {
+
+    public static final int NEIGHBOURS = 12;
+
+    private static final double LOCATION_WEIGHT = 0.35;
+    private static final double PRICE_WEIGHT = 0.25;
+    private static final double AREA_WEIGHT = 0.10;
+    private static final double ROOMS_WEIGHT = 0.05;
+    private static final double CATEGORY_WEIGHT = 0.10;
+    private static final double FEATURES_WEIGHT = 0.15;
+    private static final double NEARBY_KM = 10;
+    private static final double EARTH_RADIUS_KM = 6371;
+    private static final double ALL_WEIGHTS = LOCATION_WEIGHT + PRICE_WEIGHT + AREA_WEIGHT + ROOMS_WEIGHT + CATEGORY_WEIGHT + FEATURES_WEIGHT;
+    /** Geo cell size for the rebuild; a tenth of a degree of latitude is just over {@value #NEARBY_KM} km. */
+    private static final double CELL_DEGREES = 0.1;
+    private static final int LONGITUDE_CELLS = (int) Math.round(360 / CELL_DEGREES);
+
+    private static final Logger log = LoggerFactory.getLogger(SimilarListingsIndex.class);
+
+    private static final Comparator<Neighbour> CLOSEST_FIRST = Comparator.comparingDouble((Neighbour neighbour) -> neighbour.distance)
+        .thenComparing(neighbour -> neighbour.id);
+
+    private final PropertyRepository propertyRepository;
+    private final TemporaryStayRepository temporaryStayRepository;
+    private final Map<ListingType, Table> tables = new EnumMap<>(ListingType.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<ListingType, Set<UUID>> pending = new EnumMap<>(ListingType.class);
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final TransactionTemplate patchTransaction;
+    private final ExecutorService executor;
+    private Map<ListingType, Set<UUID>> changedDuringRebuild;
+
+    public SimilarListingsIndex(
+        PropertyRepository propertyRepository,
+        TemporaryStayRepository temporaryStayRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.propertyRepository = propertyRepository;
+        this.temporaryStayRepository = temporaryStayRepository;
+        this.patchTransaction = new TransactionTemplate(transactionManager);
+        this.patchTransaction.setReadOnly(true);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("similar-listings-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newSingleThreadExecutor(threadFactory);
+        tables.put(ListingType.PROPERTY, new Table());
+        tables.put(ListingType.TEMPORARY_STAY, new Table());
+        pending.put(ListingType.PROPERTY, ConcurrentHashMap.newKeySet());
+        pending.put(ListingType.TEMPORARY_STAY, ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * Builds the first table on the patch thread rather than the startup thread; until it is done
+     * {@link #similar} answers with empty lists and patches wait behind it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        executor.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException ex) {
+                log.warn("Could not build the similar listings table, retrying on the next refresh", ex);
+            }
+        });
+    }
+
+    @Scheduled(
+        fixedDelayString = "${unihome.search.similar-refresh-ms:3600000}",
+        initialDelayString = "${unihome.search.similar-refresh-ms:3600000}"
+    )
+    public void rebuild() {
+        Map<ListingType, Set<UUID>> changed = new EnumMap<>(ListingType.class);
+        changed.put(ListingType.PROPERTY, new HashSet<>());
+        changed.put(ListingType.TEMPORARY_STAY, new HashSet<>());
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            // Only the reads hold a connection; the neighbour search runs outside the transaction.
+            Map<ListingType, Map<UUID, Features>> rows = patchTransaction.execute(status -> loadAll());
+            Table propertyTable = Table.compute(rows.get(ListingType.PROPERTY));
+            Table stayTable = Table.compute(rows.get(ListingType.TEMPORARY_STAY));
+            lock.writeLock().lock();
+            try {
+                tables.put(ListingType.PROPERTY, propertyTable);
+                tables.put(ListingType.TEMPORARY_STAY, stayTable);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        // Patches applied to the old tables after the snapshot was read are replayed on the new ones.
+        changed.forEach(this::enqueue);
+    }
+
+    private Map<ListingType, Map<UUID, Features>> loadAll() {
+        Map<UUID, Features> properties = new HashMap<>();
+        for (Object[] row : propertyRepository.findSimilarityRows()) {
+            Features features = new Features((String) row[1], (Double) row[2], (Double) row[3], (BigDecimal) row[4],
+                (Double) row[5], (Integer) row[6], row[7] != null ? row[7].toString() : null);
+            properties.put((UUID) row[0], features);
+        }
+        addTags(properties, propertyRepository.findAllFeaturePairs());
+
+        Map<UUID, Features> stays = new HashMap<>();
+        for (Object[] row : temporaryStayRepository.findSimilarityRows()) {
+            Features features = new Features((String) row[1], (Double) row[2], (Double) row[3], (BigDecimal) row[4],
+                null, null, row[5] != null ? row[5].toString() : null);
+            stays.put((UUID) row[0], features);
+        }
+        addTags(stays, temporaryStayRepository.findAllAmenityPairs());
+
+        Map<ListingType, Map<UUID, Features>> rows = new EnumMap<>(ListingType.class);
+        rows.put(ListingType.PROPERTY, properties);
+        rows.put(ListingType.TEMPORARY_STAY, stays);
+        return rows;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onListingChanged(ListingChangedEvent event) {
+        enqueue(event.getListingType(), List.of(event.getListingId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onListingsImported(ListingsImportedEvent event) {
+        enqueue(event.getListingType(), event.getListingIds());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public List<UUID> similar(ListingType type, UUID listingId, int limit) {
+        lock.readLock().lock();
+        try {
+            Table table = tables.get(type);
+            List<Neighbour> neighbours = table != null ? table.neighbours.get(listingId) : null;
+            if (neighbours == null) {
+                return List.of();
+            }
+            return neighbours.stream()
+                .limit(Math.min(Math.max(limit, 1), NEIGHBOURS))
+                .map(neighbour -> neighbour.id)
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void enqueue(ListingType type, Collection<UUID> ids) {
+        Set<UUID> queue = pending.get(type);
+        if (queue == null) {
+            return;
+        }
+        queue.addAll(ids);
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException ex) {
+                drainScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Patches every listing queued since the last drain: one read of their current features per
+     * type, then one pass under the write lock. Listings that are gone or hidden are removed.
+     */
+    private void drain() {
+        // Cleared first, so a listing queued while this drain runs schedules another one.
+        drainScheduled.set(false);
+        pending.forEach((type, queue) -> {
+            if (queue.isEmpty()) {
+                return;
+            }
+            List<UUID> ids = new ArrayList<>(queue);
+            queue.removeAll(ids);
+            try {
+                Map<UUID, Features> features = patchTransaction.execute(status -> currentFeatures(type, ids));
+                lock.writeLock().lock();
+                try {
+                    Table table = tables.get(type);
+                    ids.forEach(id -> table.update(id, features.get(id)));
+                    if (changedDuringRebuild != null) {
+                        changedDuringRebuild.get(type).addAll(ids);
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Could not patch similar listings for {} changed {} listings", ids.size(), type, ex);
+            }
+        });
+    }
+
+    private Map<UUID, Features> currentFeatures(ListingType type, List<UUID> ids) {
+        Map<UUID, Features> current = new HashMap<>();
+        if (type == ListingType.PROPERTY) {
+            propertyRepository.findAllById(ids).stream()
+                .filter(PropertyEntity::isPublished)
+                .forEach(property -> {
+                    boolean located = property.getLocation() != null;
+                    Features features = new Features(
+                        located ? property.getLocation().getCityKey() : null,
+                        located ? property.getLocation().getLatitude() : null,
+                        located ? property.getLocation().getLongitude() : null,
+                        property.getPrice(),
+                        property.getArea(),
+                        property.getRooms(),
+                        property.getType() != null ? property.getType().name() : null
+                    );
+                    setAll(features.tags, property.getFeatureTagIds());
+                    current.put(property.getId(), features);
+                });
+            return current;
+        }
+        temporaryStayRepository.findAllById(ids).stream()
+            .filter(TemporaryStayEntity::isPublished)
+            .forEach(stay -> {
+                boolean located = stay.getLocation() != null;
+                Features features = new Features(
+                    located ? stay.getLocation().getCityKey() : null,
+                    located ? stay.getLocation().getLatitude() : null,
+                    located ? stay.getLocation().getLongitude() : null,
+                    stay.getPricePerNight(),
+                    null,
+                    null,
+                    stay.getType() != null ? stay.getType().name() : null
+                );
+                setAll(features.tags, stay.getAmenityTagIds());
+                current.put(stay.getId(), features);
+            });
+        return current;
+    }
+
+    private static void addTags(Map<UUID, Features> listings, List<Object[]> pairs) {
+        for (Object[] pair : pairs) {
+            Features features = listings.get((UUID) pair[0]);
+            if (features != null && pair[1] != null && (Integer) pair[1] >= 0) {
+                features.tags.set((Integer) pair[1]);
+            }
+        }
+    }
+
+    private static void setAll(BitSet bits, Collection<Integer> tagIds) {
+        if (tagIds == null) {
+            return;
+        }
+        for (Integer tagId : tagIds) {
+            if (tagId != null && tagId >= 0) {
+                bits.set(tagId);
+            }
+        }
+    }
+
+    private static final class Table {
+
+        private final Map<UUID, Features> vectors;
+        private final Map<UUID, List<Neighbour>> neighbours = new HashMap<>();
+        private final Map<UUID, Set<UUID>> pointedBy = new HashMap<>();
+
+        private Table() {
+            this(new HashMap<>());
+        }
+
+        private Table(Map<UUID, Features> vectors) {
+            this.vectors = vectors;
+        }
+
+        static Table compute(Map<UUID, Features> vectors) {
+            Table table = new Table(vectors);
+            Buckets buckets = new Buckets(vectors);
+            vectors.forEach((id, features) -> table.setRow(id, buckets.nearest(id, features)));
+            return table;
+        }
+
+        /**
+         * Replaces one listing's vector and patches the rows it affects: the rows that listed it,
+         * found through the reverse map, and the rows it now beats, found in the same single pass
+         * that computes its own neighbours.
+         */
+        void update(UUID id, Features features) {
+            vectors.remove(id);
+            setRow(id, null);
+            Set<UUID> pointers = pointedBy.remove(id);
+            Map<UUID, Double> distances = new HashMap<>();
+            if (features != null) {
+                PriorityQueue<Neighbour> best = new PriorityQueue<>(NEIGHBOURS + 1, CLOSEST_FIRST.reversed());
+                vectors.forEach((otherId, other) -> {
+                    double distance = distance(features, other);
+                    distances.put(otherId, distance);
+                    best.offer(new Neighbour(otherId, distance));
+                    if (best.size() > NEIGHBOURS) {
+                        best.poll();
+                    }
+                });
+                vectors.put(id, features);
+                List<Neighbour> sorted = new ArrayList<>(best);
+                sorted.sort(CLOSEST_FIRST);
+                setRow(id, List.copyOf(sorted));
+            }
+            if (pointers != null) {
+                for (UUID otherId : pointers) {
+                    Double distance = distances.remove(otherId);
+                    List<Neighbour> current = neighbours.get(otherId);
+                    Neighbour worst = current.get(current.size() - 1);
+                    if (distance != null && (current.size() < NEIGHBOURS || distance <= worst.distance)) {
+                        // Still at least as close as the old last entry, so nothing outside the row can beat it.
+                        List<Neighbour> patched = new ArrayList<>(current);
+                        patched.removeIf(neighbour -> neighbour.id.equals(id));
+                        patched.add(new Neighbour(id, distance));
+                        patched.sort(CLOSEST_FIRST);
+                        setRow(otherId, List.copyOf(patched));
+                    } else {
+                        setRow(otherId, nearest(otherId, vectors.get(otherId), vectors));
+                    }
+                }
+            }
+            distances.forEach((otherId, distance) -> {
+                List<Neighbour> current = neighbours.get(otherId);
+                Neighbour candidate = new Neighbour(id, distance);
+                if (current.size() < NEIGHBOURS || CLOSEST_FIRST.compare(candidate, current.get(current.size() - 1)) < 0) {
+                    List<Neighbour> patched = new ArrayList<>(current);
+                    patched.add(candidate);
+                    patched.sort(CLOSEST_FIRST);
+                    setRow(otherId, List.copyOf(patched.subList(0, Math.min(patched.size(), NEIGHBOURS))));
+                }
+            });
+        }
+
+        private void setRow(UUID id, List<Neighbour> row) {
+            List<Neighbour> previous = row != null ? neighbours.put(id, row) : neighbours.remove(id);
+            if (previous != null) {
+                for (Neighbour neighbour : previous) {
+                    Set<UUID> pointers = pointedBy.get(neighbour.id);
+                    if (pointers != null) {
+                        pointers.remove(id);
+                        if (pointers.isEmpty()) {
+                            pointedBy.remove(neighbour.id);
+                        }
+                    }
+                }
+            }
+            if (row != null) {
+                row.forEach(neighbour -> pointedBy.computeIfAbsent(neighbour.id, key -> new HashSet<>()).add(id));
+            }
+        }
+
+        private static List<Neighbour> nearest(UUID id, Features features, Map<UUID, Features> vectors) {
+            PriorityQueue<Neighbour> best = new PriorityQueue<>(NEIGHBOURS + 1, CLOSEST_FIRST.reversed());
+            vectors.forEach((otherId, other) -> {
+                if (!otherId.equals(id)) {
+                    keep(best, new Neighbour(otherId, distance(features, other)));
+                }
+            });
+            return sorted(best);
+        }
+
+        private static void keep(PriorityQueue<Neighbour> best, Neighbour candidate) {
+            best.offer(candidate);
+            if (best.size() > NEIGHBOURS) {
+                best.poll();
+            }
+        }
+
+        private static List<Neighbour> sorted(PriorityQueue<Neighbour> best) {
+            List<Neighbour> sorted = new ArrayList<>(best);
+            sorted.sort(CLOSEST_FIRST);
+            return List.copyOf(sorted);
+        }
+    }
+
+    /**
+     * Listings grouped by city key and by geo cell for the full rebuild. Anything outside a
+     * listing's city and the cells within {@value #NEARBY_KM} km of it pays the full location term,
+     * so after the nearby candidates the rest are walked outwards from the listing's own price and
+     * the walk stops once location and price alone put them behind the current last neighbour.
+     */
+    private static final class Buckets {
+
+        private final Map<UUID, Features> vectors;
+        private final Map<String, List<UUID>> byCity = new HashMap<>();
+        private final Map<Long, List<UUID>> byCell = new HashMap<>();
+        private final UUID[] byPrice;
+        private final double[] logPrices;
+        private final List<UUID> unpriced = new ArrayList<>();
+
+        private Buckets(Map<UUID, Features> vectors) {
+            this.vectors = vectors;
+            List<UUID> priced = new ArrayList<>();
+            vectors.forEach((id, features) -> {
+                if (features.cityKey != null) {
+                    byCity.computeIfAbsent(features.cityKey, key -> new ArrayList<>()).add(id);
+                }
+                if (features.hasCoordinates()) {
+                    byCell.computeIfAbsent(cell(latitudeCell(features.latitude), longitudeCell(features.longitude)), key -> new ArrayList<>()).add(id);
+                }
+                (Double.isNaN(features.logPrice) ? unpriced : priced).add(id);
+            });
+            priced.sort(Comparator.comparingDouble(id -> vectors.get(id).logPrice));
+            byPrice = priced.toArray(UUID[]::new);
+            logPrices = priced.stream().mapToDouble(id -> vectors.get(id).logPrice).toArray();
+        }
+
+        List<Neighbour> nearest(UUID id, Features features) {
+            PriorityQueue<Neighbour> best = new PriorityQueue<>(NEIGHBOURS + 1, CLOSEST_FIRST.reversed());
+            Set<UUID> seen = new HashSet<>();
+            seen.add(id);
+            if (features.cityKey != null) {
+                offerAll(best, seen, features, byCity.get(features.cityKey));
+            }
+            if (features.hasCoordinates()) {
+                int latitudeCell = latitudeCell(features.latitude);
+                double poleward = Math.min(90, Math.abs(features.latitude) + 2 * CELL_DEGREES);
+                double longitudeKm = Math.toRadians(EARTH_RADIUS_KM) * Math.cos(Math.toRadians(poleward)) * CELL_DEGREES;
+                int span = longitudeKm > 0 ? (int) Math.ceil(NEARBY_KM / longitudeKm) : LONGITUDE_CELLS;
+                if (2 * span + 1 >= LONGITUDE_CELLS) {
+                    return Table.nearest(id, features, vectors);
+                }
+                int longitudeCell = longitudeCell(features.longitude);
+                for (int dLat = -1; dLat <= 1; dLat++) {
+                    for (int dLon = -span; dLon <= span; dLon++) {
+                        int wrapped = Math.floorMod(longitudeCell + dLon, LONGITUDE_CELLS);
+                        offerAll(best, seen, features, byCell.get(cell(latitudeCell + dLat, wrapped)));
+                    }
+                }
+            }
+            if (Double.isNaN(features.logPrice)) {
+                if (!beats(best, farBound(1))) {
+                    vectors.forEach((otherId, other) -> offer(best, seen, features, otherId));
+                }
+                return Table.sorted(best);
+            }
+            int right = lowerBound(features.logPrice);
+            int left = right - 1;
+            while (left >= 0 || right < byPrice.length) {
+                double leftGap = left >= 0 ? features.logPrice - logPrices[left] : Double.POSITIVE_INFINITY;
+                double rightGap = right < byPrice.length ? logPrices[right] - features.logPrice : Double.POSITIVE_INFINITY;
+                double gap = Math.min(leftGap, rightGap);
+                if (beats(best, farBound(logDistance(0, gap)))) {
+                    break;
+                }
+                offer(best, seen, features, leftGap <= rightGap ? byPrice[left--] : byPrice[right++]);
+            }
+            if (!beats(best, farBound(1))) {
+                unpriced.forEach(otherId -> offer(best, seen, features, otherId));
+            }
+            return Table.sorted(best);
+        }
+
+        /**
+         * Lower bound on the distance to a listing outside the nearby buckets whose price term is
+         * {@code priceDistance}: full location and that price term over the largest weight sum.
+         */
+        private static double farBound(double priceDistance) {
+            return (LOCATION_WEIGHT + PRICE_WEIGHT * priceDistance) / ALL_WEIGHTS - 1e-9;
+        }
+
+        private static boolean beats(PriorityQueue<Neighbour> best, double bound) {
+            return best.size() == NEIGHBOURS && best.peek().distance < bound;
+        }
+
+        private int lowerBound(double logPrice) {
+            int low = 0;
+            int high = logPrices.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (logPrices[middle] < logPrice) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private void offer(PriorityQueue<Neighbour> best, Set<UUID> seen, Features features, UUID otherId) {
+            if (seen.add(otherId)) {
+                Table.keep(best, new Neighbour(otherId, distance(features, vectors.get(otherId))));
+            }
+        }
+
+        private void offerAll(PriorityQueue<Neighbour> best, Set<UUID> seen, Features features, List<UUID> candidates) {
+            if (candidates != null) {
+                candidates.forEach(otherId -> offer(best, seen, features, otherId));
+            }
+        }
+
+        private static int latitudeCell(double latitude) {
+            return (int) Math.floor((latitude + 90) / CELL_DEGREES);
+        }
+
+        private static int longitudeCell(double longitude) {
+            return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), LONGITUDE_CELLS);
+        }
+
+        private static long cell(int latitudeCell, int longitudeCell) {
+            return (long) latitudeCell * LONGITUDE_CELLS + longitudeCell;
+        }
+    }
+
+    private static double distance(Features left, Features right) {
+        double total = LOCATION_WEIGHT * locationDistance(left, right)
+            + PRICE_WEIGHT * logDistance(left.logPrice, right.logPrice)
+            + FEATURES_WEIGHT * (1 - jaccard(left, right));
+        double weights = LOCATION_WEIGHT + PRICE_WEIGHT + FEATURES_WEIGHT;
+        if (!Double.isNaN(left.logArea) || !Double.isNaN(right.logArea)) {
+            total += AREA_WEIGHT * logDistance(left.logArea, right.logArea);
+            weights += AREA_WEIGHT;
+        }
+        if (left.rooms >= 0 || right.rooms >= 0) {
+            total += ROOMS_WEIGHT * (left.rooms >= 0 && right.rooms >= 0 ? Math.min(Math.abs(left.rooms - right.rooms), 3) / 3.0 : 1);
+            weights += ROOMS_WEIGHT;
+        }
+        if (left.category != null || right.category != null) {
+            total += CATEGORY_WEIGHT * (left.category != null && left.category.equals(right.category) ? 0 : 1);
+            weights += CATEGORY_WEIGHT;
+        }
+        return total / weights;
+    }
+
+    private static double locationDistance(Features left, Features right) {
+        if (left.hasCoordinates() && right.hasCoordinates()) {
+            return Math.min(haversineKm(left, right) / NEARBY_KM, 1);
+        }
+        return left.cityKey != null && left.cityKey.equals(right.cityKey) ? 0.5 : 1;
+    }
+
+    private static double haversineKm(Features left, Features right) {
+        double dLat = Math.toRadians(right.latitude - left.latitude);
+        double dLon = Math.toRadians(right.longitude - left.longitude);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(left.latitude)) * Math.cos(Math.toRadians(right.latitude)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static double logDistance(double left, double right) {
+        if (Double.isNaN(left) || Double.isNaN(right)) {
+            return 1;
+        }
+        // ln(2): twice the price (or area) counts as fully dissimilar.
+        return Math.min(Math.abs(left - right) / Math.log(2), 1);
+    }
+
+    /**
+     * Counts both sides word by word, so the pair loop of a rebuild allocates nothing.
+     */
+    private static double jaccard(Features left, Features right) {
+        long[] leftWords = left.tagWords();
+        long[] rightWords = right.tagWords();
+        int shared = Math.min(leftWords.length, rightWords.length);
+        int intersection = 0;
+        int union = 0;
+        for (int i = 0; i < shared; i++) {
+            intersection += Long.bitCount(leftWords[i] & rightWords[i]);
+            union += Long.bitCount(leftWords[i] | rightWords[i]);
+        }
+        for (int i = shared; i < leftWords.length; i++) {
+            union += Long.bitCount(leftWords[i]);
+        }
+        for (int i = shared; i < rightWords.length; i++) {
+            union += Long.bitCount(rightWords[i]);
+        }
+        return union == 0 ? 0 : (double) intersection / union;
+    }
+
+    private static final class Features {
+
+        private final String cityKey;
+        private final double latitude;
+        private final double longitude;
+        private final double logPrice;
+        private final double logArea;
+        private final int rooms;
+        private final String category;
+        private final BitSet tags = new BitSet();
+        private long[] tagWords;
+
+        private Features(String cityKey, Double latitude, Double longitude, BigDecimal price, Double area, Integer rooms, String category) {
+            this.cityKey = cityKey;
+            this.latitude = latitude != null ? latitude : Double.NaN;
+            this.longitude = longitude != null ? longitude : Double.NaN;
+            this.logPrice = price != null && price.signum() > 0 ? Math.log(price.doubleValue()) : Double.NaN;
+            this.logArea = area != null && area > 0 ? Math.log(area) : Double.NaN;
+            this.rooms = rooms != null ? rooms : -1;
+            this.category = category;
+        }
+
+        /**
+         * The tags as words, taken on first use; tags are only set while the vector is loaded.
+         */
+        private long[] tagWords() {
+            if (tagWords == null) {
+                tagWords = tags.toLongArray();
+            }
+            return tagWords;
+        }
+
+        private boolean hasCoordinates() {
+            return !Double.isNaN(latitude) && !Double.isNaN(longitude);
+        }
+    }
+
+    private static final class Neighbour {
+
+        private final UUID id;
+        private final double distance;
+
+        private Neighbour(UUID id, double distance) {
+            this.id = id;
+            this.distance = distance;
+        }
+    }
+}
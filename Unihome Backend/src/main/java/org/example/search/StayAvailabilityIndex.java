@@ -0,0 +1,192 @@
+package org.example.search;
+
+import org.example.dto.temporary.TemporaryStaySearchCriteria;
+import org.example.event.ListingChangeType;
+import org.example.event.ListingChangedEvent;
+import org.example.exception.ValidationException;
+import org.example.model.availability.AvailabilityWindowEmbeddable;
+import org.example.model.listing.ListingType;
+import org.example.model.temporary.TemporaryStayEntity;
+import org.example.repository.TemporaryStayRepository;
+import org.example.repository.search.IdRestriction;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Free/blocked calendar per temporary stay. The next {@value #HORIZON_DAYS} days are kept as one
+ * bit per night so a date-range check is a single {@link BitSet#nextSetBit}; windows reaching
+ * past the horizon are checked against their raw intervals.
+ */
+@Component
+public class StayAvailabilityIndex {
+
+    public static final int HORIZON_DAYS = 365;
+
+    private final TemporaryStayRepository temporaryStayRepository;
+    private final Map<UUID, StayCalendar> calendars = new ConcurrentHashMap<>();
+
+    public StayAvailabilityIndex(TemporaryStayRepository temporaryStayRepository) {
+        this.temporaryStayRepository = temporaryStayRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${unihome.search.availability-rebuild-cron:0 5 0 * * *}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        LocalDate horizonStart = LocalDate.now();
+        Set<UUID> previous = new HashSet<>(calendars.keySet());
+        Map<UUID, Integer> minNights = new HashMap<>();
+        Map<UUID, List<AvailabilityWindowEmbeddable>> windows = new HashMap<>();
+        for (Object[] row : temporaryStayRepository.findAvailabilityRows()) {
+            UUID id = (UUID) row[0];
+            minNights.put(id, (Integer) row[1]);
+            List<AvailabilityWindowEmbeddable> stayWindows = windows.computeIfAbsent(id, key -> new ArrayList<>());
+            if (row[2] != null) {
+                AvailabilityWindowEmbeddable window = new AvailabilityWindowEmbeddable();
+                window.setStartDate((LocalDate) row[2]);
+                window.setEndDate((LocalDate) row[3]);
+                stayWindows.add(window);
+            }
+        }
+        Map<UUID, StayCalendar> rebuilt = new HashMap<>();
+        minNights.forEach((id, nights) -> rebuilt.put(id, StayCalendar.of(horizonStart, nights, windows.get(id))));
+        calendars.putAll(rebuilt);
+        previous.removeAll(rebuilt.keySet());
+        previous.forEach(calendars::remove);
+    }
+
+    @TransactionalEventListener
+    @Order(SearchResultCache.INDEX_LISTENER_ORDER)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onListingChanged(ListingChangedEvent event) {
+        if (event.getListingType() != ListingType.TEMPORARY_STAY
+            || event.getChangeType() == ListingChangeType.HIDDEN
+            || event.getChangeType() == ListingChangeType.PUBLISHED) {
+            return;
+        }
+        Optional<TemporaryStayEntity> stay = event.getChangeType() == ListingChangeType.DELETED
+            ? Optional.empty()
+            : temporaryStayRepository.findById(event.getListingId());
+        if (stay.isEmpty()) {
+            calendars.remove(event.getListingId());
+            return;
+        }
+        calendars.put(event.getListingId(), calendarOf(stay.get()));
+    }
+
+    /**
+     * The stays free for the requested dates, expressed as whichever of the free or the blocked
+     * stays is the smaller set; every stay is indexed, so the blocked ones are its exact complement.
+     */
+    public Optional<IdRestriction> match(TemporaryStaySearchCriteria criteria) {
+        if (criteria == null || (criteria.getCheckIn() == null && criteria.getCheckOut() == null)) {
+            return Optional.empty();
+        }
+        LocalDate checkIn = criteria.getCheckIn();
+        LocalDate checkOut = criteria.getCheckOut();
+        if (checkIn == null || checkOut == null || !checkOut.isAfter(checkIn)) {
+            throw new ValidationException("Invalid stay dates", Map.of("checkOut", "Check-out must be after check-in"));
+        }
+        Set<UUID> free = new HashSet<>();
+        Set<UUID> blocked = new HashSet<>();
+        calendars.forEach((id, calendar) -> (calendar.isFree(checkIn, checkOut) ? free : blocked).add(id));
+        return Optional.of(blocked.size() <= free.size() ? IdRestriction.except(blocked) : IdRestriction.only(free));
+    }
+
+    public boolean isFree(TemporaryStayEntity stay, LocalDate checkIn, LocalDate checkOut) {
+        return calendarOf(stay).isFree(checkIn, checkOut);
+    }
+
+    private StayCalendar calendarOf(TemporaryStayEntity stay) {
+        List<AvailabilityWindowEmbeddable> windows = stay.getAvailability() != null
+            ? stay.getAvailability().getUnavailable()
+            : List.of();
+        return StayCalendar.of(LocalDate.now(), stay.getMinNights(), windows);
+    }
+
+    private static final class StayCalendar {
+
+        private final LocalDate horizonStart;
+        private final int minNights;
+        private final BitSet blocked;
+        private final List<LocalDate[]> overflow;
+
+        private StayCalendar(LocalDate horizonStart, int minNights, BitSet blocked, List<LocalDate[]> overflow) {
+            this.horizonStart = horizonStart;
+            this.minNights = minNights;
+            this.blocked = blocked;
+            this.overflow = overflow;
+        }
+
+        static StayCalendar of(LocalDate horizonStart, Integer minNights, List<AvailabilityWindowEmbeddable> windows) {
+            BitSet blocked = new BitSet(HORIZON_DAYS);
+            List<LocalDate[]> overflow = new ArrayList<>();
+            LocalDate horizonEnd = horizonStart.plusDays(HORIZON_DAYS);
+            if (windows != null) {
+                for (AvailabilityWindowEmbeddable window : windows) {
+                    if (window == null || window.getStartDate() == null) {
+                        continue;
+                    }
+                    LocalDate start = window.getStartDate();
+                    LocalDate end = window.getEndDate() != null ? window.getEndDate() : start;
+                    if (end.isBefore(start)) {
+                        continue;
+                    }
+                    long from = Math.max(ChronoUnit.DAYS.between(horizonStart, start), 0);
+                    long to = Math.min(ChronoUnit.DAYS.between(horizonStart, end) + 1, HORIZON_DAYS);
+                    if (from < to) {
+                        blocked.set((int) from, (int) to);
+                    }
+                    if (!end.isBefore(horizonEnd)) {
+                        overflow.add(new LocalDate[] {start, end});
+                    }
+                }
+            }
+            return new StayCalendar(horizonStart, minNights != null ? minNights : 1, blocked, List.copyOf(overflow));
+        }
+
+        boolean isFree(LocalDate checkIn, LocalDate checkOut) {
+            if (ChronoUnit.DAYS.between(checkIn, checkOut) < minNights) {
+                return false;
+            }
+            long from = ChronoUnit.DAYS.between(horizonStart, checkIn);
+            long to = ChronoUnit.DAYS.between(horizonStart, checkOut);
+            if (from < 0) {
+                // Past nights are not indexed; the horizon rolls forward daily.
+                from = 0;
+            }
+            if (from < Math.min(to, HORIZON_DAYS)) {
+                int next = blocked.nextSetBit((int) from);
+                if (next >= 0 && next < Math.min(to, HORIZON_DAYS)) {
+                    return false;
+                }
+            }
+            if (to > HORIZON_DAYS) {
+                for (LocalDate[] window : overflow) {
+                    if (window[0].isBefore(checkOut) && !window[1].isBefore(checkIn)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+}
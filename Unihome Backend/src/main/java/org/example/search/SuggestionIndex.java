@@ -0,0 +1,219 @@
+package org.example.search;
+
+import org.example.dto.search.SuggestField;
+import org.example.dto.search.SuggestionResponse;
+import org.example.event.ListingChangeType;
+import org.example.event.ListingChangedEvent;
+import org.example.event.ListingsImportedEvent;
+import org.example.model.listing.ListingType;
+import org.example.model.property.PropertyEntity;
+import org.example.model.roommate.RoommateAdEntity;
+import org.example.model.temporary.TemporaryStayEntity;
+import org.example.repository.PropertyRepository;
+import org.example.repository.RoommateAdRepository;
+import org.example.repository.TemporaryStayRepository;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Typeahead over the cities, areas and amenities used by published listings. Each listing's
+ * contribution is remembered so writes only move the weights of the values that changed. Places
+ * are stored under their folded key and reachable from every alias spelling, so "Athe" finds
+ * Athina while the typed prefix itself is never folded.
+ */
+@Component
+public class SuggestionIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private final PropertyRepository propertyRepository;
+    private final RoommateAdRepository roommateAdRepository;
+    private final TemporaryStayRepository temporaryStayRepository;
+    private final TagDictionary tagDictionary;
+    private final Map<SuggestField, WeightedPrefixTrie> tries = new EnumMap<>(SuggestField.class);
+    private final Map<ListingType, Map<UUID, Map<SuggestField, Map<String, String>>>> contributions = new EnumMap<>(ListingType.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SuggestionIndex(
+        PropertyRepository propertyRepository,
+        RoommateAdRepository roommateAdRepository,
+        TemporaryStayRepository temporaryStayRepository,
+        TagDictionary tagDictionary
+    ) {
+        this.propertyRepository = propertyRepository;
+        this.roommateAdRepository = roommateAdRepository;
+        this.temporaryStayRepository = temporaryStayRepository;
+        this.tagDictionary = tagDictionary;
+        for (SuggestField field : SuggestField.values()) {
+            tries.put(field, field == SuggestField.AMENITY
+                ? new WeightedPrefixTrie(MAX_SUGGESTIONS)
+                : new WeightedPrefixTrie(MAX_SUGGESTIONS, CityKeys.spellings()));
+        }
+        for (ListingType type : ListingType.values()) {
+            contributions.put(type, new HashMap<>());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<ListingType, Map<UUID, Map<SuggestField, Map<String, String>>>> loaded = new EnumMap<>(ListingType.class);
+        for (ListingType type : ListingType.values()) {
+            loaded.put(type, new HashMap<>());
+        }
+
+        for (Object[] row : propertyRepository.findPublishedCities()) {
+            add(loaded.get(ListingType.PROPERTY), (UUID) row[0], SuggestField.CITY, (String) row[1]);
+        }
+
+        Map<UUID, Map<SuggestField, Map<String, String>>> roommates = loaded.get(ListingType.ROOMMATE_AD);
+        for (Object[] row : roommateAdRepository.findPublishedLocations()) {
+            UUID id = (UUID) row[0];
+            roommates.computeIfAbsent(id, key -> new EnumMap<>(SuggestField.class));
+            add(roommates, id, SuggestField.CITY, (String) row[1]);
+            add(roommates, id, SuggestField.AREA, (String) row[2]);
+        }
+        addAmenities(roommates, roommateAdRepository.findAllAmenityPairs());
+
+        Map<UUID, Map<SuggestField, Map<String, String>>> stays = loaded.get(ListingType.TEMPORARY_STAY);
+        for (Object[] row : temporaryStayRepository.findPublishedCities()) {
+            UUID id = (UUID) row[0];
+            stays.computeIfAbsent(id, key -> new EnumMap<>(SuggestField.class));
+            add(stays, id, SuggestField.CITY, (String) row[1]);
+        }
+        addAmenities(stays, temporaryStayRepository.findAllAmenityPairs());
+
+        lock.writeLock().lock();
+        try {
+            tries.values().forEach(WeightedPrefixTrie::clear);
+            contributions.values().forEach(Map::clear);
+            loaded.forEach((type, listings) -> listings.forEach((id, values) -> replace(type, id, values)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onListingChanged(ListingChangedEvent event) {
+        List<UUID> ids = List.of(event.getListingId());
+        Map<UUID, Map<SuggestField, Map<String, String>>> values = event.getChangeType() == ListingChangeType.DELETED
+            || event.getChangeType() == ListingChangeType.HIDDEN
+            ? Map.of()
+            : currentValues(event.getListingType(), ids);
+        apply(event.getListingType(), ids, values);
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onListingsImported(ListingsImportedEvent event) {
+        apply(event.getListingType(), event.getListingIds(), currentValues(event.getListingType(), event.getListingIds()));
+    }
+
+    public List<SuggestionResponse> suggest(SuggestField field, String prefix, int limit) {
+        String key = field == SuggestField.AMENITY ? TagDictionary.canonical(prefix) : CityKeys.prefixKey(prefix);
+        int safeLimit = Math.min(Math.max(limit, 1), MAX_SUGGESTIONS);
+        lock.readLock().lock();
+        try {
+            return tries.get(field).top(key, safeLimit).stream()
+                .map(entry -> new SuggestionResponse(entry.getLabel(), entry.getWeight()))
+                .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(ListingType type, List<UUID> ids, Map<UUID, Map<SuggestField, Map<String, String>>> values) {
+        lock.writeLock().lock();
+        try {
+            ids.forEach(id -> replace(type, id, values.getOrDefault(id, Map.of())));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Map<UUID, Map<SuggestField, Map<String, String>>> currentValues(ListingType type, List<UUID> ids) {
+        Map<UUID, Map<SuggestField, Map<String, String>>> values = new HashMap<>();
+        switch (type) {
+            case PROPERTY -> propertyRepository.findAllById(ids).stream().filter(PropertyEntity::isPublished).forEach(entity -> {
+                Map<SuggestField, Map<String, String>> listing = values.computeIfAbsent(entity.getId(), key -> new EnumMap<>(SuggestField.class));
+                if (entity.getLocation() != null) {
+                    put(listing, SuggestField.CITY, entity.getLocation().getCity());
+                }
+            });
+            case ROOMMATE_AD -> roommateAdRepository.findAllById(ids).stream().filter(RoommateAdEntity::isPublished).forEach(entity -> {
+                Map<SuggestField, Map<String, String>> listing = values.computeIfAbsent(entity.getId(), key -> new EnumMap<>(SuggestField.class));
+                if (entity.getLocation() != null) {
+                    put(listing, SuggestField.CITY, entity.getLocation().getCity());
+                    put(listing, SuggestField.AREA, entity.getLocation().getArea());
+                }
+                tagDictionary.labels(entity.getAmenityTagIds()).forEach(label -> put(listing, SuggestField.AMENITY, label));
+            });
+            case TEMPORARY_STAY -> temporaryStayRepository.findAllById(ids).stream().filter(TemporaryStayEntity::isPublished).forEach(entity -> {
+                Map<SuggestField, Map<String, String>> listing = values.computeIfAbsent(entity.getId(), key -> new EnumMap<>(SuggestField.class));
+                if (entity.getLocation() != null) {
+                    put(listing, SuggestField.CITY, entity.getLocation().getCity());
+                }
+                tagDictionary.labels(entity.getAmenityTagIds()).forEach(label -> put(listing, SuggestField.AMENITY, label));
+            });
+        }
+        return values;
+    }
+
+    private void replace(ListingType type, UUID id, Map<SuggestField, Map<String, String>> values) {
+        Map<UUID, Map<SuggestField, Map<String, String>>> listings = contributions.get(type);
+        Map<SuggestField, Map<String, String>> previous = listings.remove(id);
+        if (previous != null) {
+            previous.forEach((field, keys) -> keys.forEach((key, label) -> tries.get(field).adjust(key, label, -1)));
+        }
+        if (values.isEmpty()) {
+            return;
+        }
+        values.forEach((field, keys) -> keys.forEach((key, label) -> tries.get(field).adjust(key, label, 1)));
+        listings.put(id, values);
+    }
+
+    private void addAmenities(Map<UUID, Map<SuggestField, Map<String, String>>> listings, List<Object[]> pairs) {
+        Set<UUID> published = new HashSet<>(listings.keySet());
+        for (Object[] pair : pairs) {
+            UUID id = (UUID) pair[0];
+            if (published.contains(id)) {
+                add(listings, id, SuggestField.AMENITY, tagDictionary.label((Integer) pair[1]));
+            }
+        }
+    }
+
+    private void add(Map<UUID, Map<SuggestField, Map<String, String>>> listings, UUID id, SuggestField field, String value) {
+        put(listings.computeIfAbsent(id, key -> new EnumMap<>(SuggestField.class)), field, value);
+    }
+
+    private void put(Map<SuggestField, Map<String, String>> values, SuggestField field, String value) {
+        String key = key(field, value);
+        if (!key.isEmpty()) {
+            values.computeIfAbsent(field, ignored -> new LinkedHashMap<>()).putIfAbsent(key, value.trim());
+        }
+    }
+
+    private String key(SuggestField field, String value) {
+        if (field == SuggestField.AMENITY) {
+            return TagDictionary.canonical(value);
+        }
+        String cityKey = CityKeys.key(value);
+        return cityKey != null ? cityKey : "";
+    }
+}
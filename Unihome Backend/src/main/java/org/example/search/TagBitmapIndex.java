@@ -0,0 +1,154 @@
+package org.example.search;
+
+import org.example.dto.common.TagMatchMode;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index with one bitmap per tag value. Listings are addressed by small dense ordinals
+ * (freed ordinals are reused) so the bitmaps stay compact and all-of / any-of filters reduce to
+ * bitwise AND / OR.
+ */
+public class TagBitmapIndex<K> {
+
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final List<UUID> ids = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final Map<String, Map<K, BitSet>> bitmaps = new HashMap<>();
+    private final Map<String, Map<Integer, Set<K>>> tagsByOrdinal = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(UUID id, String field, Collection<K> tags) {
+        lock.writeLock().lock();
+        try {
+            int ordinal = ordinals.computeIfAbsent(id, this::allocate);
+            Map<K, BitSet> fieldBitmaps = bitmaps.computeIfAbsent(field, key -> new HashMap<>());
+            Map<Integer, Set<K>> fieldTags = tagsByOrdinal.computeIfAbsent(field, key -> new HashMap<>());
+            Set<K> previous = fieldTags.remove(ordinal);
+            if (previous != null) {
+                previous.forEach(tag -> clear(fieldBitmaps, tag, ordinal));
+            }
+            Set<K> current = new LinkedHashSet<>(tags);
+            current.forEach(tag -> fieldBitmaps.computeIfAbsent(tag, key -> new BitSet()).set(ordinal));
+            if (!current.isEmpty()) {
+                fieldTags.put(ordinal, current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) {
+                return;
+            }
+            tagsByOrdinal.forEach((field, fieldTags) -> {
+                Set<K> previous = fieldTags.remove(ordinal);
+                if (previous != null) {
+                    Map<K, BitSet> fieldBitmaps = bitmaps.get(field);
+                    previous.forEach(tag -> clear(fieldBitmaps, tag, ordinal));
+                }
+            });
+            ids.set(ordinal, null);
+            freeOrdinals.push(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ordinals.clear();
+            ids.clear();
+            freeOrdinals.clear();
+            bitmaps.clear();
+            tagsByOrdinal.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public BitSet match(String field, Collection<K> tags, TagMatchMode mode) {
+        lock.readLock().lock();
+        try {
+            Map<K, BitSet> fieldBitmaps = bitmaps.getOrDefault(field, Map.of());
+            BitSet result = null;
+            for (K tag : new HashSet<>(tags)) {
+                BitSet bitmap = fieldBitmaps.get(tag);
+                if (mode == TagMatchMode.ANY) {
+                    if (result == null) {
+                        result = new BitSet();
+                    }
+                    if (bitmap != null) {
+                        result.or(bitmap);
+                    }
+                    continue;
+                }
+                if (bitmap == null) {
+                    return new BitSet();
+                }
+                if (result == null) {
+                    result = (BitSet) bitmap.clone();
+                } else {
+                    result.and(bitmap);
+                }
+            }
+            return result != null ? result : new BitSet();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<UUID> resolve(BitSet matches) {
+        lock.readLock().lock();
+        try {
+            Set<UUID> result = new HashSet<>(Math.max(16, matches.cardinality() * 2));
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                UUID id = ordinal < ids.size() ? ids.get(ordinal) : null;
+                if (id != null) {
+                    result.add(id);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int allocate(UUID id) {
+        Integer reused = freeOrdinals.poll();
+        if (reused != null) {
+            ids.set(reused, id);
+            return reused;
+        }
+        ids.add(id);
+        return ids.size() - 1;
+    }
+
+    private void clear(Map<K, BitSet> fieldBitmaps, K tag, int ordinal) {
+        BitSet bitmap = fieldBitmaps.get(tag);
+        if (bitmap == null) {
+            return;
+        }
+        bitmap.clear(ordinal);
+        if (bitmap.isEmpty()) {
+            fieldBitmaps.remove(tag);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.search;
+
+import org.example.model.tag.TagEntity;
+import org.example.repository.TagRepository;
+import jakarta.annotation.PostConstruct;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Shared dictionary for feature, amenity, preference and lifestyle tags. Listings store compact
+ * integer ids; labels are interned here so responses never re-normalize strings on read.
+ */
+@Component
+public class TagDictionary {
+
+    public static final int UNKNOWN_TAG = -1;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final TagRepository tagRepository;
+    private final TransactionTemplate registrationTransaction;
+    private final Map<String, Integer> idsByCanonical = new ConcurrentHashMap<>();
+    private final Map<Integer, String> labelsById = new ConcurrentHashMap<>();
+
+    public TagDictionary(TagRepository tagRepository, PlatformTransactionManager transactionManager) {
+        this.tagRepository = tagRepository;
+        this.registrationTransaction = new TransactionTemplate(transactionManager);
+        this.registrationTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void load() {
+        tagRepository.findAll().forEach(this::remember);
+    }
+
+    public static String canonical(String label) {
+        if (label == null) {
+            return "";
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(label, Normalizer.Form.NFD)).replaceAll("");
+        String lower = stripped.toLowerCase(Locale.ROOT).replace('ς', 'σ');
+        return WHITESPACE.matcher(lower).replaceAll(" ").trim();
+    }
+
+    public List<Integer> resolveIds(Collection<String> labels) {
+        if (labels == null) {
+            return new ArrayList<>();
+        }
+        Map<String, String> requested = new LinkedHashMap<>();
+        for (String label : labels) {
+            String canonical = canonical(label);
+            if (!canonical.isEmpty()) {
+                requested.putIfAbsent(canonical, WHITESPACE.matcher(label.trim()).replaceAll(" "));
+            }
+        }
+        List<String> missing = requested.keySet().stream()
+            .filter(canonical -> !idsByCanonical.containsKey(canonical))
+            .toList();
+        if (!missing.isEmpty()) {
+            register(missing, requested);
+        }
+        List<Integer> ids = new ArrayList<>(requested.size());
+        requested.keySet().forEach(canonical -> ids.add(idsByCanonical.get(canonical)));
+        return ids;
+    }
+
+    public Optional<Integer> findId(String label) {
+        return Optional.ofNullable(idsByCanonical.get(canonical(label)));
+    }
+
+    public List<Integer> lookupIds(Collection<String> labels) {
+        if (labels == null) {
+            return List.of();
+        }
+        return labels.stream()
+            .filter(Objects::nonNull)
+            .filter(label -> !label.isBlank())
+            .map(label -> findId(label).orElse(UNKNOWN_TAG))
+            .distinct()
+            .toList();
+    }
+
+    public String label(Integer id) {
+        String label = labelsById.get(id);
+        if (label == null) {
+            label = tagRepository.findById(id).map(this::remember).orElse(null);
+        }
+        return label;
+    }
+
+    public List<String> labels(Collection<Integer> ids) {
+        if (ids == null) {
+            return new ArrayList<>();
+        }
+        List<String> labels = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            String label = id != null ? label(id) : null;
+            if (label != null) {
+                labels.add(label);
+            }
+        }
+        return labels;
+    }
+
+    private void register(List<String> canonicals, Map<String, String> labels) {
+        registrationTransaction.executeWithoutResult(status -> {
+            canonicals.forEach(canonical -> tagRepository.insertIfAbsent(canonical, labels.get(canonical)));
+            tagRepository.findByCanonicalIn(canonicals).forEach(this::remember);
+        });
+    }
+
+    private String remember(TagEntity tag) {
+        String label = tag.getLabel();
+        idsByCanonical.put(tag.getCanonical(), tag.getId());
+        labelsById.put(tag.getId(), label);
+        return label;
+    }
+}
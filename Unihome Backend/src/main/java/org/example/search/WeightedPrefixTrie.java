@@ -0,0 +1,132 @@
+package org.example.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prefix trie over canonical keys where every node caches the {@code topK} heaviest entries
+ * below it. Lookups only walk the prefix; weight changes re-rank the nodes on the key's path and
+ * on the paths of its alias spellings, which lead to the same entry. Not thread-safe, callers
+ * guard access.
+ */
+public class WeightedPrefixTrie {
+
+    private static final Comparator<Entry> BY_WEIGHT = Comparator
+        .comparingLong(Entry::getWeight).reversed()
+        .thenComparing(Entry::getLabel);
+
+    private final int topK;
+    private final Node root = new Node();
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<String, List<String>> aliases;
+
+    public WeightedPrefixTrie(int topK) {
+        this(topK, Map.of());
+    }
+
+    /**
+     * @param aliases other spellings of a canonical key, each findable by its own prefixes
+     */
+    public WeightedPrefixTrie(int topK, Map<String, List<String>> aliases) {
+        this.topK = topK;
+        this.aliases = aliases;
+    }
+
+    public void adjust(String key, String label, long delta) {
+        if (key == null || key.isEmpty() || delta == 0) {
+            return;
+        }
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            if (delta < 0) {
+                return;
+            }
+            entry = new Entry(label, 0);
+            entries.put(key, entry);
+        }
+        entry.weight += delta;
+        if (entry.weight <= 0) {
+            entries.remove(key);
+            entry = null;
+        }
+        place(key, entry);
+        for (String alias : aliases.getOrDefault(key, List.of())) {
+            place(alias, entry);
+        }
+    }
+
+    public List<Entry> top(String prefix, int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        return node.top.size() <= limit ? node.top : node.top.subList(0, limit);
+    }
+
+    public void clear() {
+        entries.clear();
+        root.children.clear();
+        root.entry = null;
+        root.top = List.of();
+    }
+
+    private void place(String key, Entry entry) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            path.add(node);
+        }
+        node.entry = entry;
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node current = path.get(i);
+            rank(current);
+            if (i > 0 && current.entry == null && current.children.isEmpty()) {
+                path.get(i - 1).children.remove(key.charAt(i - 1));
+            }
+        }
+    }
+
+    private void rank(Node node) {
+        List<Entry> candidates = new ArrayList<>();
+        if (node.entry != null) {
+            candidates.add(node.entry);
+        }
+        node.children.values().forEach(child -> candidates.addAll(child.top));
+        // An entry reachable through a key and its aliases counts once.
+        node.top = candidates.stream().distinct().sorted(BY_WEIGHT).limit(topK).toList();
+    }
+
+    public static final class Entry {
+
+        private final String label;
+        private long weight;
+
+        private Entry(String label, long weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public long getWeight() {
+            return weight;
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private Entry entry;
+        private List<Entry> top = List.of();
+    }
+}
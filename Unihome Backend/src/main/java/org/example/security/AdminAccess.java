@@ -0,0 +1,32 @@
+package org.example.security;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Grants access to the operational endpoints under {@code /api/admin}. There is no admin role, so
+ * admins are the accounts listed in {@code unihome.admin.emails}.
+ */
+@Component("adminAccess")
+public class AdminAccess {
+
+    private final Set<String> adminEmails;
+
+    public AdminAccess(@Value("${unihome.admin.emails:}") List<String> adminEmails) {
+        this.adminEmails = adminEmails.stream()
+            .map(String::trim)
+            .filter(email -> !email.isEmpty())
+            .map(email -> email.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public boolean isAdmin() {
+        UserPrincipal principal = SecurityUtils.getCurrentPrincipal();
+        return principal != null && principal.getEmail() != null
+            && adminEmails.contains(principal.getEmail().toLowerCase(Locale.ROOT));
+    }
+}
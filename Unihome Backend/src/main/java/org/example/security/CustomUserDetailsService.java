@@ -1,6 +1,7 @@
 package org.example.security;
 
 import org.example.model.user.UserEntity;
+import org.example.repository.NaturalIdLookup;
 import org.example.repository.UserRepository;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,9 +14,11 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final NaturalIdLookup naturalIdLookup;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, NaturalIdLookup naturalIdLookup) {
         this.userRepository = userRepository;
+        this.naturalIdLookup = naturalIdLookup;
     }
 
     @Override
@@ -27,7 +30,7 @@ public class CustomUserDetailsService implements UserDetailsService {
     private UserEntity resolveUser(String identifier) {
         return tryParseUuid(identifier)
             .flatMap(userRepository::findById)
-            .orElseGet(() -> userRepository.findByEmail(identifier)
+            .orElseGet(() -> naturalIdLookup.find(UserEntity.class, identifier)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found")));
     }
 
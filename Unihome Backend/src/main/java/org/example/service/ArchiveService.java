@@ -0,0 +1,265 @@
+package org.example.service;
+
+import org.example.dto.archive.ArchivedListingResponse;
+import org.example.event.ListingChangeType;
+import org.example.event.ListingChangedEvent;
+import org.example.exception.ResourceNotFoundException;
+import org.example.mapper.PropertyMapper;
+import org.example.mapper.RoommateMapper;
+import org.example.mapper.TemporaryStayMapper;
+import org.example.model.archive.ListingArchiveEntity;
+import org.example.model.listing.ListingType;
+import org.example.model.property.PropertyEntity;
+import org.example.model.roommate.RoommateAdEntity;
+import org.example.model.temporary.TemporaryStayEntity;
+import org.example.repository.ContactMessageArchiveRepository;
+import org.example.repository.ContactMessageRepository;
+import org.example.repository.ListingArchiveRepository;
+import org.example.repository.PropertyRepository;
+import org.example.repository.RoommateAdRepository;
+import org.example.repository.TemporaryStayRepository;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves cold rows out of the tables every search scans. Listings that have been unpublished for
+ * longer than {@code unihome.archive.listing-months} are stored in {@code listing_archive} as the
+ * JSON document their detail endpoint returned, element collections included, and deleted from the
+ * live tables; contact messages older than {@code unihome.archive.message-days} are copied to
+ * {@code contact_messages_archive}. Work is done in small transactions with a pause in between so
+ * the job never holds long locks or saturates the primary.
+ */
+@Service
+public class ArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveService.class);
+
+    private final PropertyRepository propertyRepository;
+    private final RoommateAdRepository roommateAdRepository;
+    private final TemporaryStayRepository temporaryStayRepository;
+    private final ContactMessageRepository contactMessageRepository;
+    private final ContactMessageArchiveRepository contactMessageArchiveRepository;
+    private final ListingArchiveRepository listingArchiveRepository;
+    private final PropertyMapper propertyMapper;
+    private final RoommateMapper roommateMapper;
+    private final TemporaryStayMapper temporaryStayMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate batchTransaction;
+
+    @Value("${unihome.archive.listing-months:12}")
+    private int listingMonths;
+
+    @Value("${unihome.archive.message-days:365}")
+    private int messageDays;
+
+    @Value("${unihome.archive.batch-size:200}")
+    private int batchSize;
+
+    @Value("${unihome.archive.pause-ms:250}")
+    private long pauseMs;
+
+    @Value("${unihome.archive.max-batches-per-run:200}")
+    private int maxBatchesPerRun;
+
+    public ArchiveService(
+        PropertyRepository propertyRepository,
+        RoommateAdRepository roommateAdRepository,
+        TemporaryStayRepository temporaryStayRepository,
+        ContactMessageRepository contactMessageRepository,
+        ContactMessageArchiveRepository contactMessageArchiveRepository,
+        ListingArchiveRepository listingArchiveRepository,
+        PropertyMapper propertyMapper,
+        RoommateMapper roommateMapper,
+        TemporaryStayMapper temporaryStayMapper,
+        ObjectMapper objectMapper,
+        EntityManager entityManager,
+        ApplicationEventPublisher eventPublisher,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.propertyRepository = propertyRepository;
+        this.roommateAdRepository = roommateAdRepository;
+        this.temporaryStayRepository = temporaryStayRepository;
+        this.contactMessageRepository = contactMessageRepository;
+        this.contactMessageArchiveRepository = contactMessageArchiveRepository;
+        this.listingArchiveRepository = listingArchiveRepository;
+        this.propertyMapper = propertyMapper;
+        this.roommateMapper = roommateMapper;
+        this.temporaryStayMapper = temporaryStayMapper;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${unihome.archive.cron:0 30 3 * * *}")
+    public void archive() {
+        Instant now = Instant.now();
+        // Listings hidden before unpublished_at existed start their clock on the first run.
+        batchTransaction.executeWithoutResult(status -> {
+            propertyRepository.startUnpublishedClock(now);
+            roommateAdRepository.startUnpublishedClock(now);
+            temporaryStayRepository.startUnpublishedClock(now);
+        });
+
+        Instant listingCutoff = now.atOffset(ZoneOffset.UTC).minusMonths(listingMonths).toInstant();
+        Instant messageCutoff = now.atOffset(ZoneOffset.UTC).minusDays(messageDays).toInstant();
+        int properties = drain(() -> archiveProperties(listingCutoff, now));
+        int roommateAds = drain(() -> archiveRoommateAds(listingCutoff, now));
+        int temporaryStays = drain(() -> archiveTemporaryStays(listingCutoff, now));
+        int messages = drain(() -> archiveContactMessages(messageCutoff, now));
+        if (properties + roommateAds + temporaryStays + messages > 0) {
+            log.info("Archived {} properties, {} roommate ads, {} temporary stays and {} contact messages",
+                properties, roommateAds, temporaryStays, messages);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<ArchivedListingResponse> listArchived(UUID ownerId) {
+        return listingArchiveRepository.findByOwnerIdOrderByArchivedAtDesc(ownerId).stream()
+            .map(this::toResponse)
+            .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public ArchivedListingResponse getArchived(UUID ownerId, UUID listingId) {
+        return listingArchiveRepository.findById(listingId)
+            .filter(archived -> ownerId.equals(archived.getOwnerId()))
+            .map(this::toResponse)
+            .orElseThrow(() -> new ResourceNotFoundException("Archived listing not found"));
+    }
+
+    private int drain(Supplier<Integer> batch) {
+        int total = 0;
+        for (int run = 0; run < maxBatchesPerRun; run++) {
+            Integer moved = batchTransaction.execute(status -> batch.get());
+            entityManager.clear();
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+            try {
+                Thread.sleep(pauseMs);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return total;
+    }
+
+    private int archiveProperties(Instant cutoff, Instant now) {
+        List<PropertyEntity> batch = propertyRepository.findByPublishedFalseAndUnpublishedAtBefore(cutoff, oldestFirst());
+        for (PropertyEntity property : batch) {
+            persist(ListingType.PROPERTY, property.getId(), property.getOwner() != null ? property.getOwner().getId() : null,
+                property.getTitle(), propertyMapper.toResponse(property), property.getCreatedAt(), property.getUnpublishedAt(), now);
+            publishDeleted(ListingType.PROPERTY, property.getId(), property.getLocation() != null ? property.getLocation().getCityKey() : null);
+        }
+        propertyRepository.deleteAll(batch);
+        return batch.size();
+    }
+
+    private int archiveRoommateAds(Instant cutoff, Instant now) {
+        List<RoommateAdEntity> batch = roommateAdRepository.findByPublishedFalseAndUnpublishedAtBefore(cutoff, oldestFirst());
+        for (RoommateAdEntity ad : batch) {
+            persist(ListingType.ROOMMATE_AD, ad.getId(), ad.getAuthor() != null ? ad.getAuthor().getId() : null,
+                ad.getTitle(), roommateMapper.toResponse(ad, ad.getRatings()), ad.getCreatedAt(), ad.getUnpublishedAt(), now);
+            publishDeleted(ListingType.ROOMMATE_AD, ad.getId(), ad.getLocation() != null ? ad.getLocation().getCityKey() : null);
+        }
+        roommateAdRepository.deleteAll(batch);
+        return batch.size();
+    }
+
+    private int archiveTemporaryStays(Instant cutoff, Instant now) {
+        List<TemporaryStayEntity> batch = temporaryStayRepository.findByPublishedFalseAndUnpublishedAtBefore(cutoff, oldestFirst());
+        for (TemporaryStayEntity stay : batch) {
+            persist(ListingType.TEMPORARY_STAY, stay.getId(), stay.getManager() != null ? stay.getManager().getId() : null,
+                stay.getTitle(), temporaryStayMapper.toResponse(stay), stay.getCreatedAt(), stay.getUnpublishedAt(), now);
+            publishDeleted(ListingType.TEMPORARY_STAY, stay.getId(), stay.getLocation() != null ? stay.getLocation().getCityKey() : null);
+        }
+        temporaryStayRepository.deleteAll(batch);
+        return batch.size();
+    }
+
+    private int archiveContactMessages(Instant cutoff, Instant now) {
+        List<UUID> ids = contactMessageRepository.findIdsCreatedBefore(cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        contactMessageArchiveRepository.copyFrom(ids, now);
+        contactMessageRepository.deleteAllByIdInBatch(ids);
+        return ids.size();
+    }
+
+    private Pageable oldestFirst() {
+        return PageRequest.of(0, batchSize, Sort.by("unpublishedAt"));
+    }
+
+    private void persist(ListingType type, UUID id, UUID ownerId, String title, Object listing,
+                         Instant createdAt, Instant unpublishedAt, Instant archivedAt) {
+        ListingArchiveEntity archived = new ListingArchiveEntity();
+        archived.setId(id);
+        archived.setListingType(type);
+        archived.setOwnerId(ownerId);
+        archived.setTitle(title);
+        archived.setPayload(writePayload(listing));
+        archived.setCreatedAt(createdAt);
+        archived.setUnpublishedAt(unpublishedAt);
+        archived.setArchivedAt(archivedAt);
+        // Assigned ids make save() merge (and select) first; these rows are always new.
+        entityManager.persist(archived);
+    }
+
+    private void publishDeleted(ListingType type, UUID id, String cityKey) {
+        eventPublisher.publishEvent(new ListingChangedEvent(type, id, ListingChangeType.DELETED,
+            cityKey != null ? Set.of(cityKey) : Set.of()));
+    }
+
+    private String writePayload(Object listing) {
+        try {
+            return objectMapper.writeValueAsString(listing);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize archived listing", ex);
+        }
+    }
+
+    private ArchivedListingResponse toResponse(ListingArchiveEntity archived) {
+        ArchivedListingResponse response = new ArchivedListingResponse();
+        response.setId(archived.getId());
+        response.setType(archived.getListingType());
+        response.setTitle(archived.getTitle());
+        response.setCreatedAt(archived.getCreatedAt());
+        response.setUnpublishedAt(archived.getUnpublishedAt());
+        response.setArchivedAt(archived.getArchivedAt());
+        try {
+            response.setListing(objectMapper.readTree(archived.getPayload()));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to read archived listing", ex);
+        }
+        return response;
+    }
+}
@@ -12,6 +12,7 @@ import org.example.model.user.OwnerProfileEmbeddable;
 import org.example.model.user.StudentProfileEmbeddable;
 import org.example.model.user.UserEntity;
 import org.example.model.user.UserRole;
+import org.example.repository.NaturalIdLookup;
 import org.example.repository.UserRepository;
 import org.example.security.JwtTokenProvider;
 import java.util.HashMap;
@@ -29,6 +30,7 @@ public class AuthService {
 
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
+    private final NaturalIdLookup naturalIdLookup;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserMapper userMapper;
@@ -36,12 +38,14 @@ public class AuthService {
     public AuthService(
         AuthenticationManager authenticationManager,
         UserRepository userRepository,
+        NaturalIdLookup naturalIdLookup,
         PasswordEncoder passwordEncoder,
         JwtTokenProvider jwtTokenProvider,
         UserMapper userMapper
     ) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
+        this.naturalIdLookup = naturalIdLookup;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
         this.userMapper = userMapper;
@@ -102,7 +106,7 @@ public class AuthService {
             throw new UnauthorizedException("Invalid email or password");
         }
 
-        UserEntity user = userRepository.findByEmail(request.getEmail().toLowerCase())
+        UserEntity user = naturalIdLookup.find(UserEntity.class, request.getEmail().toLowerCase())
             .orElseThrow(() -> new UnauthorizedException("Invalid email or password"));
         return buildAuthResponse(user);
     }
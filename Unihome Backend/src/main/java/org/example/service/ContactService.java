@@ -49,13 +49,14 @@ public class ContactService {
         entity.setMessage(request.getMessage().trim());
         ContactMessageEntity saved = contactMessageRepository.save(entity);
 
-        boolean emailSent = sendEmailIfPossible(saved);
+        Optional<String> recipient = resolveRecipientEmail();
+        boolean emailSent = sendEmailIfPossible(saved, recipient);
 
         ContactMessageResponse response = new ContactMessageResponse();
         response.setId(saved.getId());
         response.setCreatedAt(saved.getCreatedAt());
         response.setEmailSent(emailSent);
-        response.setRecipientEmail(resolveRecipientEmail().orElse(null));
+        response.setRecipientEmail(recipient.orElse(null));
         return response;
     }
 
@@ -67,8 +68,7 @@ public class ContactService {
         return trimmed.isEmpty() ? null : trimmed;
     }
 
-    private boolean sendEmailIfPossible(ContactMessageEntity message) {
-        Optional<String> recipientOpt = resolveRecipientEmail();
+    private boolean sendEmailIfPossible(ContactMessageEntity message, Optional<String> recipientOpt) {
         if (recipientOpt.isEmpty()) {
             log.warn("No active contact recipient configured; skipping email send");
             return false;
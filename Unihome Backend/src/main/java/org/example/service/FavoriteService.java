@@ -1,17 +1,31 @@
 package org.example.service;
 
+import org.example.dto.common.ListingCardResponse;
+import org.example.dto.common.PagedResponse;
+import org.example.dto.favorite.FavoriteFlagsRequest;
+import org.example.dto.favorite.FavoriteFlagsResponse;
 import org.example.dto.favorite.FavoriteResponse;
 import org.example.dto.favorite.ToggleFavoriteRequest;
 import org.example.dto.favorite.ToggleFavoriteResponse;
+import org.example.event.FavoritesChangedEvent;
 import org.example.mapper.FavoriteMapper;
 import org.example.model.favorite.FavoriteEntity;
 import org.example.model.favorite.FavoriteType;
-import org.example.model.user.UserEntity;
+import org.example.model.id.UuidV7Generator;
 import org.example.repository.FavoriteRepository;
+import org.example.search.FavoriteSetCache;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,12 +34,28 @@ public class FavoriteService {
 
     private final FavoriteRepository favoriteRepository;
     private final FavoriteMapper favoriteMapper;
-    private final UserService userService;
+    private final FavoriteSetCache favoriteSetCache;
+    private final PropertyService propertyService;
+    private final RoommateService roommateService;
+    private final TemporaryStayService temporaryStayService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public FavoriteService(FavoriteRepository favoriteRepository, FavoriteMapper favoriteMapper, UserService userService) {
+    public FavoriteService(
+        FavoriteRepository favoriteRepository,
+        FavoriteMapper favoriteMapper,
+        FavoriteSetCache favoriteSetCache,
+        PropertyService propertyService,
+        RoommateService roommateService,
+        TemporaryStayService temporaryStayService,
+        ApplicationEventPublisher eventPublisher
+    ) {
         this.favoriteRepository = favoriteRepository;
         this.favoriteMapper = favoriteMapper;
-        this.userService = userService;
+        this.favoriteSetCache = favoriteSetCache;
+        this.propertyService = propertyService;
+        this.roommateService = roommateService;
+        this.temporaryStayService = temporaryStayService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -41,29 +71,86 @@ public class FavoriteService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Favorites as listing cards, newest first. Each type's targets are loaded with one card query;
+     * deleted and unpublished listings are dropped before paging so pages stay full.
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<ListingCardResponse> listFavoriteCards(UUID userId, FavoriteType type, int page, int size) {
+        List<Object[]> favorites = favoriteRepository.findTargetsNewestFirst(userId, type);
+        Map<FavoriteType, List<UUID>> idsByType = new EnumMap<>(FavoriteType.class);
+        for (Object[] favorite : favorites) {
+            idsByType.computeIfAbsent((FavoriteType) favorite[0], key -> new ArrayList<>()).add((UUID) favorite[1]);
+        }
+        Map<UUID, ListingCardResponse> cards = new HashMap<>();
+        idsByType.forEach((favoriteType, ids) -> cardsOf(favoriteType, ids).forEach(card -> cards.put(card.getId(), card)));
+        List<ListingCardResponse> live = favorites.stream()
+            .map(favorite -> cards.get((UUID) favorite[1]))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+
+        int pageSize = Math.max(size, 1);
+        int pageNumber = Math.max(page, 0);
+        int from = (int) Math.min((long) pageNumber * pageSize, live.size());
+        int to = Math.min(from + pageSize, live.size());
+        int totalPages = (live.size() + pageSize - 1) / pageSize;
+        return new PagedResponse<>(new ArrayList<>(live.subList(from, to)), live.size(), totalPages, pageNumber, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public FavoriteFlagsResponse flags(UUID userId, FavoriteFlagsRequest request) {
+        Map<FavoriteType, Set<UUID>> favorites = favoriteSetCache.favorites(userId);
+        Map<UUID, Boolean> flags = new LinkedHashMap<>();
+        for (UUID targetId : request.getTargetIds()) {
+            boolean favorite = request.getType() != null
+                ? favorites.get(request.getType()).contains(targetId)
+                : favorites.values().stream().anyMatch(ids -> ids.contains(targetId));
+            flags.put(targetId, favorite);
+        }
+        FavoriteFlagsResponse response = new FavoriteFlagsResponse();
+        response.setFlags(flags);
+        return response;
+    }
+
     @Transactional
     public ToggleFavoriteResponse toggleFavorite(UUID userId, ToggleFavoriteRequest request) {
-        FavoriteType type = request.getType();
-        UUID targetId = request.getTargetId();
-        Optional<FavoriteEntity> existing = favoriteRepository.findByUserIdAndTypeAndTargetId(userId, type, targetId);
-        if (existing.isPresent()) {
-            favoriteRepository.delete(existing.get());
+        // A rapid second toggle can find nothing to delete and then lose the insert race; both
+        // requests then report the favorite as set, which is what the user clicked for.
+        if (favoriteRepository.deleteTarget(userId, request.getType(), request.getTargetId()) > 0) {
+            eventPublisher.publishEvent(new FavoritesChangedEvent(userId));
             ToggleFavoriteResponse response = new ToggleFavoriteResponse();
             response.setFavorite(false);
             response.setFavoriteEntry(null);
             return response;
         }
+        return addFavorite(userId, request.getType(), request.getTargetId());
+    }
 
-        UserEntity user = userService.findUser(userId);
-        FavoriteEntity entity = new FavoriteEntity();
-        entity.setUser(user);
-        entity.setType(type);
-        entity.setTargetId(targetId);
-        FavoriteEntity saved = favoriteRepository.save(entity);
-
+    @Transactional
+    public ToggleFavoriteResponse addFavorite(UUID userId, FavoriteType type, UUID targetId) {
+        if (favoriteRepository.insertIfAbsent(UuidV7Generator.next(), userId, type.name(), targetId, Instant.now()) > 0) {
+            eventPublisher.publishEvent(new FavoritesChangedEvent(userId));
+        }
         ToggleFavoriteResponse response = new ToggleFavoriteResponse();
         response.setFavorite(true);
-        response.setFavoriteEntry(favoriteMapper.toResponse(saved));
+        response.setFavoriteEntry(favoriteRepository.findByUserIdAndTypeAndTargetId(userId, type, targetId)
+            .map(favoriteMapper::toResponse)
+            .orElse(null));
         return response;
     }
+
+    @Transactional
+    public void removeFavorite(UUID userId, FavoriteType type, UUID targetId) {
+        if (favoriteRepository.deleteTarget(userId, type, targetId) > 0) {
+            eventPublisher.publishEvent(new FavoritesChangedEvent(userId));
+        }
+    }
+
+    private List<ListingCardResponse> cardsOf(FavoriteType type, List<UUID> ids) {
+        return switch (type) {
+            case PROPERTY -> propertyService.findCards(ids);
+            case ROOMMATE_AD -> roommateService.findCards(ids);
+            case TEMPORARY_STAY -> temporaryStayService.findCards(ids);
+        };
+    }
 }
@@ -0,0 +1,277 @@
+package org.example.service;
+
+import org.example.dto.temporary.CreateTemporaryStayRequest;
+import org.example.dto.temporary.TemporaryStayContactDto;
+import org.example.dto.temporary.TemporaryStayLocationDto;
+import org.example.dto.temporary.UpdateTemporaryStayRequest;
+import org.example.event.ListingChangeType;
+import org.example.event.ListingChangedEvent;
+import org.example.event.ListingsImportedEvent;
+import org.example.mapper.TemporaryStayMapper;
+import org.example.model.listing.ListingType;
+import org.example.model.property.PropertyEntity;
+import org.example.model.temporary.TemporaryStayCostCategory;
+import org.example.model.temporary.TemporaryStayEntity;
+import org.example.model.temporary.TemporaryStayPurpose;
+import org.example.model.temporary.TemporaryStayType;
+import org.example.repository.PropertyRepository;
+import org.example.repository.TemporaryStayRepository;
+import org.example.search.TagDictionary;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps the hospitality stay of each opted-in property as a projection of the property. Property
+ * changes are applied after the owner's transaction commits, on a single background thread, by an
+ * idempotent upsert keyed by {@code linked_property_id}; failures are retried with backoff and a
+ * periodic sweep re-projects any property whose stay is missing or left over.
+ */
+@Service
+public class HospitalityProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(HospitalityProjector.class);
+
+    private static final String TITLE_SUFFIX = " – Φιλοξενία";
+
+    private final PropertyRepository propertyRepository;
+    private final TemporaryStayRepository temporaryStayRepository;
+    private final TemporaryStayMapper temporaryStayMapper;
+    private final TagDictionary tagDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate projectionTransaction;
+    private final ScheduledExecutorService executor;
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+    @Value("${unihome.hospitality.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${unihome.hospitality.retry-delay-ms:1000}")
+    private long retryDelayMs;
+
+    public HospitalityProjector(
+        PropertyRepository propertyRepository,
+        TemporaryStayRepository temporaryStayRepository,
+        TemporaryStayMapper temporaryStayMapper,
+        TagDictionary tagDictionary,
+        ApplicationEventPublisher eventPublisher,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.propertyRepository = propertyRepository;
+        this.temporaryStayRepository = temporaryStayRepository;
+        this.temporaryStayMapper = temporaryStayMapper;
+        this.tagDictionary = tagDictionary;
+        this.eventPublisher = eventPublisher;
+        this.projectionTransaction = new TransactionTemplate(transactionManager);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("hospitality-projector-");
+        threadFactory.setDaemon(true);
+        // One worker: projections of the same property never race each other.
+        this.executor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onListingChanged(ListingChangedEvent event) {
+        if (event.getListingType() != ListingType.PROPERTY) {
+            return;
+        }
+        ListingChangeType changeType = event.getChangeType();
+        if (changeType == ListingChangeType.HIDDEN || changeType == ListingChangeType.PUBLISHED) {
+            return;
+        }
+        enqueue(event.getListingId());
+    }
+
+    /**
+     * Imported rows that did not opt in have nothing to project; the filter runs on the projector
+     * thread so the import does not wait for it.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onListingsImported(ListingsImportedEvent event) {
+        if (event.getListingType() != ListingType.PROPERTY) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    List<UUID> optedIn = projectionTransaction.execute(status -> propertyRepository.findHospitalityOptInIds(event.getListingIds()));
+                    if (optedIn != null) {
+                        optedIn.forEach(this::enqueue);
+                    }
+                } catch (RuntimeException ex) {
+                    log.warn("Could not queue hospitality projections of {} imported properties; the reconcile sweep will pick them up",
+                        event.getListingIds().size(), ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            log.debug("Projector is shut down, skipping {} imported properties", event.getListingIds().size());
+        }
+    }
+
+    @Scheduled(
+        fixedDelayString = "${unihome.hospitality.reconcile-ms:600000}",
+        initialDelayString = "${unihome.hospitality.reconcile-initial-delay-ms:60000}"
+    )
+    public void reconcile() {
+        Set<UUID> drifted = projectionTransaction.execute(status -> {
+            Set<UUID> ids = new LinkedHashSet<>(propertyRepository.findHospitalityIdsWithoutStay());
+            ids.addAll(temporaryStayRepository.findOrphanedLinkedPropertyIds());
+            return ids;
+        });
+        if (drifted == null || drifted.isEmpty()) {
+            return;
+        }
+        log.info("Re-projecting hospitality stays of {} properties", drifted.size());
+        drifted.forEach(this::enqueue);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void enqueue(UUID propertyId) {
+        // Projections read the property's current state, so one queued run covers any number of changes.
+        if (pending.add(propertyId)) {
+            submit(propertyId, 1, 0);
+        }
+    }
+
+    private void submit(UUID propertyId, int attempt, long delayMs) {
+        try {
+            executor.schedule(() -> run(propertyId, attempt), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            pending.remove(propertyId);
+        }
+    }
+
+    private void run(UUID propertyId, int attempt) {
+        pending.remove(propertyId);
+        try {
+            projectionTransaction.executeWithoutResult(status -> project(propertyId));
+        } catch (RuntimeException ex) {
+            if (attempt >= maxAttempts) {
+                log.error("Giving up projecting the hospitality stay of property {} after {} attempts", propertyId, attempt, ex);
+                return;
+            }
+            log.warn("Projecting the hospitality stay of property {} failed (attempt {}), retrying", propertyId, attempt, ex);
+            if (pending.add(propertyId)) {
+                submit(propertyId, attempt + 1, retryDelayMs << (attempt - 1));
+            }
+        }
+    }
+
+    private void project(UUID propertyId) {
+        PropertyEntity property = propertyRepository.findById(propertyId).orElse(null);
+        TemporaryStayEntity stay = temporaryStayRepository.findByLinkedPropertyId(propertyId).orElse(null);
+
+        if (property == null || !property.isHospitalityOptIn()) {
+            if (stay != null) {
+                temporaryStayRepository.delete(stay);
+                publishChange(stay.getId(), ListingChangeType.DELETED, cityKeyOf(stay));
+            }
+            if (property != null && property.getHospitalityListingId() != null) {
+                propertyRepository.updateHospitalityListingId(propertyId, null);
+            }
+            return;
+        }
+
+        if (stay == null) {
+            stay = temporaryStayMapper.toEntity(buildCreateRequest(property));
+            stay.setManager(property.getOwner());
+            stay.setPublished(true);
+            stay = temporaryStayRepository.save(stay);
+            publishChange(stay.getId(), ListingChangeType.CREATED, cityKeyOf(stay));
+        } else {
+            String previousCityKey = cityKeyOf(stay);
+            temporaryStayMapper.apply(stay, buildUpdateRequest(property));
+            publishChange(stay.getId(), ListingChangeType.UPDATED, previousCityKey, cityKeyOf(stay));
+        }
+        if (!Objects.equals(property.getHospitalityListingId(), stay.getId())) {
+            propertyRepository.updateHospitalityListingId(propertyId, stay.getId());
+        }
+    }
+
+    private void publishChange(UUID stayId, ListingChangeType changeType, String... cityKeys) {
+        eventPublisher.publishEvent(new ListingChangedEvent(ListingType.TEMPORARY_STAY, stayId, changeType, Arrays.asList(cityKeys)));
+    }
+
+    private String cityKeyOf(TemporaryStayEntity stay) {
+        return stay.getLocation() != null ? stay.getLocation().getCityKey() : null;
+    }
+
+    private CreateTemporaryStayRequest buildCreateRequest(PropertyEntity property) {
+        CreateTemporaryStayRequest request = new CreateTemporaryStayRequest();
+        request.setTitle(property.getTitle() + TITLE_SUFFIX);
+        request.setDescription(property.getDescription());
+        request.setType(TemporaryStayType.HOSTING);
+        request.setPricePerNight(BigDecimal.ZERO);
+        request.setMinNights(1);
+        request.setCostCategory(TemporaryStayCostCategory.FREE);
+        request.setLocation(toTemporaryLocation(property));
+        request.setContact(toTemporaryContact(property));
+        request.setAmenities(tagDictionary.labels(property.getFeatureTagIds()));
+        request.setImages(property.getImages() != null ? new ArrayList<>(property.getImages()) : new ArrayList<>());
+        request.setPurpose(TemporaryStayPurpose.HOSPITALITY);
+        request.setLinkedPropertyId(property.getId());
+        return request;
+    }
+
+    private UpdateTemporaryStayRequest buildUpdateRequest(PropertyEntity property) {
+        UpdateTemporaryStayRequest request = new UpdateTemporaryStayRequest();
+        request.setTitle(property.getTitle() + TITLE_SUFFIX);
+        request.setDescription(property.getDescription());
+        request.setType(TemporaryStayType.HOSTING);
+        request.setPricePerNight(BigDecimal.ZERO);
+        request.setMinNights(1);
+        request.setCostCategory(TemporaryStayCostCategory.FREE);
+        request.setLocation(toTemporaryLocation(property));
+        request.setContact(toTemporaryContact(property));
+        request.setAmenities(tagDictionary.labels(property.getFeatureTagIds()));
+        request.setImages(property.getImages() != null ? new ArrayList<>(property.getImages()) : new ArrayList<>());
+        request.setPurpose(TemporaryStayPurpose.HOSPITALITY);
+        return request;
+    }
+
+    private TemporaryStayLocationDto toTemporaryLocation(PropertyEntity property) {
+        TemporaryStayLocationDto dto = new TemporaryStayLocationDto();
+        if (property.getLocation() != null) {
+            dto.setAddress(property.getLocation().getAddress());
+            dto.setCity(property.getLocation().getCity());
+            dto.setPostalCode(property.getLocation().getPostalCode());
+            dto.setLat(property.getLocation().getLatitude());
+            dto.setLng(property.getLocation().getLongitude());
+        }
+        return dto;
+    }
+
+    private TemporaryStayContactDto toTemporaryContact(PropertyEntity property) {
+        TemporaryStayContactDto dto = new TemporaryStayContactDto();
+        if (property.getContact() != null) {
+            dto.setName(property.getContact().getName());
+            dto.setPhone(property.getContact().getPhone());
+            dto.setEmail(property.getContact().getEmail());
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.service;
+
+import org.example.dto.property.PropertyResponse;
+import org.example.dto.roommate.RoommateAdResponse;
+import org.example.dto.temporary.TemporaryStayResponse;
+import org.example.model.listing.ListingType;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Writes every published listing of a vertical as NDJSON. Listings are read in id-keyset chunks,
+ * each in its own short read-only transaction whose persistence context closes with it, so heap use
+ * does not grow with the size of the export.
+ */
+@Service
+public class ListingExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ListingExportService.class);
+
+    // Ids are compared as BINARY(16), so the all-zero UUID sorts before every real id.
+    private static final UUID FIRST = new UUID(0L, 0L);
+
+    private final PropertyService propertyService;
+    private final RoommateService roommateService;
+    private final TemporaryStayService temporaryStayService;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectWriter writer;
+    private final int chunkSize;
+
+    public ListingExportService(
+        PropertyService propertyService,
+        RoommateService roommateService,
+        TemporaryStayService temporaryStayService,
+        EntityManagerFactory entityManagerFactory,
+        ObjectMapper objectMapper,
+        @Value("${unihome.export.chunk-size:500}") int chunkSize
+    ) {
+        this.propertyService = propertyService;
+        this.roommateService = roommateService;
+        this.temporaryStayService = temporaryStayService;
+        this.entityManagerFactory = entityManagerFactory;
+        this.writer = objectMapper.writer();
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    public long export(ListingType type, OutputStream out) throws IOException {
+        // Open-in-view also binds the request's EntityManager to the streaming thread, and every chunk
+        // would join it; set it aside so each chunk transaction gets its own.
+        Object requestEntityManager = TransactionSynchronizationManager.unbindResourceIfPossible(entityManagerFactory);
+        try {
+            return exportChunks(type, out);
+        } finally {
+            if (requestEntityManager != null) {
+                TransactionSynchronizationManager.bindResource(entityManagerFactory, requestEntityManager);
+            }
+        }
+    }
+
+    private long exportChunks(ListingType type, OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        long written = 0;
+        UUID after = FIRST;
+        while (true) {
+            Chunk chunk = switch (type) {
+                case PROPERTY -> write(propertyService.exportPublished(after, chunkSize), PropertyResponse::getId, out);
+                case ROOMMATE_AD -> write(roommateService.exportPublished(after, chunkSize), RoommateAdResponse::getId, out);
+                case TEMPORARY_STAY -> write(temporaryStayService.exportPublished(after, chunkSize), TemporaryStayResponse::getId, out);
+            };
+            if (chunk.lastId == null) {
+                break;
+            }
+            written += chunk.count;
+            after = chunk.lastId;
+            out.flush();
+        }
+        log.info("Exported {} {} listings in {} ms", written, type, (System.nanoTime() - started) / 1_000_000);
+        return written;
+    }
+
+    private <T> Chunk write(List<T> listings, Function<T, UUID> id, OutputStream out) throws IOException {
+        if (listings.isEmpty()) {
+            return new Chunk(0, null);
+        }
+        for (T listing : listings) {
+            out.write(writer.writeValueAsBytes(listing));
+            out.write('\n');
+        }
+        return new Chunk(listings.size(), id.apply(listings.get(listings.size() - 1)));
+    }
+
+    private static final class Chunk {
+
+        private final int count;
+        private final UUID lastId;
+
+        private Chunk(int count, UUID lastId) {
+            this.count = count;
+            this.lastId = lastId;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.service;
+
+import org.example.dto.property.CreatePropertyRequest;
+import org.example.dto.property.PropertyImportFormat;
+import org.example.dto.property.PropertyImportRowResult;
+import org.example.dto.property.PropertyImportStatus;
+import org.example.dto.property.PropertyImportSummary;
+import org.example.mapper.PropertyImportReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PropertyImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyImportService.class);
+
+    private final PropertyService propertyService;
+    private final PropertyImportReader importReader;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final int batchSize;
+    private final int maxRows;
+
+    public PropertyImportService(
+        PropertyService propertyService,
+        PropertyImportReader importReader,
+        Validator validator,
+        EntityManager entityManager,
+        @Value("${unihome.import.batch-size:500}") int batchSize,
+        @Value("${unihome.import.max-rows:20000}") int maxRows
+    ) {
+        this.propertyService = propertyService;
+        this.importReader = importReader;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Imports every row of {@code body}, reporting each row to {@code results} as soon as it is
+     * rejected or its batch has committed. A failed batch is retried row by row so one bad row
+     * does not take its neighbours down with it.
+     */
+    public PropertyImportSummary importProperties(
+        UUID ownerId,
+        InputStream body,
+        PropertyImportFormat format,
+        Consumer<PropertyImportRowResult> results
+    ) throws IOException {
+        long started = System.nanoTime();
+        PropertyImportSummary summary = new PropertyImportSummary();
+        List<PropertyImportReader.Row> batch = new ArrayList<>(batchSize);
+
+        PropertyImportReader.Cursor cursor = importReader.open(body, format);
+        PropertyImportReader.Row row;
+        while ((row = cursor.next()) != null) {
+            if (summary.getReceived() >= maxRows) {
+                summary.setTruncated(true);
+                break;
+            }
+            summary.setReceived(summary.getReceived() + 1);
+            if (row.getError() != null) {
+                reject(summary, results, rejected(row.getNumber(), row.getError(), null));
+                continue;
+            }
+            Map<String, String> errors = validate(row.getRequest());
+            if (!errors.isEmpty()) {
+                reject(summary, results, rejected(row.getNumber(), "Validation failed", errors));
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                write(ownerId, batch, summary, results);
+            }
+        }
+        write(ownerId, batch, summary, results);
+
+        summary.setElapsedMs((System.nanoTime() - started) / 1_000_000);
+        return summary;
+    }
+
+    private void write(
+        UUID ownerId,
+        List<PropertyImportReader.Row> batch,
+        PropertyImportSummary summary,
+        Consumer<PropertyImportRowResult> results
+    ) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<UUID> ids = propertyService.createBatch(ownerId, batch.stream().map(PropertyImportReader.Row::getRequest).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                accept(batch.get(i), ids.get(i), summary, results);
+            }
+        } catch (RuntimeException batchFailure) {
+            log.debug("Import batch of {} rows failed, retrying row by row", batch.size(), batchFailure);
+            for (PropertyImportReader.Row row : batch) {
+                try {
+                    UUID id = propertyService.createBatch(ownerId, List.of(row.getRequest())).get(0);
+                    accept(row, id, summary, results);
+                } catch (RuntimeException ex) {
+                    reject(summary, results, rejected(row.getNumber(), ex.getMessage(), null));
+                }
+            }
+        }
+        batch.clear();
+        // With open-in-view the request keeps one persistence context across batches; drop what
+        // the committed batch left in it so memory and flush cost stay flat.
+        entityManager.clear();
+    }
+
+    private void accept(
+        PropertyImportReader.Row row,
+        UUID id,
+        PropertyImportSummary summary,
+        Consumer<PropertyImportRowResult> results
+    ) {
+        if (row.getRequest().isHospitality()) {
+            summary.setHospitalityListings(summary.getHospitalityListings() + 1);
+        }
+        summary.setCreated(summary.getCreated() + 1);
+        PropertyImportRowResult result = new PropertyImportRowResult();
+        result.setRow(row.getNumber());
+        result.setStatus(PropertyImportStatus.CREATED);
+        result.setId(id);
+        results.accept(result);
+    }
+
+    private void reject(PropertyImportSummary summary, Consumer<PropertyImportRowResult> results, PropertyImportRowResult result) {
+        summary.setRejected(summary.getRejected() + 1);
+        results.accept(result);
+    }
+
+    private PropertyImportRowResult rejected(int row, String message, Map<String, String> errors) {
+        PropertyImportRowResult result = new PropertyImportRowResult();
+        result.setRow(row);
+        result.setStatus(PropertyImportStatus.REJECTED);
+        result.setMessage(message);
+        result.setErrors(errors);
+        return result;
+    }
+
+    private Map<String, String> validate(CreatePropertyRequest request) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (ConstraintViolation<CreatePropertyRequest> violation : validator.validate(request)) {
+            errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+}
@@ -1,35 +1,42 @@
 package org.example.service;
 
+import org.example.dto.common.ListingCardResponse;
+import org.example.dto.common.ListingStatsResponse;
 import org.example.dto.common.PagedResponse;
 import org.example.dto.property.CreatePropertyRequest;
 import org.example.dto.property.PropertyResponse;
 import org.example.dto.property.PropertySearchCriteria;
 import org.example.dto.property.UpdatePropertyRequest;
-import org.example.dto.temporary.CreateTemporaryStayRequest;
-import org.example.dto.temporary.TemporaryStayContactDto;
-import org.example.dto.temporary.TemporaryStayLocationDto;
-import org.example.dto.temporary.UpdateTemporaryStayRequest;
+import org.example.event.ListingChangeType;
+import org.example.event.ListingChangedEvent;
+import org.example.event.ListingsImportedEvent;
 import org.example.exception.ForbiddenException;
 import org.example.exception.ResourceNotFoundException;
 import org.example.mapper.PropertyMapper;
+import org.example.model.listing.ListingType;
 import org.example.model.property.PropertyEntity;
 import org.example.model.user.UserEntity;
 import org.example.model.user.UserRole;
-import org.example.model.temporary.TemporaryStayCostCategory;
-import org.example.model.temporary.TemporaryStayPurpose;
-import org.example.model.temporary.TemporaryStayType;
 import org.example.repository.PropertyRepository;
-import org.example.repository.specification.PropertySpecifications;
-import java.math.BigDecimal;
+import org.example.repository.search.ListingSearchEngine;
+import org.example.repository.specification.ListingSorts;
+import org.example.search.SimilarListingsIndex;
+import org.example.stats.ListingViewCounter;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,49 +44,91 @@ import org.springframework.transaction.annotation.Transactional;
 public class PropertyService {
 
     private final PropertyRepository propertyRepository;
+    private final ListingSearchEngine searchEngine;
     private final PropertyMapper propertyMapper;
     private final UserService userService;
-    private final TemporaryStayService temporaryStayService;
+    private final SimilarListingsIndex similarListingsIndex;
+    private final ListingViewCounter listingViewCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public PropertyService(PropertyRepository propertyRepository, PropertyMapper propertyMapper, UserService userService, TemporaryStayService temporaryStayService) {
+    public PropertyService(
+        PropertyRepository propertyRepository,
+        ListingSearchEngine searchEngine,
+        PropertyMapper propertyMapper,
+        UserService userService,
+        SimilarListingsIndex similarListingsIndex,
+        ListingViewCounter listingViewCounter,
+        ApplicationEventPublisher eventPublisher
+    ) {
         this.propertyRepository = propertyRepository;
+        this.searchEngine = searchEngine;
         this.propertyMapper = propertyMapper;
         this.userService = userService;
-        this.temporaryStayService = temporaryStayService;
+        this.similarListingsIndex = similarListingsIndex;
+        this.listingViewCounter = listingViewCounter;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
     public PagedResponse<PropertyResponse> search(PropertySearchCriteria criteria, int page, int size) {
-        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1));
-        Specification<PropertyEntity> specification = PropertySpecifications.fromCriteria(criteria);
-        Page<PropertyEntity> result = propertyRepository.findAll(specification, pageable);
+        Sort sort = ListingSorts.forProperties(criteria != null ? criteria.getSort() : null);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1), sort);
+        Page<PropertyEntity> result = searchEngine.findProperties(criteria, pageable);
         List<PropertyResponse> items = result.stream()
             .map(propertyMapper::toResponse)
             .collect(Collectors.toList());
         return new PagedResponse<>(items, result.getTotalElements(), result.getTotalPages(), result.getNumber(), result.getSize());
     }
 
+    @Transactional(readOnly = true)
+    public PagedResponse<ListingCardResponse> searchCards(PropertySearchCriteria criteria, int page, int size) {
+        Sort sort = ListingSorts.forProperties(criteria != null ? criteria.getSort() : null);
+        Page<ListingCardResponse> result = searchCards(criteria, PageRequest.of(Math.max(page, 0), Math.max(size, 1), sort));
+        return new PagedResponse<>(result.getContent(), result.getTotalElements(), result.getTotalPages(), result.getNumber(), result.getSize());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ListingCardResponse> searchCards(PropertySearchCriteria criteria, Pageable pageable) {
+        Page<UUID> ids = searchEngine.findPropertyIds(criteria, pageable);
+        return new PageImpl<>(toCards(ids.getContent()), pageable, ids.getTotalElements());
+    }
+
     @Transactional
     public PropertyResponse create(UUID ownerId, CreatePropertyRequest request) {
         UserEntity owner = requireOwner(ownerId);
         PropertyEntity entity = propertyMapper.toEntity(request, owner);
         entity.setPublished(true);
         PropertyEntity saved = propertyRepository.save(entity);
-        synchronizeHospitalityListing(ownerId, saved, request.isHospitality());
+        publishChange(saved.getId(), ListingChangeType.CREATED, cityKeyOf(saved));
         return propertyMapper.toResponse(saved);
     }
 
+    /**
+     * Bulk-import variant of {@link #create}: one transaction and one JDBC batch for all rows.
+     */
+    @Transactional
+    public List<UUID> createBatch(UUID ownerId, List<CreatePropertyRequest> requests) {
+        UserEntity owner = requireOwner(ownerId);
+        List<PropertyEntity> entities = new ArrayList<>(requests.size());
+        for (CreatePropertyRequest request : requests) {
+            PropertyEntity entity = propertyMapper.toEntity(request, owner);
+            entity.setPublished(true);
+            entities.add(entity);
+        }
+        propertyRepository.saveAll(entities);
+        List<UUID> ids = entities.stream().map(PropertyEntity::getId).collect(Collectors.toList());
+        Set<String> cityKeys = entities.stream().map(this::cityKeyOf).filter(Objects::nonNull).collect(Collectors.toSet());
+        eventPublisher.publishEvent(new ListingsImportedEvent(ListingType.PROPERTY, ids, cityKeys));
+        return ids;
+    }
+
     @Transactional
     public PropertyResponse update(UUID ownerId, UUID propertyId, UpdatePropertyRequest request) {
         PropertyEntity property = requireProperty(propertyId);
         ensureOwnership(ownerId, property);
-        boolean requestedHospitality = request.getHospitality() != null ? request.getHospitality() : property.isHospitalityOptIn();
+        String previousCityKey = cityKeyOf(property);
         propertyMapper.apply(property, request);
-        if (request.getHospitality() != null) {
-            synchronizeHospitalityListing(ownerId, property, requestedHospitality);
-        } else if (property.isHospitalityOptIn() && property.getHospitalityListingId() != null) {
-            synchronizeHospitalityListing(ownerId, property, true);
-        }
+        publishChange(propertyId, ListingChangeType.UPDATED, previousCityKey, cityKeyOf(property));
         return propertyMapper.toResponse(property);
     }
 
@@ -88,6 +137,7 @@ public class PropertyService {
         PropertyEntity property = requireProperty(propertyId);
         ensureOwnership(ownerId, property);
         propertyRepository.delete(property);
+        publishChange(propertyId, ListingChangeType.DELETED, cityKeyOf(property));
     }
 
     @Transactional(readOnly = true)
@@ -102,6 +152,26 @@ public class PropertyService {
         return propertyMapper.toResponse(property);
     }
 
+    @Transactional(readOnly = true)
+    public List<ListingCardResponse> findSimilar(UUID propertyId, int limit) {
+        return toCards(similarListingsIndex.similar(ListingType.PROPERTY, propertyId, limit));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ListingCardResponse> findCards(List<UUID> ids) {
+        return toCards(ids);
+    }
+
+    private List<ListingCardResponse> toCards(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, ListingCardResponse> cards = propertyRepository.findCardRows(ids).stream()
+            .map(propertyMapper::toCard)
+            .collect(Collectors.toMap(ListingCardResponse::getId, card -> card));
+        return ids.stream().map(cards::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public List<PropertyResponse> findRecent(int limit) {
         if (limit <= 0) {
@@ -112,12 +182,30 @@ public class PropertyService {
         return page.stream().map(propertyMapper::toResponse).collect(Collectors.toList());
     }
 
+    /**
+     * One page of the published-listings export: the next {@code limit} listings after {@code after}
+     * in id order. Collections are hydrated in batches rather than per listing.
+     */
+    @Transactional(readOnly = true)
+    public List<PropertyResponse> exportPublished(UUID after, int limit) {
+        List<UUID> ids = propertyRepository.findPublishedIdsAfter(after, PageRequest.of(0, limit));
+        Map<UUID, PropertyEntity> properties = propertyRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(PropertyEntity::getId, property -> property));
+        return ids.stream().map(properties::get).filter(Objects::nonNull).map(propertyMapper::toResponse).collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public List<PropertyResponse> findOwnerProperties(UUID ownerId) {
         requireOwner(ownerId);
-        return propertyRepository.findAllByOwnerIdOrderByCreatedAtDesc(ownerId).stream()
+        return withStats(propertyRepository.findAllByOwnerIdOrderByCreatedAtDesc(ownerId).stream()
             .map(propertyMapper::toResponse)
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
+    }
+
+    private List<PropertyResponse> withStats(List<PropertyResponse> responses) {
+        Map<UUID, ListingStatsResponse> stats = listingViewCounter.statsOf(responses.stream().map(PropertyResponse::getId).collect(Collectors.toList()));
+        responses.forEach(response -> response.setStats(stats.get(response.getId())));
+        return responses;
     }
 
     @Transactional
@@ -125,6 +213,8 @@ public class PropertyService {
         PropertyEntity property = requireProperty(propertyId);
         ensureOwnership(ownerId, property);
         property.setPublished(false);
+        property.setUnpublishedAt(Instant.now());
+        publishChange(propertyId, ListingChangeType.HIDDEN, cityKeyOf(property));
         return propertyMapper.toResponse(property);
     }
 
@@ -133,6 +223,8 @@ public class PropertyService {
         PropertyEntity property = requireProperty(propertyId);
         ensureOwnership(ownerId, property);
         property.setPublished(true);
+        property.setUnpublishedAt(null);
+        publishChange(propertyId, ListingChangeType.PUBLISHED, cityKeyOf(property));
         return propertyMapper.toResponse(property);
     }
 
@@ -149,90 +241,17 @@ public class PropertyService {
         return user;
     }
 
-    private void ensureOwnership(UUID ownerId, PropertyEntity property) {
-        if (property.getOwner() == null || !property.getOwner().getId().equals(ownerId)) {
-            throw new ForbiddenException("You do not own this property");
-        }
+    private void publishChange(UUID propertyId, ListingChangeType changeType, String... cityKeys) {
+        eventPublisher.publishEvent(new ListingChangedEvent(ListingType.PROPERTY, propertyId, changeType, Arrays.asList(cityKeys)));
     }
 
-    private void synchronizeHospitalityListing(UUID ownerId, PropertyEntity property, boolean optIn) {
-        if (!optIn) {
-            UUID existing = property.getHospitalityListingId();
-            if (existing != null) {
-                try {
-                    temporaryStayService.delete(ownerId, existing);
-                } catch (ResourceNotFoundException ignored) {
-                    
-                }
-                property.setHospitalityListingId(null);
-            }
-            property.setHospitalityOptIn(false);
-            return;
-        }
-
-        if (property.getHospitalityListingId() == null) {
-            UUID created = temporaryStayService.create(ownerId, buildHospitalityRequest(property)).getId();
-            property.setHospitalityListingId(created);
-            property.setHospitalityOptIn(true);
-            return;
-        }
-
-        temporaryStayService.update(ownerId, property.getHospitalityListingId(), buildHospitalityUpdate(property));
-        property.setHospitalityOptIn(true);
-    }
-
-    private CreateTemporaryStayRequest buildHospitalityRequest(PropertyEntity property) {
-        CreateTemporaryStayRequest request = new CreateTemporaryStayRequest();
-        request.setTitle(property.getTitle() + " – Φιλοξενία");
-        request.setDescription(property.getDescription());
-        request.setType(TemporaryStayType.HOSTING);
-        request.setPricePerNight(BigDecimal.ZERO);
-        request.setMinNights(1);
-        request.setCostCategory(TemporaryStayCostCategory.FREE);
-        request.setLocation(toTemporaryLocation(property));
-        request.setContact(toTemporaryContact(property));
-        request.setAmenities(property.getFeatures() != null ? new ArrayList<>(property.getFeatures()) : new ArrayList<>());
-        request.setImages(property.getImages() != null ? new ArrayList<>(property.getImages()) : new ArrayList<>());
-        request.setPurpose(TemporaryStayPurpose.HOSPITALITY);
-        request.setLinkedPropertyId(property.getId());
-        return request;
-    }
-
-    private UpdateTemporaryStayRequest buildHospitalityUpdate(PropertyEntity property) {
-        UpdateTemporaryStayRequest request = new UpdateTemporaryStayRequest();
-        request.setTitle(property.getTitle() + " – Φιλοξενία");
-        request.setDescription(property.getDescription());
-        request.setType(TemporaryStayType.HOSTING);
-        request.setPricePerNight(BigDecimal.ZERO);
-        request.setMinNights(1);
-        request.setCostCategory(TemporaryStayCostCategory.FREE);
-        request.setLocation(toTemporaryLocation(property));
-        request.setContact(toTemporaryContact(property));
-        request.setAmenities(property.getFeatures() != null ? new ArrayList<>(property.getFeatures()) : new ArrayList<>());
-        request.setImages(property.getImages() != null ? new ArrayList<>(property.getImages()) : new ArrayList<>());
-        request.setPurpose(TemporaryStayPurpose.HOSPITALITY);
-        return request;
-    }
-
-    private TemporaryStayLocationDto toTemporaryLocation(PropertyEntity property) {
-        TemporaryStayLocationDto dto = new TemporaryStayLocationDto();
-        if (property.getLocation() != null) {
-            dto.setAddress(property.getLocation().getAddress());
-            dto.setCity(property.getLocation().getCity());
-            dto.setPostalCode(property.getLocation().getPostalCode());
-            dto.setLat(property.getLocation().getLatitude());
-            dto.setLng(property.getLocation().getLongitude());
-        }
-        return dto;
+    private String cityKeyOf(PropertyEntity property) {
+        return property.getLocation() != null ? property.getLocation().getCityKey() : null;
     }
 
-    private TemporaryStayContactDto toTemporaryContact(PropertyEntity property) {
-        TemporaryStayContactDto dto = new TemporaryStayContactDto();
-        if (property.getContact() != null) {
-            dto.setName(property.getContact().getName());
-            dto.setPhone(property.getContact().getPhone());
-            dto.setEmail(property.getContact().getEmail());
+    private void ensureOwnership(UUID ownerId, PropertyEntity property) {
+        if (property.getOwner() == null || !property.getOwner().getId().equals(ownerId)) {
+            throw new ForbiddenException("You do not own this property");
         }
-        return dto;
     }
 }
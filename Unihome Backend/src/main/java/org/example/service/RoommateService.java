@@ -1,27 +1,44 @@
 package org.example.service;
 
+import org.example.dto.common.ListingCardResponse;
+import org.example.dto.common.ListingStatsResponse;
 import org.example.dto.common.PagedResponse;
 import org.example.dto.roommate.CreateRoommateAdRequest;
 import org.example.dto.roommate.RoommateAdResponse;
+import org.example.dto.roommate.RoommateMatchResponse;
 import org.example.dto.roommate.RoommateSearchCriteria;
 import org.example.dto.roommate.SubmitRoommateRatingRequest;
 import org.example.dto.roommate.UpdateRoommateAdRequest;
+import org.example.event.ListingChangeType;
+import org.example.event.ListingChangedEvent;
 import org.example.exception.ForbiddenException;
 import org.example.exception.ResourceNotFoundException;
 import org.example.mapper.RoommateMapper;
+import org.example.model.listing.ListingType;
 import org.example.model.roommate.RoommateAdEntity;
 import org.example.model.roommate.RoommateRatingEntity;
 import org.example.model.user.UserEntity;
 import org.example.repository.RoommateAdRepository;
 import org.example.repository.RoommateRatingRepository;
-import org.example.repository.specification.RoommateSpecifications;
+import org.example.repository.search.ListingSearchEngine;
+import org.example.repository.specification.ListingSorts;
+import org.example.search.ListingTagIndex;
+import org.example.search.RoommateCompatibilityIndex;
+import org.example.stats.ListingViewCounter;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,38 +47,110 @@ public class RoommateService {
 
     private final RoommateAdRepository roommateAdRepository;
     private final RoommateRatingRepository roommateRatingRepository;
+    private final ListingSearchEngine searchEngine;
     private final RoommateMapper roommateMapper;
     private final UserService userService;
+    private final ListingTagIndex listingTagIndex;
+    private final RoommateCompatibilityIndex compatibilityIndex;
+    private final ListingViewCounter listingViewCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     public RoommateService(
         RoommateAdRepository roommateAdRepository,
         RoommateRatingRepository roommateRatingRepository,
+        ListingSearchEngine searchEngine,
         RoommateMapper roommateMapper,
-        UserService userService
+        UserService userService,
+        ListingTagIndex listingTagIndex,
+        RoommateCompatibilityIndex compatibilityIndex,
+        ListingViewCounter listingViewCounter,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.roommateAdRepository = roommateAdRepository;
         this.roommateRatingRepository = roommateRatingRepository;
+        this.searchEngine = searchEngine;
         this.roommateMapper = roommateMapper;
         this.userService = userService;
+        this.listingTagIndex = listingTagIndex;
+        this.compatibilityIndex = compatibilityIndex;
+        this.listingViewCounter = listingViewCounter;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
     public PagedResponse<RoommateAdResponse> search(RoommateSearchCriteria criteria, int page, int size) {
-        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1));
-        Specification<RoommateAdEntity> specification = RoommateSpecifications.fromCriteria(criteria);
-        Page<RoommateAdEntity> result = roommateAdRepository.findAll(specification, pageable);
+        Sort sort = ListingSorts.forRoommates(criteria != null ? criteria.getSort() : null);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1), sort);
+        Page<RoommateAdEntity> result = searchEngine.findRoommates(criteria, listingTagIndex.matchRoommates(criteria).orElse(null), pageable);
         List<RoommateAdResponse> items = result.stream()
             .map(this::toResponse)
             .collect(Collectors.toList());
         return new PagedResponse<>(items, result.getTotalElements(), result.getTotalPages(), result.getNumber(), result.getSize());
     }
 
+    @Transactional(readOnly = true)
+    public PagedResponse<ListingCardResponse> searchCards(RoommateSearchCriteria criteria, int page, int size) {
+        Sort sort = ListingSorts.forRoommates(criteria != null ? criteria.getSort() : null);
+        Page<ListingCardResponse> result = searchCards(criteria, PageRequest.of(Math.max(page, 0), Math.max(size, 1), sort));
+        return new PagedResponse<>(result.getContent(), result.getTotalElements(), result.getTotalPages(), result.getNumber(), result.getSize());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ListingCardResponse> searchCards(RoommateSearchCriteria criteria, Pageable pageable) {
+        Page<UUID> ids = searchEngine.findRoommateIds(criteria, listingTagIndex.matchRoommates(criteria).orElse(null), pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+        return new PageImpl<>(toCards(ids.getContent()), pageable, ids.getTotalElements());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ListingCardResponse> findCards(List<UUID> ids) {
+        return toCards(ids);
+    }
+
+    private List<ListingCardResponse> toCards(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, ListingCardResponse> cards = roommateAdRepository.findCardRows(ids).stream()
+            .map(roommateMapper::toCard)
+            .collect(Collectors.toMap(ListingCardResponse::getId, card -> card));
+        return ids.stream().map(cards::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<RoommateMatchResponse> findCompatible(UUID viewerId, RoommateSearchCriteria criteria, int limit) {
+        RoommateCompatibilityIndex.Profile viewer = roommateAdRepository.findFirstByAuthorIdOrderByCreatedAtDesc(viewerId)
+            .map(compatibilityIndex::profileOf)
+            .orElseGet(() -> compatibilityIndex.profileOf(userService.findUser(viewerId), criteria != null ? criteria.getInterests() : null));
+        List<RoommateCompatibilityIndex.Match> matches = compatibilityIndex.topMatches(viewer, criteria, limit);
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, RoommateAdEntity> ads = roommateAdRepository.findAllById(matches.stream().map(RoommateCompatibilityIndex.Match::getAdId).toList())
+            .stream()
+            .collect(Collectors.toMap(RoommateAdEntity::getId, Function.identity()));
+        return matches.stream()
+            .filter(match -> ads.containsKey(match.getAdId()))
+            .map(match -> {
+                RoommateMatchResponse response = new RoommateMatchResponse();
+                response.setAd(toResponse(ads.get(match.getAdId())));
+                response.setScore(match.getScore());
+                response.setFactors(match.getFactors());
+                response.setSharedLifestyle(compatibilityIndex.labels(match.getSharedLifestyle()));
+                return response;
+            })
+            .collect(Collectors.toList());
+    }
+
     @Transactional
     public RoommateAdResponse create(UUID authorId, CreateRoommateAdRequest request) {
         UserEntity author = userService.findUser(authorId);
         RoommateAdEntity entity = roommateMapper.toEntity(request, author);
         entity.setPublished(true);
         RoommateAdEntity saved = roommateAdRepository.save(entity);
+        publishChange(saved.getId(), ListingChangeType.CREATED, cityKeyOf(saved));
         return toResponse(saved);
     }
 
@@ -69,7 +158,9 @@ public class RoommateService {
     public RoommateAdResponse update(UUID authorId, UUID adId, UpdateRoommateAdRequest request) {
         RoommateAdEntity ad = requireAd(adId);
         ensureAuthor(authorId, ad);
+        String previousCityKey = cityKeyOf(ad);
         roommateMapper.apply(ad, request);
+        publishChange(adId, ListingChangeType.UPDATED, previousCityKey, cityKeyOf(ad));
         return toResponse(ad);
     }
 
@@ -78,12 +169,19 @@ public class RoommateService {
         RoommateAdEntity ad = requireAd(adId);
         ensureAuthor(authorId, ad);
         roommateAdRepository.delete(ad);
+        publishChange(adId, ListingChangeType.DELETED, cityKeyOf(ad));
     }
 
     @Transactional(readOnly = true)
     public List<RoommateAdResponse> findMine(UUID authorId) {
         List<RoommateAdEntity> ads = roommateAdRepository.findByAuthorIdOrderByCreatedAtDesc(authorId);
-        return ads.stream().map(this::toResponse).collect(Collectors.toList());
+        return withStats(ads.stream().map(this::toResponse).collect(Collectors.toList()));
+    }
+
+    private List<RoommateAdResponse> withStats(List<RoommateAdResponse> responses) {
+        Map<UUID, ListingStatsResponse> stats = listingViewCounter.statsOf(responses.stream().map(RoommateAdResponse::getId).collect(Collectors.toList()));
+        responses.forEach(response -> response.setStats(stats.get(response.getId())));
+        return responses;
     }
 
     @Transactional
@@ -91,6 +189,8 @@ public class RoommateService {
         RoommateAdEntity ad = requireAd(adId);
         ensureAuthor(authorId, ad);
         ad.setPublished(false);
+        ad.setUnpublishedAt(Instant.now());
+        publishChange(adId, ListingChangeType.HIDDEN, cityKeyOf(ad));
         return toResponse(ad);
     }
 
@@ -99,6 +199,8 @@ public class RoommateService {
         RoommateAdEntity ad = requireAd(adId);
         ensureAuthor(authorId, ad);
         ad.setPublished(true);
+        ad.setUnpublishedAt(null);
+        publishChange(adId, ListingChangeType.PUBLISHED, cityKeyOf(ad));
         return toResponse(ad);
     }
 
@@ -122,6 +224,7 @@ public class RoommateService {
         rating.setScore(request.getScore());
         rating.setComment(request.getComment());
         roommateRatingRepository.save(rating);
+        publishChange(adId, ListingChangeType.UPDATED, cityKeyOf(ad));
         return toResponse(ad);
     }
 
@@ -134,6 +237,19 @@ public class RoommateService {
         return ads.stream().limit(limit).map(this::toResponse).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<RoommateAdResponse> exportPublished(UUID after, int limit) {
+        List<UUID> ids = roommateAdRepository.findPublishedIdsAfter(after, PageRequest.of(0, limit));
+        Map<UUID, RoommateAdEntity> ads = roommateAdRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(RoommateAdEntity::getId, ad -> ad));
+        // Ratings come from the batch-fetched association instead of one query per ad.
+        return ids.stream()
+            .map(ads::get)
+            .filter(Objects::nonNull)
+            .map(ad -> roommateMapper.toResponse(ad, ad.getRatings()))
+            .collect(Collectors.toList());
+    }
+
     private RoommateAdResponse toResponse(RoommateAdEntity entity) {
         List<RoommateRatingEntity> ratings = roommateRatingRepository.findByAdId(entity.getId());
         return roommateMapper.toResponse(entity, ratings);
@@ -144,6 +260,14 @@ public class RoommateService {
             .orElseThrow(() -> new ResourceNotFoundException("Roommate listing not found"));
     }
 
+    private void publishChange(UUID adId, ListingChangeType changeType, String... cityKeys) {
+        eventPublisher.publishEvent(new ListingChangedEvent(ListingType.ROOMMATE_AD, adId, changeType, Arrays.asList(cityKeys)));
+    }
+
+    private String cityKeyOf(RoommateAdEntity ad) {
+        return ad.getLocation() != null ? ad.getLocation().getCityKey() : null;
+    }
+
     private void ensureAuthor(UUID userId, RoommateAdEntity ad) {
         if (ad.getAuthor() == null || !ad.getAuthor().getId().equals(userId)) {
             throw new ForbiddenException("You do not own this roommate listing");
@@ -0,0 +1,222 @@
+package org.example.service;
+
+import org.example.dto.property.PropertySearchCriteria;
+import org.example.dto.roommate.RoommateSearchCriteria;
+import org.example.dto.search.CreateSavedSearchRequest;
+import org.example.dto.search.SavedSearchMatchResponse;
+import org.example.dto.search.SavedSearchResponse;
+import org.example.dto.temporary.TemporaryStaySearchCriteria;
+import org.example.exception.ResourceNotFoundException;
+import org.example.exception.ValidationException;
+import org.example.model.listing.ListingType;
+import org.example.model.search.SavedSearchEntity;
+import org.example.model.search.SavedSearchMatchEntity;
+import org.example.model.user.UserEntity;
+import org.example.repository.PropertyRepository;
+import org.example.repository.RoommateAdRepository;
+import org.example.repository.SavedSearchMatchRepository;
+import org.example.repository.SavedSearchRepository;
+import org.example.repository.TemporaryStayRepository;
+import org.example.search.SavedSearchPercolator;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class SavedSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(SavedSearchService.class);
+
+    private static final int MAX_SAVED_SEARCHES = 20;
+    private static final int RECENT_MATCHES = 50;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SavedSearchMatchRepository savedSearchMatchRepository;
+    private final SavedSearchPercolator percolator;
+    private final PropertyRepository propertyRepository;
+    private final RoommateAdRepository roommateAdRepository;
+    private final TemporaryStayRepository temporaryStayRepository;
+    private final UserService userService;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate digestTransaction;
+
+    @Value("${unihome.contact.from:no-reply@unihome.local}")
+    private String fromAddress;
+
+    public SavedSearchService(
+        SavedSearchRepository savedSearchRepository,
+        SavedSearchMatchRepository savedSearchMatchRepository,
+        SavedSearchPercolator percolator,
+        PropertyRepository propertyRepository,
+        RoommateAdRepository roommateAdRepository,
+        TemporaryStayRepository temporaryStayRepository,
+        UserService userService,
+        JavaMailSender mailSender,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.savedSearchMatchRepository = savedSearchMatchRepository;
+        this.percolator = percolator;
+        this.propertyRepository = propertyRepository;
+        this.roommateAdRepository = roommateAdRepository;
+        this.temporaryStayRepository = temporaryStayRepository;
+        this.userService = userService;
+        this.mailSender = mailSender;
+        this.digestTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SavedSearchResponse> listSavedSearches(UUID userId) {
+        return savedSearchRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+            .map(this::toResponse)
+            .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public SavedSearchResponse create(UUID userId, CreateSavedSearchRequest request) {
+        if (savedSearchRepository.countByUserId(userId) >= MAX_SAVED_SEARCHES) {
+            throw new ValidationException("Too many saved searches", Map.of("name", "You can keep up to " + MAX_SAVED_SEARCHES + " saved searches"));
+        }
+        UserEntity user = userService.findUser(userId);
+        SavedSearchEntity entity = new SavedSearchEntity();
+        entity.setUser(user);
+        entity.setName(request.getName().trim());
+        entity.setListingType(request.getType());
+        entity.setCriteriaJson(percolator.writeCriteria(criteriaFor(request)));
+        SavedSearchEntity saved = savedSearchRepository.save(entity);
+        percolator.register(saved);
+        return toResponse(saved);
+    }
+
+    @Transactional
+    public void delete(UUID userId, UUID savedSearchId) {
+        SavedSearchEntity entity = savedSearchRepository.findByIdAndUserId(savedSearchId, userId)
+            .orElseThrow(() -> new ResourceNotFoundException("Saved search not found"));
+        savedSearchRepository.delete(entity);
+        percolator.unregister(savedSearchId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SavedSearchMatchResponse> listMatches(UUID userId, UUID savedSearchId) {
+        savedSearchRepository.findByIdAndUserId(savedSearchId, userId)
+            .orElseThrow(() -> new ResourceNotFoundException("Saved search not found"));
+        return savedSearchMatchRepository.findBySavedSearchIdOrderByMatchedAtDesc(savedSearchId, PageRequest.of(0, RECENT_MATCHES)).stream()
+            .map(this::toMatchResponse)
+            .collect(Collectors.toList());
+    }
+
+    @Scheduled(cron = "${unihome.saved-searches.digest-cron:0 0 8 * * *}")
+    public void sendDigests() {
+        List<UUID> userIds = digestTransaction.execute(status -> savedSearchMatchRepository.findUserIdsWithPendingMatches());
+        if (userIds == null) {
+            return;
+        }
+        // One short transaction per user so a failed mail only leaves that user's matches pending.
+        for (UUID userId : userIds) {
+            digestTransaction.executeWithoutResult(status -> sendDigest(userId));
+        }
+    }
+
+    private void sendDigest(UUID userId) {
+        List<SavedSearchMatchEntity> pending = savedSearchMatchRepository.findPendingForUser(userId);
+        if (pending.isEmpty()) {
+            return;
+        }
+        // Listings hidden or deleted since they matched are not mailed; dropping the match lets a
+        // republished listing match again.
+        Set<UUID> live = publishedListingIds(pending);
+        List<SavedSearchMatchEntity> stale = pending.stream()
+            .filter(match -> !live.contains(match.getListingId()))
+            .collect(Collectors.toList());
+        if (!stale.isEmpty()) {
+            savedSearchMatchRepository.deleteAll(stale);
+            pending.removeAll(stale);
+            if (pending.isEmpty()) {
+                return;
+            }
+        }
+        UserEntity user = userService.findUser(userId);
+        SimpleMailMessage mail = new SimpleMailMessage();
+        mail.setFrom(fromAddress);
+        mail.setTo(user.getEmail());
+        mail.setSubject("Νέες αγγελίες για τις αποθηκευμένες αναζητήσεις σας");
+
+        StringBuilder body = new StringBuilder();
+        String currentSearch = null;
+        for (SavedSearchMatchEntity match : pending) {
+            String searchName = match.getSavedSearch().getName();
+            if (!searchName.equals(currentSearch)) {
+                body.append(currentSearch == null ? "" : "\n").append(searchName).append(":\n");
+                currentSearch = searchName;
+            }
+            body.append(" - ").append(match.getListingTitle()).append("\n");
+        }
+        mail.setText(body.toString());
+
+        try {
+            mailSender.send(mail);
+        } catch (MailException ex) {
+            log.error("Failed to send saved search digest to {}", user.getEmail(), ex);
+            return;
+        }
+        Instant now = Instant.now();
+        pending.forEach(match -> match.setNotifiedAt(now));
+    }
+
+    private Set<UUID> publishedListingIds(List<SavedSearchMatchEntity> matches) {
+        Map<ListingType, Set<UUID>> idsByType = matches.stream()
+            .collect(Collectors.groupingBy(SavedSearchMatchEntity::getListingType, Collectors.mapping(SavedSearchMatchEntity::getListingId, Collectors.toSet())));
+        Set<UUID> published = new HashSet<>();
+        idsByType.forEach((type, ids) -> published.addAll(switch (type) {
+            case PROPERTY -> propertyRepository.findPublishedIds(ids);
+            case ROOMMATE_AD -> roommateAdRepository.findPublishedIds(ids);
+            case TEMPORARY_STAY -> temporaryStayRepository.findPublishedIds(ids);
+        }));
+        return published;
+    }
+
+    private Object criteriaFor(CreateSavedSearchRequest request) {
+        return switch (request.getType()) {
+            case PROPERTY -> request.getProperty() != null ? request.getProperty() : new PropertySearchCriteria();
+            case ROOMMATE_AD -> request.getRoommate() != null ? request.getRoommate() : new RoommateSearchCriteria();
+            case TEMPORARY_STAY -> request.getTemporaryStay() != null ? request.getTemporaryStay() : new TemporaryStaySearchCriteria();
+        };
+    }
+
+    private SavedSearchResponse toResponse(SavedSearchEntity entity) {
+        SavedSearchResponse response = new SavedSearchResponse();
+        response.setId(entity.getId());
+        response.setName(entity.getName());
+        response.setType(entity.getListingType());
+        response.setCriteria(percolator.readCriteria(entity.getListingType(), entity.getCriteriaJson()));
+        response.setPendingMatches(entity.getId() != null ? savedSearchMatchRepository.countBySavedSearchIdAndNotifiedAtIsNull(entity.getId()) : 0);
+        response.setCreatedAt(entity.getCreatedAt());
+        return response;
+    }
+
+    private SavedSearchMatchResponse toMatchResponse(SavedSearchMatchEntity match) {
+        SavedSearchMatchResponse response = new SavedSearchMatchResponse();
+        response.setListingType(match.getListingType());
+        response.setListingId(match.getListingId());
+        response.setListingTitle(match.getListingTitle());
+        response.setMatchedAt(match.getMatchedAt());
+        response.setNotified(match.getNotifiedAt() != null);
+        return response;
+    }
+}
@@ -0,0 +1,198 @@
+package org.example.service;
+
+import org.example.dto.common.ListingCardResponse;
+import org.example.dto.property.PropertySearchCriteria;
+import org.example.dto.roommate.RoommateSearchCriteria;
+import org.example.dto.search.UnifiedSearchCriteria;
+import org.example.dto.search.UnifiedSearchResponse;
+import org.example.dto.temporary.TemporaryStaySearchCriteria;
+import org.example.exception.ValidationException;
+import org.example.model.listing.ListingType;
+import org.example.search.MonthlyPrices;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class SearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchService.class);
+
+    private static final int MAX_WINDOW = 600;
+
+    /** Ids as MySQL orders BINARY(16): unsigned bytes, unlike {@link UUID#compareTo}. */
+    private static final Comparator<UUID> BINARY_ID_ORDER = (left, right) -> {
+        int high = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    };
+
+    private static final Comparator<ListingCardResponse> RANKING = Comparator
+        .comparing(ListingCardResponse::getMonthlyPrice, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(ListingCardResponse::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparing(ListingCardResponse::getId, BINARY_ID_ORDER);
+
+    private final PropertyService propertyService;
+    private final RoommateService roommateService;
+    private final TemporaryStayService temporaryStayService;
+    private final ExecutorService executor;
+    private final PlatformTransactionManager transactionManager;
+    private final long timeoutMillis;
+
+    public SearchService(
+        PropertyService propertyService,
+        RoommateService roommateService,
+        TemporaryStayService temporaryStayService,
+        PlatformTransactionManager transactionManager,
+        @Value("${unihome.search.fan-out-threads:12}") int fanOutThreads,
+        @Value("${unihome.search.timeout-ms:2000}") long timeoutMillis
+    ) {
+        this.propertyService = propertyService;
+        this.roommateService = roommateService;
+        this.temporaryStayService = temporaryStayService;
+        this.transactionManager = transactionManager;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("search-fan-out-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newFixedThreadPool(Math.max(fanOutThreads, 1), threadFactory);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public UnifiedSearchResponse search(UnifiedSearchCriteria criteria, int page, int size) {
+        UnifiedSearchCriteria safeCriteria = criteria != null ? criteria : new UnifiedSearchCriteria();
+        int safePage = Math.max(page, 0);
+        int safeSize = Math.max(size, 1);
+        int window = (safePage + 1) * safeSize;
+        if (window > MAX_WINDOW) {
+            throw new ValidationException("Page is out of range", Map.of("page", "Refine the search to browse past " + MAX_WINDOW + " results"));
+        }
+
+        Set<ListingType> types = safeCriteria.getTypes() == null || safeCriteria.getTypes().isEmpty()
+            ? EnumSet.allOf(ListingType.class)
+            : EnumSet.copyOf(safeCriteria.getTypes());
+
+        // Every vertical returns its own first `window` results in ranking order, so the
+        // requested page is always contained in their union.
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Map<ListingType, CompletableFuture<Page<ListingCardResponse>>> pending = new EnumMap<>(ListingType.class);
+        for (ListingType type : types) {
+            pending.put(type, CompletableFuture.supplyAsync(() -> searchVertical(type, safeCriteria, window, deadline), executor));
+        }
+
+        List<ListingCardResponse> candidates = new ArrayList<>();
+        List<ListingType> incomplete = new ArrayList<>();
+        long totalItems = 0;
+        for (Map.Entry<ListingType, CompletableFuture<Page<ListingCardResponse>>> entry : pending.entrySet()) {
+            CompletableFuture<Page<ListingCardResponse>> future = entry.getValue();
+            try {
+                Page<ListingCardResponse> result = future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                candidates.addAll(result.getContent());
+                totalItems += result.getTotalElements();
+            } catch (TimeoutException ex) {
+                future.cancel(true);
+                incomplete.add(entry.getKey());
+                log.warn("Search over {} did not finish within {} ms", entry.getKey(), timeoutMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                pending.values().forEach(other -> other.cancel(true));
+                throw new IllegalStateException("Search was interrupted", ex);
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof QueryTimeoutException || ex.getCause() instanceof TransactionTimedOutException) {
+                    incomplete.add(entry.getKey());
+                    log.warn("Search over {} did not finish within {} ms", entry.getKey(), timeoutMillis);
+                    continue;
+                }
+                if (ex.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException("Search failed", ex.getCause());
+            }
+        }
+
+        List<ListingCardResponse> items = candidates.stream()
+            .sorted(RANKING)
+            .skip((long) safePage * safeSize)
+            .limit(safeSize)
+            .collect(Collectors.toList());
+        int totalPages = (int) ((totalItems + safeSize - 1) / safeSize);
+        return new UnifiedSearchResponse(items, totalItems, totalPages, safePage, safeSize, incomplete);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs one vertical in a read-only transaction that expires with the search deadline. Spring
+     * hands the remaining time to every JPA query and JDBC statement in it, so a vertical the caller
+     * has given up on stops on the database too instead of only being abandoned by the future.
+     * Statement timeouts are whole seconds, hence the rounding up.
+     */
+    private Page<ListingCardResponse> searchVertical(ListingType type, UnifiedSearchCriteria criteria, int window, long deadline) {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMillis <= 0) {
+            throw new TransactionTimedOutException("Search deadline passed before the " + type + " query started");
+        }
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.setTimeout((int) Math.max(1, (remainingMillis + 999) / 1000));
+        return transaction.execute(status -> searchVertical(type, criteria, window));
+    }
+
+    private Page<ListingCardResponse> searchVertical(ListingType type, UnifiedSearchCriteria criteria, int window) {
+        switch (type) {
+            case PROPERTY -> {
+                PropertySearchCriteria propertyCriteria = new PropertySearchCriteria();
+                propertyCriteria.setCity(criteria.getCity());
+                propertyCriteria.setMinPrice(criteria.getMinMonthlyPrice());
+                propertyCriteria.setMaxPrice(criteria.getMaxMonthlyPrice());
+                return propertyService.searchCards(propertyCriteria, ranked("price", window));
+            }
+            case ROOMMATE_AD -> {
+                RoommateSearchCriteria roommateCriteria = new RoommateSearchCriteria();
+                roommateCriteria.setCity(criteria.getCity());
+                roommateCriteria.setMinRent(criteria.getMinMonthlyPrice());
+                roommateCriteria.setMaxRent(criteria.getMaxMonthlyPrice());
+                return roommateService.searchCards(roommateCriteria, ranked("monthlyRent", window));
+            }
+            case TEMPORARY_STAY -> {
+                TemporaryStaySearchCriteria stayCriteria = new TemporaryStaySearchCriteria();
+                stayCriteria.setCity(criteria.getCity());
+                stayCriteria.setMinPrice(MonthlyPrices.toNightlyCeiling(criteria.getMinMonthlyPrice()));
+                stayCriteria.setMaxPrice(MonthlyPrices.toNightlyFloor(criteria.getMaxMonthlyPrice()));
+                return temporaryStayService.searchCards(stayCriteria, ranked("pricePerNight", window));
+            }
+            default -> throw new IllegalArgumentException("Unsupported listing type " + type);
+        }
+    }
+
+    private Pageable ranked(String priceProperty, int window) {
+        Sort sort = Sort.by(Sort.Order.asc(priceProperty), Sort.Order.desc("createdAt"), Sort.Order.asc("id"));
+        return PageRequest.of(0, window, sort);
+    }
+}
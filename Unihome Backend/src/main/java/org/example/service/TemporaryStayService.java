@@ -1,27 +1,45 @@
 package org.example.service;
 
+import org.example.dto.common.ListingCardResponse;
+import org.example.dto.common.ListingStatsResponse;
 import org.example.dto.common.PagedResponse;
 import org.example.dto.temporary.CreateTemporaryStayRequest;
 import org.example.dto.temporary.TemporaryStayResponse;
 import org.example.dto.temporary.TemporaryStaySearchCriteria;
 import org.example.dto.temporary.UpdateTemporaryStayRequest;
+import org.example.event.ListingChangeType;
+import org.example.event.ListingChangedEvent;
 import org.example.exception.ForbiddenException;
 import org.example.exception.ResourceNotFoundException;
 import org.example.mapper.TemporaryStayMapper;
+import org.example.model.listing.ListingType;
 import org.example.model.temporary.TemporaryStayEntity;
 import org.example.model.user.UserEntity;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.example.model.user.UserRole;
 import org.example.repository.TemporaryStayRepository;
-import org.example.repository.specification.TemporaryStaySpecifications;
+import org.example.repository.search.IdRestriction;
+import org.example.repository.search.ListingSearchEngine;
+import org.example.repository.specification.ListingSorts;
+import org.example.search.ListingTagIndex;
+import org.example.search.SimilarListingsIndex;
+import org.example.search.StayAvailabilityIndex;
+import org.example.stats.ListingViewCounter;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,26 +47,61 @@ import org.springframework.transaction.annotation.Transactional;
 public class TemporaryStayService {
 
     private final TemporaryStayRepository temporaryStayRepository;
+    private final ListingSearchEngine searchEngine;
     private final TemporaryStayMapper temporaryStayMapper;
     private final UserService userService;
+    private final ListingTagIndex listingTagIndex;
+    private final StayAvailabilityIndex stayAvailabilityIndex;
+    private final SimilarListingsIndex similarListingsIndex;
+    private final ListingViewCounter listingViewCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TemporaryStayService(TemporaryStayRepository temporaryStayRepository, TemporaryStayMapper temporaryStayMapper, UserService userService) {
+    public TemporaryStayService(
+        TemporaryStayRepository temporaryStayRepository,
+        ListingSearchEngine searchEngine,
+        TemporaryStayMapper temporaryStayMapper,
+        UserService userService,
+        ListingTagIndex listingTagIndex,
+        StayAvailabilityIndex stayAvailabilityIndex,
+        SimilarListingsIndex similarListingsIndex,
+        ListingViewCounter listingViewCounter,
+        ApplicationEventPublisher eventPublisher
+    ) {
         this.temporaryStayRepository = temporaryStayRepository;
+        this.searchEngine = searchEngine;
         this.temporaryStayMapper = temporaryStayMapper;
         this.userService = userService;
+        this.listingTagIndex = listingTagIndex;
+        this.stayAvailabilityIndex = stayAvailabilityIndex;
+        this.similarListingsIndex = similarListingsIndex;
+        this.listingViewCounter = listingViewCounter;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
     public PagedResponse<TemporaryStayResponse> search(TemporaryStaySearchCriteria criteria, int page, int size) {
-        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1));
-        Specification<TemporaryStayEntity> specification = TemporaryStaySpecifications.fromCriteria(criteria);
-        Page<TemporaryStayEntity> result = temporaryStayRepository.findAll(specification, pageable);
+        Sort sort = ListingSorts.forTemporaryStays(criteria != null ? criteria.getSort() : null);
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.max(size, 1), sort);
+        Page<TemporaryStayEntity> result = searchEngine.findTemporaryStays(criteria, restriction(criteria), pageable);
         List<TemporaryStayResponse> items = result.stream()
             .map(temporaryStayMapper::toResponse)
             .collect(Collectors.toList());
         return new PagedResponse<>(items, result.getTotalElements(), result.getTotalPages(), result.getNumber(), result.getSize());
     }
 
+    @Transactional(readOnly = true)
+    public PagedResponse<ListingCardResponse> searchCards(TemporaryStaySearchCriteria criteria, int page, int size) {
+        Sort sort = ListingSorts.forTemporaryStays(criteria != null ? criteria.getSort() : null);
+        Page<ListingCardResponse> result = searchCards(criteria, PageRequest.of(Math.max(page, 0), Math.max(size, 1), sort));
+        return new PagedResponse<>(result.getContent(), result.getTotalElements(), result.getTotalPages(), result.getNumber(), result.getSize());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ListingCardResponse> searchCards(TemporaryStaySearchCriteria criteria, Pageable pageable) {
+        Page<UUID> ids = searchEngine.findTemporaryStayIds(criteria, restriction(criteria), pageable);
+        return new PageImpl<>(toCards(ids.getContent()), pageable, ids.getTotalElements());
+    }
+
     @Transactional
     public TemporaryStayResponse create(UUID managerId, CreateTemporaryStayRequest request) {
         UserEntity manager = requireManager(managerId);
@@ -56,6 +109,7 @@ public class TemporaryStayService {
         entity.setManager(manager);
         entity.setPublished(true);
         TemporaryStayEntity saved = temporaryStayRepository.save(entity);
+        publishChange(saved.getId(), ListingChangeType.CREATED, cityKeyOf(saved));
         return temporaryStayMapper.toResponse(saved);
     }
 
@@ -64,7 +118,9 @@ public class TemporaryStayService {
         UserEntity manager = requireManager(managerId);
         TemporaryStayEntity stay = requireStay(stayId);
         ensureOwnership(manager, stay);
+        String previousCityKey = cityKeyOf(stay);
         temporaryStayMapper.apply(stay, request);
+        publishChange(stayId, ListingChangeType.UPDATED, previousCityKey, cityKeyOf(stay));
         return temporaryStayMapper.toResponse(stay);
     }
 
@@ -74,6 +130,7 @@ public class TemporaryStayService {
         TemporaryStayEntity stay = requireStay(stayId);
         ensureOwnership(manager, stay);
         temporaryStayRepository.delete(stay);
+        publishChange(stayId, ListingChangeType.DELETED, cityKeyOf(stay));
     }
 
     @Transactional(readOnly = true)
@@ -88,6 +145,26 @@ public class TemporaryStayService {
         return temporaryStayMapper.toResponse(stay);
     }
 
+    @Transactional(readOnly = true)
+    public List<ListingCardResponse> findSimilar(UUID stayId, int limit) {
+        return toCards(similarListingsIndex.similar(ListingType.TEMPORARY_STAY, stayId, limit));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ListingCardResponse> findCards(List<UUID> ids) {
+        return toCards(ids);
+    }
+
+    private List<ListingCardResponse> toCards(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, ListingCardResponse> cards = temporaryStayRepository.findCardRows(ids).stream()
+            .map(temporaryStayMapper::toCard)
+            .collect(Collectors.toMap(ListingCardResponse::getId, card -> card));
+        return ids.stream().map(cards::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public List<TemporaryStayResponse> findRecent(int limit) {
         if (limit <= 0) {
@@ -98,12 +175,26 @@ public class TemporaryStayService {
         return stays.stream().map(temporaryStayMapper::toResponse).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<TemporaryStayResponse> exportPublished(UUID after, int limit) {
+        List<UUID> ids = temporaryStayRepository.findPublishedIdsAfter(after, PageRequest.of(0, limit));
+        Map<UUID, TemporaryStayEntity> stays = temporaryStayRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(TemporaryStayEntity::getId, stay -> stay));
+        return ids.stream().map(stays::get).filter(Objects::nonNull).map(temporaryStayMapper::toResponse).collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public List<TemporaryStayResponse> findManagerStays(UUID managerId) {
         UserEntity manager = requireManager(managerId);
-        return temporaryStayRepository.findAllByManagerIdOrderByCreatedAtDesc(manager.getId()).stream()
+        return withStats(temporaryStayRepository.findAllByManagerIdOrderByCreatedAtDesc(manager.getId()).stream()
             .map(temporaryStayMapper::toResponse)
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
+    }
+
+    private List<TemporaryStayResponse> withStats(List<TemporaryStayResponse> responses) {
+        Map<UUID, ListingStatsResponse> stats = listingViewCounter.statsOf(responses.stream().map(TemporaryStayResponse::getId).collect(Collectors.toList()));
+        responses.forEach(response -> response.setStats(stats.get(response.getId())));
+        return responses;
     }
 
     @Transactional
@@ -112,6 +203,8 @@ public class TemporaryStayService {
         TemporaryStayEntity stay = requireStay(stayId);
         ensureOwnership(manager, stay);
         stay.setPublished(false);
+        stay.setUnpublishedAt(Instant.now());
+        publishChange(stayId, ListingChangeType.HIDDEN, cityKeyOf(stay));
         return temporaryStayMapper.toResponse(stay);
     }
 
@@ -121,9 +214,21 @@ public class TemporaryStayService {
         TemporaryStayEntity stay = requireStay(stayId);
         ensureOwnership(manager, stay);
         stay.setPublished(true);
+        stay.setUnpublishedAt(null);
+        publishChange(stayId, ListingChangeType.PUBLISHED, cityKeyOf(stay));
         return temporaryStayMapper.toResponse(stay);
     }
 
+
+    private IdRestriction restriction(TemporaryStaySearchCriteria criteria) {
+        Optional<Set<UUID>> tagMatches = listingTagIndex.matchTemporaryStays(criteria);
+        Optional<IdRestriction> availability = stayAvailabilityIndex.match(criteria);
+        if (tagMatches.isPresent()) {
+            return availability.map(free -> free.retain(tagMatches.get())).orElseGet(() -> IdRestriction.only(tagMatches.get()));
+        }
+        return availability.orElse(null);
+    }
+
     private TemporaryStayEntity requireStay(UUID id) {
         return temporaryStayRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Temporary stay not found"));
@@ -137,6 +242,14 @@ public class TemporaryStayService {
         return user;
     }
 
+    private void publishChange(UUID stayId, ListingChangeType changeType, String... cityKeys) {
+        eventPublisher.publishEvent(new ListingChangedEvent(ListingType.TEMPORARY_STAY, stayId, changeType, Arrays.asList(cityKeys)));
+    }
+
+    private String cityKeyOf(TemporaryStayEntity stay) {
+        return stay.getLocation() != null ? stay.getLocation().getCityKey() : null;
+    }
+
     private void ensureOwnership(UserEntity manager, TemporaryStayEntity stay) {
         if (stay.getManager() == null) {
             stay.setManager(manager);
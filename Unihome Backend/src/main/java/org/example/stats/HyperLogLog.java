@@ -0,0 +1,75 @@
+package org.example.stats;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * HyperLogLog distinct-count sketch with 2^10 one-byte registers (about 3% standard error).
+ * Registers are updated with compare-and-set so concurrent writers never block each other, and
+ * the serialized form is the plain register array, which merges by taking the per-register maximum.
+ */
+final class HyperLogLog {
+
+    static final int REGISTERS = 1 << 10;
+
+    private static final int INDEX_BITS = 10;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private final AtomicIntegerArray registers = new AtomicIntegerArray(REGISTERS);
+
+    void offer(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - INDEX_BITS));
+        raise(index, Math.min(Long.numberOfLeadingZeros(hash << INDEX_BITS), Long.SIZE - INDEX_BITS) + 1);
+    }
+
+    void absorb(byte[] sketch) {
+        for (int i = 0; i < REGISTERS; i++) {
+            raise(i, sketch[i]);
+        }
+    }
+
+    /**
+     * Returns the registers and resets them; updates racing with the reset land in the next drain.
+     */
+    byte[] drain() {
+        byte[] sketch = new byte[REGISTERS];
+        for (int i = 0; i < REGISTERS; i++) {
+            sketch[i] = (byte) registers.getAndSet(i, 0);
+        }
+        return sketch;
+    }
+
+    private void raise(int index, int rank) {
+        int current = registers.get(index);
+        while (rank > current && !registers.compareAndSet(index, current, rank)) {
+            current = registers.get(index);
+        }
+    }
+
+    static byte[] merge(byte[] sketch, byte[] other) {
+        if (sketch == null || sketch.length != REGISTERS) {
+            return other;
+        }
+        byte[] merged = sketch.clone();
+        for (int i = 0; i < REGISTERS; i++) {
+            merged[i] = (byte) Math.max(merged[i], other[i]);
+        }
+        return merged;
+    }
+
+    static long estimate(byte[] sketch) {
+        double sum = 0;
+        int empty = 0;
+        for (byte register : sketch) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                empty++;
+            }
+        }
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        if (estimate <= 2.5 * REGISTERS && empty > 0) {
+            // Linear counting is more accurate while many registers are still empty.
+            estimate = REGISTERS * Math.log((double) REGISTERS / empty);
+        }
+        return Math.round(estimate);
+    }
+}
@@ -0,0 +1,222 @@
+package org.example.stats;
+
+import org.example.dto.common.ListingStatsResponse;
+import org.example.model.listing.ListingType;
+import org.example.model.stats.ListingStatsEntity;
+import org.example.repository.ListingStatsRepository;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Listing detail views, counted in memory and written behind to {@code listing_stats}. Recording a
+ * view is a {@link LongAdder} increment plus a HyperLogLog register update for the viewer, with no
+ * locks or I/O; every flush drains the pending counts and folds them into the stored totals with
+ * one locking read of the touched sketches and one batched upsert. The lock keeps instances that
+ * flush the same listing from overwriting each other's merged sketch.
+ */
+@Component
+public class ListingViewCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(ListingViewCounter.class);
+
+    private static final String UPSERT = "INSERT INTO listing_stats (listing_id, listing_type, views, unique_viewers, viewer_sketch, updated_at) "
+        + "VALUES (:listingId, :listingType, :views, :uniqueViewers, :viewerSketch, :updatedAt) "
+        + "ON DUPLICATE KEY UPDATE views = views + VALUES(views), unique_viewers = VALUES(unique_viewers), "
+        + "viewer_sketch = VALUES(viewer_sketch), updated_at = VALUES(updated_at)";
+
+    /** Gives every flushed listing a row first, so the locking read never falls on a gap. */
+    private static final String SEED = "INSERT IGNORE INTO listing_stats "
+        + "(listing_id, listing_type, views, unique_viewers, viewer_sketch, updated_at) VALUES :rows";
+
+    private static final String LOCK_SKETCHES = "SELECT listing_id, viewer_sketch FROM listing_stats "
+        + "WHERE listing_id IN (:ids) ORDER BY listing_id FOR UPDATE";
+
+    private static final byte[] NO_SKETCH = new byte[0];
+
+    private final ListingStatsRepository listingStatsRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate flushTransaction;
+    private final Map<UUID, Pending> pending = new ConcurrentHashMap<>();
+
+    @Value("${unihome.views.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    public ListingViewCounter(
+        ListingStatsRepository listingStatsRepository,
+        NamedParameterJdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.listingStatsRepository = listingStatsRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    public void record(ListingType type, UUID listingId, UUID viewerId, String clientAddress) {
+        Pending counter = pending.get(listingId);
+        if (counter == null) {
+            counter = pending.computeIfAbsent(listingId, id -> new Pending(type));
+        }
+        counter.views.increment();
+        counter.viewers.offer(viewerHash(viewerId, clientAddress));
+    }
+
+    /**
+     * Stored totals plus views not yet flushed; unique viewers only reflect flushed sketches.
+     */
+    public Map<UUID, ListingStatsResponse> statsOf(Collection<UUID> listingIds) {
+        Map<UUID, ListingStatsResponse> stats = new HashMap<>();
+        for (UUID listingId : listingIds) {
+            Pending counter = pending.get(listingId);
+            ListingStatsResponse response = new ListingStatsResponse();
+            response.setViews(counter != null ? counter.views.sum() : 0);
+            stats.put(listingId, response);
+        }
+        if (!listingIds.isEmpty()) {
+            for (ListingStatsEntity stored : listingStatsRepository.findAllById(listingIds)) {
+                ListingStatsResponse response = stats.get(stored.getListingId());
+                response.setViews(response.getViews() + stored.getViews());
+                response.setUniqueViewers(stored.getUniqueViewers());
+            }
+        }
+        return stats;
+    }
+
+    @Scheduled(fixedDelayString = "${unihome.views.flush-ms:5000}")
+    public void flush() {
+        Map<UUID, Drained> drained = new HashMap<>();
+        for (Map.Entry<UUID, Pending> entry : pending.entrySet()) {
+            Pending counter = entry.getValue();
+            long views = counter.views.sumThenReset();
+            if (views == 0) {
+                // Idle since the last flush; a view racing with this removal can be lost.
+                pending.remove(entry.getKey(), counter);
+                continue;
+            }
+            drained.put(entry.getKey(), new Drained(counter.type, views, counter.viewers.drain()));
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = new ArrayList<>(drained.keySet());
+        for (int from = 0; from < ids.size(); from += flushBatchSize) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + flushBatchSize, ids.size()));
+            try {
+                seed(chunk, drained);
+                flushTransaction.executeWithoutResult(status -> write(chunk, drained));
+            } catch (RuntimeException ex) {
+                log.warn("Could not flush view counts of {} listings, keeping them for the next flush", chunk.size(), ex);
+                chunk.forEach(id -> restore(id, drained.get(id)));
+            }
+        }
+    }
+
+    private void seed(List<UUID> ids, Map<UUID, Drained> drained) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = ids.stream()
+            .map(id -> new Object[] {toBytes(id), drained.get(id).type.name(), 0, 0, NO_SKETCH, now})
+            .toList();
+        jdbcTemplate.update(SEED, new MapSqlParameterSource("rows", rows));
+    }
+
+    private void write(List<UUID> ids, Map<UUID, Drained> drained) {
+        // Rows are locked in key order on every instance, so concurrent flushes queue instead of deadlocking.
+        Map<UUID, byte[]> stored = new HashMap<>();
+        jdbcTemplate.query(
+            LOCK_SKETCHES,
+            new MapSqlParameterSource("ids", ids.stream().map(ListingViewCounter::toBytes).toList()),
+            (RowCallbackHandler) rs -> stored.put(toUuid(rs.getBytes(1)), rs.getBytes(2))
+        );
+        Timestamp now = Timestamp.from(Instant.now());
+        MapSqlParameterSource[] batch = new MapSqlParameterSource[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            UUID id = ids.get(i);
+            Drained counts = drained.get(id);
+            byte[] sketch = HyperLogLog.merge(stored.get(id), counts.sketch);
+            batch[i] = new MapSqlParameterSource()
+                .addValue("listingId", toBytes(id))
+                .addValue("listingType", counts.type.name())
+                .addValue("views", counts.views)
+                .addValue("uniqueViewers", HyperLogLog.estimate(sketch))
+                .addValue("viewerSketch", sketch)
+                .addValue("updatedAt", now);
+        }
+        jdbcTemplate.batchUpdate(UPSERT, batch);
+    }
+
+    private void restore(UUID listingId, Drained counts) {
+        Pending counter = pending.computeIfAbsent(listingId, id -> new Pending(counts.type));
+        counter.views.add(counts.views);
+        counter.viewers.absorb(counts.sketch);
+    }
+
+    private static long viewerHash(UUID viewerId, String clientAddress) {
+        if (viewerId != null) {
+            return mix(viewerId.getMostSignificantBits() ^ mix(viewerId.getLeastSignificantBits()));
+        }
+        // FNV-1a over the address; the final mix spreads it over all 64 bits.
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : (clientAddress != null ? clientAddress : "").getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xff)) * 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+
+    private static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static final class Pending {
+
+        private final ListingType type;
+        private final LongAdder views = new LongAdder();
+        private final HyperLogLog viewers = new HyperLogLog();
+
+        private Pending(ListingType type) {
+            this.type = type;
+        }
+    }
+
+    private static final class Drained {
+
+        private final ListingType type;
+        private final long views;
+        private final byte[] sketch;
+
+        private Drained(ListingType type, long views, byte[] sketch) {
+            this.type = type;
+            this.views = views;
+            this.sketch = sketch;
+        }
+    }
+}
@@ -3,6 +3,8 @@ SET time_zone = '+00:00';
 
 
 SET FOREIGN_KEY_CHECKS = 0;
+TRUNCATE TABLE saved_search_matches;
+TRUNCATE TABLE saved_searches;
 TRUNCATE TABLE favorites;
 TRUNCATE TABLE contact_messages;
 TRUNCATE TABLE contact_recipients;
@@ -25,6 +27,7 @@ TRUNCATE TABLE property_images;
 TRUNCATE TABLE property_features;
 TRUNCATE TABLE properties;
 TRUNCATE TABLE users;
+TRUNCATE TABLE tags;
 SET FOREIGN_KEY_CHECKS = 1;
 
 
@@ -32,6 +35,25 @@ SET FOREIGN_KEY_CHECKS = 1;
 
 
 
+INSERT INTO tags (id, canonical, label) VALUES
+    (1, 'κεντρικη θερμανση', 'Κεντρική Θέρμανση'),
+    (2, 'κλιματισμοσ', 'Κλιματισμός'),
+    (3, 'wi-fi 100mbps', 'Wi-Fi 100Mbps'),
+    (4, 'τζακι', 'Τζάκι'),
+    (5, 'θεση σταθμευσησ', 'Θέση Στάθμευσης'),
+    (6, 'αποθηκη', 'Αποθήκη'),
+    (7, 'wi-fi', 'Wi-Fi'),
+    (8, 'πλυντηριο', 'Πλυντήριο'),
+    (9, 'χωροσ γραφειου', 'Χώρος Γραφείου'),
+    (10, 'πρωινο', 'Πρωινό'),
+    (11, 'θεα θαλασσα', 'Θέα Θάλασσα'),
+    (12, 'σεβασμοσ ωρων ησυχιασ', 'Σεβασμός ωρών ησυχίας'),
+    (13, 'καθαριοτητα', 'Καθαριότητα'),
+    (14, 'ηρεμη βραδινη ρουτινα', 'Ήρεμη βραδινή ρουτίνα'),
+    (15, 'αγαπαει το διαβασμα', 'Αγαπάει το διάβασμα'),
+    (16, 'γρηγορο wi-fi', 'Γρήγορο Wi-Fi');
+
+
 INSERT INTO users (
     id, email, password, first_name, last_name, age, phone, role,
     student_university, student_department, student_semester, student_is_student,
@@ -78,13 +100,13 @@ INSERT INTO properties (
      FALSE, NULL, TRUE, NOW());
 
 
-INSERT INTO property_features (property_id, feature) VALUES
-    (UUID_TO_BIN('aaaa1111-aaaa-1111-aaaa-1111aaaa1111'), 'Κεντρική Θέρμανση'),
-    (UUID_TO_BIN('aaaa1111-aaaa-1111-aaaa-1111aaaa1111'), 'Κλιματισμός'),
-    (UUID_TO_BIN('aaaa1111-aaaa-1111-aaaa-1111aaaa1111'), 'Wi-Fi 100Mbps'),
-    (UUID_TO_BIN('aaaa2222-aaaa-2222-aaaa-2222aaaa2222'), 'Τζάκι'),
-    (UUID_TO_BIN('aaaa2222-aaaa-2222-aaaa-2222aaaa2222'), 'Θέση Στάθμευσης'),
-    (UUID_TO_BIN('aaaa2222-aaaa-2222-aaaa-2222aaaa2222'), 'Αποθήκη');
+INSERT INTO property_features (property_id, tag_id) VALUES
+    (UUID_TO_BIN('aaaa1111-aaaa-1111-aaaa-1111aaaa1111'), 1),
+    (UUID_TO_BIN('aaaa1111-aaaa-1111-aaaa-1111aaaa1111'), 2),
+    (UUID_TO_BIN('aaaa1111-aaaa-1111-aaaa-1111aaaa1111'), 3),
+    (UUID_TO_BIN('aaaa2222-aaaa-2222-aaaa-2222aaaa2222'), 4),
+    (UUID_TO_BIN('aaaa2222-aaaa-2222-aaaa-2222aaaa2222'), 5),
+    (UUID_TO_BIN('aaaa2222-aaaa-2222-aaaa-2222aaaa2222'), 6);
 
 
 INSERT INTO property_images (property_id, image_url) VALUES
@@ -116,10 +138,10 @@ INSERT INTO temporary_stays (
      'Παρέχεται πρωινό κάθε Κυριακή.', NOW(), 'https://cal.unihome.test/elena',
      UUID_TO_BIN('aaaa1111-aaaa-1111-aaaa-1111aaaa1111'), NOW());
 
-INSERT INTO temporary_stay_amenities (stay_id, amenity) VALUES
-    (UUID_TO_BIN('bbbb1111-bbbb-1111-bbbb-1111bbbb1111'), 'Wi-Fi'),
-    (UUID_TO_BIN('bbbb1111-bbbb-1111-bbbb-1111bbbb1111'), 'Πλυντήριο'),
-    (UUID_TO_BIN('bbbb1111-bbbb-1111-bbbb-1111bbbb1111'), 'Χώρος Γραφείου');
+INSERT INTO temporary_stay_amenities (stay_id, tag_id) VALUES
+    (UUID_TO_BIN('bbbb1111-bbbb-1111-bbbb-1111bbbb1111'), 7),
+    (UUID_TO_BIN('bbbb1111-bbbb-1111-bbbb-1111bbbb1111'), 8),
+    (UUID_TO_BIN('bbbb1111-bbbb-1111-bbbb-1111bbbb1111'), 9);
 
 INSERT INTO temporary_stay_images (stay_id, image_url) VALUES
     (UUID_TO_BIN('bbbb1111-bbbb-1111-bbbb-1111bbbb1111'), 'https://images.unsplash.com/photo-1505693415763-3ed5e04ba4cd?auto=format&fit=crop&w=960&q=80'),
@@ -142,10 +164,10 @@ INSERT INTO temporary_stays (
      'Ελάχιστη διαμονή 2 βραδιές. Παρέχεται δωρεάν μεταφορά από το λιμάνι.', NOW(), NULL,
      NULL, NOW());
 
-INSERT INTO temporary_stay_amenities (stay_id, amenity) VALUES
-    (UUID_TO_BIN('bbbb2222-bbbb-2222-bbbb-2222bbbb2222'), 'Κλιματισμός'),
-    (UUID_TO_BIN('bbbb2222-bbbb-2222-bbbb-2222bbbb2222'), 'Πρωινό'),
-    (UUID_TO_BIN('bbbb2222-bbbb-2222-bbbb-2222bbbb2222'), 'Θέα Θάλασσα');
+INSERT INTO temporary_stay_amenities (stay_id, tag_id) VALUES
+    (UUID_TO_BIN('bbbb2222-bbbb-2222-bbbb-2222bbbb2222'), 2),
+    (UUID_TO_BIN('bbbb2222-bbbb-2222-bbbb-2222bbbb2222'), 10),
+    (UUID_TO_BIN('bbbb2222-bbbb-2222-bbbb-2222bbbb2222'), 11);
 
 INSERT INTO temporary_stay_images (stay_id, image_url) VALUES
     (UUID_TO_BIN('bbbb2222-bbbb-2222-bbbb-2222bbbb2222'), 'https://images.unsplash.com/photo-1505691723518-36a5ac3be353?auto=format&fit=crop&w=960&q=80');
@@ -175,24 +197,24 @@ INSERT INTO roommate_ads (
     'Προτιμώ συγκάτοικο που δεν καπνίζει.', NOW(), NULL,
      NOW());
 
-INSERT INTO roommate_preferences (ad_id, preference) VALUES
-    (UUID_TO_BIN('cccc1111-cccc-1111-cccc-1111cccc1111'), 'Σεβασμός ωρών ησυχίας'),
-    (UUID_TO_BIN('cccc1111-cccc-1111-cccc-1111cccc1111'), 'Καθαριότητα');
+INSERT INTO roommate_preferences (ad_id, tag_id) VALUES
+    (UUID_TO_BIN('cccc1111-cccc-1111-cccc-1111cccc1111'), 12),
+    (UUID_TO_BIN('cccc1111-cccc-1111-cccc-1111cccc1111'), 13);
 
 INSERT INTO roommate_property_features (ad_id, feature) VALUES
     (UUID_TO_BIN('cccc1111-cccc-1111-cccc-1111cccc1111'), 'Κοινόχρηστη σκεπαστή βεράντα'),
     (UUID_TO_BIN('cccc1111-cccc-1111-cccc-1111cccc1111'), 'Αποθήκη για ποδήλατα');
 
-INSERT INTO roommate_lifestyle (ad_id, lifestyle_order, lifestyle_tag) VALUES
-    (UUID_TO_BIN('cccc1111-cccc-1111-cccc-1111cccc1111'), 1, 'Ήρεμη βραδινή ρουτίνα'),
-    (UUID_TO_BIN('cccc1111-cccc-1111-cccc-1111cccc1111'), 2, 'Αγαπάει το διάβασμα');
+INSERT INTO roommate_lifestyle (ad_id, lifestyle_order, tag_id) VALUES
+    (UUID_TO_BIN('cccc1111-cccc-1111-cccc-1111cccc1111'), 1, 14),
+    (UUID_TO_BIN('cccc1111-cccc-1111-cccc-1111cccc1111'), 2, 15);
 
 INSERT INTO roommate_images (ad_id, image_url) VALUES
     (UUID_TO_BIN('cccc1111-cccc-1111-cccc-1111cccc1111'), 'https://images.unsplash.com/photo-1484154218962-a197022b5858?auto=format&fit=crop&w=960&q=80');
 
-INSERT INTO roommate_amenities (ad_id, amenity) VALUES
-    (UUID_TO_BIN('cccc1111-cccc-1111-cccc-1111cccc1111'), 'Γρήγορο Wi-Fi'),
-    (UUID_TO_BIN('cccc1111-cccc-1111-cccc-1111cccc1111'), 'Πλυντήριο');
+INSERT INTO roommate_amenities (ad_id, tag_id) VALUES
+    (UUID_TO_BIN('cccc1111-cccc-1111-cccc-1111cccc1111'), 16),
+    (UUID_TO_BIN('cccc1111-cccc-1111-cccc-1111cccc1111'), 8);
 
 
 INSERT INTO favorites (id, user_id, type, target_id, created_at) VALUES
@@ -0,0 +1,250 @@
+-- Upgrades a database created by the original schema.sql to the current layout. schema.sql only
+-- creates missing tables and is not run against MySQL by default (spring.sql.init.mode=embedded),
+-- while Hibernate validates the schema on startup, so existing databases must run this once, with
+-- the application stopped and after taking a backup:
+--
+--   mysql -u root -p unihome < src/main/resources/db/migration/001_tag_ids_city_keys_sort_indexes.sql
+--
+-- city_key columns are added empty; CityKeyBackfill fills them on the next startup.
+
+-- Tag dictionary -----------------------------------------------------------------------------
+
+CREATE TABLE IF NOT EXISTS tags (
+    id INT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    canonical VARCHAR(255) COLLATE utf8mb4_bin NOT NULL UNIQUE,
+    label VARCHAR(255) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Every distinct label in use, compared byte for byte so "WiFi" and "wifi" are separate rows that
+-- share one canonical form.
+CREATE TEMPORARY TABLE tag_labels (
+    label VARCHAR(255) COLLATE utf8mb4_bin NOT NULL PRIMARY KEY,
+    canonical VARCHAR(255) COLLATE utf8mb4_bin
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+INSERT IGNORE INTO tag_labels (label)
+SELECT feature FROM property_features
+UNION ALL SELECT amenity FROM temporary_stay_amenities
+UNION ALL SELECT lifestyle_tag FROM roommate_lifestyle
+UNION ALL SELECT preference FROM roommate_preferences
+UNION ALL SELECT amenity FROM roommate_amenities;
+
+-- Same result as TagDictionary.canonical for Greek and Latin-1 labels: lower case, accents and
+-- final sigma folded, whitespace collapsed and trimmed.
+UPDATE tag_labels SET canonical = TRIM(REGEXP_REPLACE(
+    REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(
+    REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(
+    REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(
+    REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(
+        LOWER(label),
+        'ά', 'α'), 'έ', 'ε'), 'ή', 'η'), 'ί', 'ι'), 'ϊ', 'ι'), 'ΐ', 'ι'), 'ό', 'ο'), 'ύ', 'υ'),
+        'ϋ', 'υ'), 'ΰ', 'υ'), 'ώ', 'ω'), 'ς', 'σ'),
+        'à', 'a'), 'á', 'a'), 'â', 'a'), 'ã', 'a'), 'ä', 'a'), 'å', 'a'), 'ç', 'c'), 'è', 'e'),
+        'é', 'e'), 'ê', 'e'), 'ë', 'e'), 'ì', 'i'), 'í', 'i'), 'î', 'i'), 'ï', 'i'), 'ñ', 'n'),
+        'ò', 'o'), 'ó', 'o'), 'ô', 'o'), 'õ', 'o'), 'ö', 'o'), 'ù', 'u'), 'ú', 'u'), 'û', 'u'),
+        'ü', 'u'), 'ý', 'y'), 'ÿ', 'y'),
+    '[[:space:]]+', ' '));
+
+-- The first spelling of each canonical form becomes its display label.
+INSERT IGNORE INTO tags (canonical, label)
+SELECT canonical, TRIM(REGEXP_REPLACE(MIN(label), '[[:space:]]+', ' '))
+FROM tag_labels
+WHERE canonical <> ''
+GROUP BY canonical;
+
+-- Join tables: label columns become tag_id foreign keys --------------------------------------
+
+ALTER TABLE property_features ADD COLUMN tag_id INT NULL;
+UPDATE property_features f
+    JOIN tag_labels l ON l.label = f.feature COLLATE utf8mb4_bin
+    JOIN tags t ON t.canonical = l.canonical
+SET f.tag_id = t.id;
+DELETE FROM property_features WHERE tag_id IS NULL;
+DELETE a FROM property_features a
+    JOIN property_features b ON b.property_id = a.property_id AND b.tag_id = a.tag_id AND b.feature COLLATE utf8mb4_bin < a.feature COLLATE utf8mb4_bin;
+ALTER TABLE property_features
+    DROP PRIMARY KEY,
+    DROP COLUMN feature,
+    MODIFY tag_id INT NOT NULL,
+    ADD PRIMARY KEY (property_id, tag_id),
+    ADD CONSTRAINT fk_property_features_tag FOREIGN KEY (tag_id) REFERENCES tags(id);
+
+ALTER TABLE temporary_stay_amenities ADD COLUMN tag_id INT NULL;
+UPDATE temporary_stay_amenities a
+    JOIN tag_labels l ON l.label = a.amenity COLLATE utf8mb4_bin
+    JOIN tags t ON t.canonical = l.canonical
+SET a.tag_id = t.id;
+DELETE FROM temporary_stay_amenities WHERE tag_id IS NULL;
+DELETE a FROM temporary_stay_amenities a
+    JOIN temporary_stay_amenities b ON b.stay_id = a.stay_id AND b.tag_id = a.tag_id AND b.amenity COLLATE utf8mb4_bin < a.amenity COLLATE utf8mb4_bin;
+ALTER TABLE temporary_stay_amenities
+    DROP PRIMARY KEY,
+    DROP COLUMN amenity,
+    MODIFY tag_id INT NOT NULL,
+    ADD PRIMARY KEY (stay_id, tag_id),
+    ADD CONSTRAINT fk_temporary_amenities_tag FOREIGN KEY (tag_id) REFERENCES tags(id);
+
+ALTER TABLE roommate_preferences ADD COLUMN tag_id INT NULL;
+UPDATE roommate_preferences p
+    JOIN tag_labels l ON l.label = p.preference COLLATE utf8mb4_bin
+    JOIN tags t ON t.canonical = l.canonical
+SET p.tag_id = t.id;
+DELETE FROM roommate_preferences WHERE tag_id IS NULL;
+DELETE a FROM roommate_preferences a
+    JOIN roommate_preferences b ON b.ad_id = a.ad_id AND b.tag_id = a.tag_id AND b.preference COLLATE utf8mb4_bin < a.preference COLLATE utf8mb4_bin;
+ALTER TABLE roommate_preferences
+    DROP PRIMARY KEY,
+    DROP COLUMN preference,
+    MODIFY tag_id INT NOT NULL,
+    ADD PRIMARY KEY (ad_id, tag_id),
+    ADD CONSTRAINT fk_roommate_preferences_tag FOREIGN KEY (tag_id) REFERENCES tags(id);
+
+ALTER TABLE roommate_amenities ADD COLUMN tag_id INT NULL;
+UPDATE roommate_amenities a
+    JOIN tag_labels l ON l.label = a.amenity COLLATE utf8mb4_bin
+    JOIN tags t ON t.canonical = l.canonical
+SET a.tag_id = t.id;
+DELETE FROM roommate_amenities WHERE tag_id IS NULL;
+DELETE a FROM roommate_amenities a
+    JOIN roommate_amenities b ON b.ad_id = a.ad_id AND b.tag_id = a.tag_id AND b.amenity COLLATE utf8mb4_bin < a.amenity COLLATE utf8mb4_bin;
+ALTER TABLE roommate_amenities
+    DROP PRIMARY KEY,
+    DROP COLUMN amenity,
+    MODIFY tag_id INT NOT NULL,
+    ADD PRIMARY KEY (ad_id, tag_id),
+    ADD CONSTRAINT fk_roommate_amenities_tag FOREIGN KEY (tag_id) REFERENCES tags(id);
+
+-- Lifestyle tags keep their order; blank ones are dropped and the positions renumbered so the
+-- @OrderColumn list has no gaps.
+ALTER TABLE roommate_lifestyle ADD COLUMN tag_id INT NULL;
+UPDATE roommate_lifestyle s
+    JOIN tag_labels l ON l.label = s.lifestyle_tag COLLATE utf8mb4_bin
+    JOIN tags t ON t.canonical = l.canonical
+SET s.tag_id = t.id;
+DELETE FROM roommate_lifestyle WHERE tag_id IS NULL;
+CREATE TEMPORARY TABLE lifestyle_positions ENGINE=InnoDB AS
+SELECT ad_id, lifestyle_order + 1000000 AS lifestyle_order,
+    ROW_NUMBER() OVER (PARTITION BY ad_id ORDER BY lifestyle_order) - 1 AS position
+FROM roommate_lifestyle;
+UPDATE roommate_lifestyle SET lifestyle_order = lifestyle_order + 1000000;
+UPDATE roommate_lifestyle s
+    JOIN lifestyle_positions r ON r.ad_id = s.ad_id AND r.lifestyle_order = s.lifestyle_order
+SET s.lifestyle_order = r.position;
+DROP TEMPORARY TABLE lifestyle_positions;
+ALTER TABLE roommate_lifestyle
+    DROP COLUMN lifestyle_tag,
+    MODIFY tag_id INT NOT NULL,
+    ADD CONSTRAINT fk_roommate_lifestyle_tag FOREIGN KEY (tag_id) REFERENCES tags(id);
+
+DROP TEMPORARY TABLE tag_labels;
+
+-- Listing columns and indexes ----------------------------------------------------------------
+
+ALTER TABLE properties
+    ADD COLUMN price_per_sqm DECIMAL(12, 2) GENERATED ALWAYS AS (price / NULLIF(area, 0)) STORED AFTER area,
+    ADD COLUMN city_key VARCHAR(240) AFTER city,
+    ADD COLUMN unpublished_at DATETIME(6) AFTER is_published,
+    ADD INDEX idx_properties_published_created (is_published, created_at, id),
+    ADD INDEX idx_properties_unpublished (is_published, unpublished_at),
+    ADD INDEX idx_properties_published_price (is_published, price, id),
+    ADD INDEX idx_properties_published_price_sqm (is_published, price_per_sqm, id),
+    ADD INDEX idx_properties_published_area (is_published, area, id),
+    ADD INDEX idx_properties_city_created (city_key, is_published, created_at, id),
+    ADD INDEX idx_properties_city_price (city_key, is_published, price, id),
+    ADD INDEX idx_properties_city_price_sqm (city_key, is_published, price_per_sqm, id),
+    ADD INDEX idx_properties_city_area (city_key, is_published, area, id);
+
+ALTER TABLE roommate_ads
+    ADD COLUMN location_city_key VARCHAR(240) AFTER location_city,
+    ADD COLUMN unpublished_at DATETIME(6) AFTER is_published,
+    ADD INDEX idx_roommate_ads_published_created (is_published, created_at, id),
+    ADD INDEX idx_roommate_ads_unpublished (is_published, unpublished_at),
+    ADD INDEX idx_roommate_ads_published_rent (is_published, monthly_rent, id),
+    ADD INDEX idx_roommate_ads_published_available (is_published, available_from, id),
+    ADD INDEX idx_roommate_ads_city_created (location_city_key, is_published, created_at, id),
+    ADD INDEX idx_roommate_ads_city_rent (location_city_key, is_published, monthly_rent, id),
+    ADD INDEX idx_roommate_ads_city_available (location_city_key, is_published, available_from, id);
+
+-- One hospitality stay per property: keep the oldest projection and point the property at it.
+DELETE s FROM temporary_stays s
+    JOIN temporary_stays k ON k.linked_property_id = s.linked_property_id
+        AND (k.created_at < s.created_at OR (k.created_at = s.created_at AND k.id < s.id));
+UPDATE properties p
+    JOIN temporary_stays s ON s.linked_property_id = p.id
+SET p.hospitality_listing_id = s.id;
+
+ALTER TABLE temporary_stays
+    ADD COLUMN city_key VARCHAR(240) AFTER city,
+    ADD COLUMN unpublished_at DATETIME(6) AFTER is_published,
+    ADD UNIQUE KEY uk_temporary_stays_linked_property (linked_property_id),
+    ADD INDEX idx_temporary_stays_published_created (is_published, created_at, id),
+    ADD INDEX idx_temporary_stays_unpublished (is_published, unpublished_at),
+    ADD INDEX idx_temporary_stays_published_price (is_published, price_per_night, id),
+    ADD INDEX idx_temporary_stays_city_created (city_key, is_published, created_at, id),
+    ADD INDEX idx_temporary_stays_city_price (city_key, is_published, price_per_night, id);
+
+-- Favorites become idempotent: keep the first of any duplicates.
+DELETE f FROM favorites f
+    JOIN favorites k ON k.user_id = f.user_id AND k.type = f.type AND k.target_id = f.target_id
+        AND (k.created_at < f.created_at OR (k.created_at = f.created_at AND k.id < f.id));
+ALTER TABLE favorites ADD UNIQUE KEY uk_favorites_user_target (user_id, type, target_id);
+
+ALTER TABLE contact_messages ADD INDEX idx_contact_messages_created (created_at);
+
+-- New tables ---------------------------------------------------------------------------------
+
+CREATE TABLE IF NOT EXISTS contact_messages_archive (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    subject VARCHAR(255),
+    message VARCHAR(4000) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    archived_at DATETIME(6) NOT NULL,
+    INDEX idx_contact_messages_archive_created (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS saved_searches (
+    id BINARY(16) NOT NULL PRIMARY KEY DEFAULT (UUID_TO_BIN(UUID())),
+    user_id BINARY(16) NOT NULL,
+    name VARCHAR(120) NOT NULL,
+    listing_type VARCHAR(30) NOT NULL,
+    criteria_json VARCHAR(4000) NOT NULL,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    INDEX idx_saved_searches_user (user_id, created_at),
+    CONSTRAINT fk_saved_searches_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS saved_search_matches (
+    id BINARY(16) NOT NULL PRIMARY KEY DEFAULT (UUID_TO_BIN(UUID())),
+    saved_search_id BINARY(16) NOT NULL,
+    listing_type VARCHAR(30) NOT NULL,
+    listing_id BINARY(16) NOT NULL,
+    listing_title VARCHAR(255) NOT NULL,
+    matched_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    notified_at DATETIME(6),
+    UNIQUE KEY uk_saved_search_matches_listing (saved_search_id, listing_id),
+    INDEX idx_saved_search_matches_pending (notified_at, saved_search_id),
+    CONSTRAINT fk_saved_search_matches_search FOREIGN KEY (saved_search_id) REFERENCES saved_searches(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS listing_archive (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    listing_type VARCHAR(30) NOT NULL,
+    owner_id BINARY(16),
+    title VARCHAR(255) NOT NULL,
+    payload LONGTEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    unpublished_at DATETIME(6),
+    archived_at DATETIME(6) NOT NULL,
+    INDEX idx_listing_archive_owner (owner_id, archived_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS listing_stats (
+    listing_id BINARY(16) NOT NULL PRIMARY KEY,
+    listing_type VARCHAR(30) NOT NULL,
+    views BIGINT NOT NULL DEFAULT 0,
+    unique_viewers BIGINT NOT NULL DEFAULT 0,
+    viewer_sketch VARBINARY(1024) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,10 @@
+-- Runs once when the replica container initialises: follows the primary from the start of its
+-- binary log (GTID auto-positioning), so the schema and seed data arrive through replication.
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'db',
+    SOURCE_PORT = 3306,
+    SOURCE_USER = 'root',
+    SOURCE_PASSWORD = 'root',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+START REPLICA;
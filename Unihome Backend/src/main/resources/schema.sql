@@ -19,6 +19,12 @@ CREATE TABLE IF NOT EXISTS users (
     created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+CREATE TABLE IF NOT EXISTS tags (
+    id INT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    canonical VARCHAR(255) COLLATE utf8mb4_bin NOT NULL UNIQUE,
+    label VARCHAR(255) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 CREATE TABLE IF NOT EXISTS properties (
     id BINARY(16) NOT NULL PRIMARY KEY DEFAULT (UUID_TO_BIN(UUID())),
     owner_id BINARY(16) NOT NULL,
@@ -27,11 +33,13 @@ CREATE TABLE IF NOT EXISTS properties (
     type VARCHAR(30) NOT NULL,
     price DECIMAL(12, 2) NOT NULL,
     area DOUBLE NOT NULL,
+    price_per_sqm DECIMAL(12, 2) GENERATED ALWAYS AS (price / NULLIF(area, 0)) STORED,
     rooms INT NOT NULL,
     is_furnished BOOLEAN,
     has_damage BOOLEAN,
     address VARCHAR(500),
     city VARCHAR(120),
+    city_key VARCHAR(240),
     postal_code VARCHAR(20),
     latitude DOUBLE,
     longitude DOUBLE,
@@ -46,15 +54,26 @@ CREATE TABLE IF NOT EXISTS properties (
     hospitality_opt_in BOOLEAN NOT NULL DEFAULT FALSE,
     hospitality_listing_id BINARY(16),
     is_published BOOLEAN NOT NULL DEFAULT TRUE,
+    unpublished_at DATETIME(6),
     created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    INDEX idx_properties_published_created (is_published, created_at, id),
+    INDEX idx_properties_unpublished (is_published, unpublished_at),
+    INDEX idx_properties_published_price (is_published, price, id),
+    INDEX idx_properties_published_price_sqm (is_published, price_per_sqm, id),
+    INDEX idx_properties_published_area (is_published, area, id),
+    INDEX idx_properties_city_created (city_key, is_published, created_at, id),
+    INDEX idx_properties_city_price (city_key, is_published, price, id),
+    INDEX idx_properties_city_price_sqm (city_key, is_published, price_per_sqm, id),
+    INDEX idx_properties_city_area (city_key, is_published, area, id),
     CONSTRAINT fk_properties_owner FOREIGN KEY (owner_id) REFERENCES users(id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 CREATE TABLE IF NOT EXISTS property_features (
     property_id BINARY(16) NOT NULL,
-    feature VARCHAR(100) NOT NULL,
-    PRIMARY KEY (property_id, feature),
-    CONSTRAINT fk_property_features_property FOREIGN KEY (property_id) REFERENCES properties(id) ON DELETE CASCADE
+    tag_id INT NOT NULL,
+    PRIMARY KEY (property_id, tag_id),
+    CONSTRAINT fk_property_features_property FOREIGN KEY (property_id) REFERENCES properties(id) ON DELETE CASCADE,
+    CONSTRAINT fk_property_features_tag FOREIGN KEY (tag_id) REFERENCES tags(id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 CREATE TABLE IF NOT EXISTS property_images (
@@ -93,6 +112,7 @@ CREATE TABLE IF NOT EXISTS roommate_ads (
     profile_avatar VARCHAR(2000),
     profile_is_student BOOLEAN,
     location_city VARCHAR(255),
+    location_city_key VARCHAR(240),
     location_area VARCHAR(255),
     location_proximity VARCHAR(255),
     contact_name VARCHAR(255),
@@ -101,18 +121,27 @@ CREATE TABLE IF NOT EXISTS roommate_ads (
     contact_instagram VARCHAR(500),
     contact_facebook VARCHAR(500),
     is_published BOOLEAN NOT NULL DEFAULT TRUE,
+    unpublished_at DATETIME(6),
     availability_note VARCHAR(2000),
     availability_last_updated DATETIME(6),
     availability_calendar_url VARCHAR(2000),
     created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    INDEX idx_roommate_ads_published_created (is_published, created_at, id),
+    INDEX idx_roommate_ads_unpublished (is_published, unpublished_at),
+    INDEX idx_roommate_ads_published_rent (is_published, monthly_rent, id),
+    INDEX idx_roommate_ads_published_available (is_published, available_from, id),
+    INDEX idx_roommate_ads_city_created (location_city_key, is_published, created_at, id),
+    INDEX idx_roommate_ads_city_rent (location_city_key, is_published, monthly_rent, id),
+    INDEX idx_roommate_ads_city_available (location_city_key, is_published, available_from, id),
     CONSTRAINT fk_roommate_ads_author FOREIGN KEY (author_id) REFERENCES users(id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 CREATE TABLE IF NOT EXISTS roommate_preferences (
     ad_id BINARY(16) NOT NULL,
-    preference VARCHAR(255) NOT NULL,
-    PRIMARY KEY (ad_id, preference),
-    CONSTRAINT fk_roommate_preferences_ad FOREIGN KEY (ad_id) REFERENCES roommate_ads(id) ON DELETE CASCADE
+    tag_id INT NOT NULL,
+    PRIMARY KEY (ad_id, tag_id),
+    CONSTRAINT fk_roommate_preferences_ad FOREIGN KEY (ad_id) REFERENCES roommate_ads(id) ON DELETE CASCADE,
+    CONSTRAINT fk_roommate_preferences_tag FOREIGN KEY (tag_id) REFERENCES tags(id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 CREATE TABLE IF NOT EXISTS roommate_property_features (
@@ -125,9 +154,10 @@ CREATE TABLE IF NOT EXISTS roommate_property_features (
 CREATE TABLE IF NOT EXISTS roommate_lifestyle (
     ad_id BINARY(16) NOT NULL,
     lifestyle_order INT NOT NULL,
-    lifestyle_tag VARCHAR(255) NOT NULL,
+    tag_id INT NOT NULL,
     PRIMARY KEY (ad_id, lifestyle_order),
-    CONSTRAINT fk_roommate_lifestyle_ad FOREIGN KEY (ad_id) REFERENCES roommate_ads(id) ON DELETE CASCADE
+    CONSTRAINT fk_roommate_lifestyle_ad FOREIGN KEY (ad_id) REFERENCES roommate_ads(id) ON DELETE CASCADE,
+    CONSTRAINT fk_roommate_lifestyle_tag FOREIGN KEY (tag_id) REFERENCES tags(id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 CREATE TABLE IF NOT EXISTS roommate_images (
@@ -139,9 +169,10 @@ CREATE TABLE IF NOT EXISTS roommate_images (
 
 CREATE TABLE IF NOT EXISTS roommate_amenities (
     ad_id BINARY(16) NOT NULL,
-    amenity VARCHAR(255) NOT NULL,
-    PRIMARY KEY (ad_id, amenity),
-    CONSTRAINT fk_roommate_amenities_ad FOREIGN KEY (ad_id) REFERENCES roommate_ads(id) ON DELETE CASCADE
+    tag_id INT NOT NULL,
+    PRIMARY KEY (ad_id, tag_id),
+    CONSTRAINT fk_roommate_amenities_ad FOREIGN KEY (ad_id) REFERENCES roommate_ads(id) ON DELETE CASCADE,
+    CONSTRAINT fk_roommate_amenities_tag FOREIGN KEY (tag_id) REFERENCES tags(id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 CREATE TABLE IF NOT EXISTS roommate_unavailable_windows (
@@ -177,6 +208,7 @@ CREATE TABLE IF NOT EXISTS temporary_stays (
     purpose VARCHAR(30) NOT NULL,
     address VARCHAR(500),
     city VARCHAR(120),
+    city_key VARCHAR(240),
     postal_code VARCHAR(20),
     latitude DOUBLE,
     longitude DOUBLE,
@@ -191,15 +223,23 @@ CREATE TABLE IF NOT EXISTS temporary_stays (
     availability_calendar_url VARCHAR(2000),
     linked_property_id BINARY(16),
     is_published BOOLEAN NOT NULL DEFAULT TRUE,
+    unpublished_at DATETIME(6),
     created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    UNIQUE KEY uk_temporary_stays_linked_property (linked_property_id),
+    INDEX idx_temporary_stays_published_created (is_published, created_at, id),
+    INDEX idx_temporary_stays_unpublished (is_published, unpublished_at),
+    INDEX idx_temporary_stays_published_price (is_published, price_per_night, id),
+    INDEX idx_temporary_stays_city_created (city_key, is_published, created_at, id),
+    INDEX idx_temporary_stays_city_price (city_key, is_published, price_per_night, id),
     CONSTRAINT fk_temporary_stays_manager FOREIGN KEY (manager_id) REFERENCES users(id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 CREATE TABLE IF NOT EXISTS temporary_stay_amenities (
     stay_id BINARY(16) NOT NULL,
-    amenity VARCHAR(255) NOT NULL,
-    PRIMARY KEY (stay_id, amenity),
-    CONSTRAINT fk_temporary_amenities_stay FOREIGN KEY (stay_id) REFERENCES temporary_stays(id) ON DELETE CASCADE
+    tag_id INT NOT NULL,
+    PRIMARY KEY (stay_id, tag_id),
+    CONSTRAINT fk_temporary_amenities_stay FOREIGN KEY (stay_id) REFERENCES temporary_stays(id) ON DELETE CASCADE,
+    CONSTRAINT fk_temporary_amenities_tag FOREIGN KEY (tag_id) REFERENCES tags(id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 CREATE TABLE IF NOT EXISTS temporary_stay_images (
@@ -225,7 +265,19 @@ CREATE TABLE IF NOT EXISTS contact_messages (
     email VARCHAR(255) NOT NULL,
     subject VARCHAR(255),
     message VARCHAR(4000) NOT NULL,
-    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    INDEX idx_contact_messages_created (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS contact_messages_archive (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    subject VARCHAR(255),
+    message VARCHAR(4000) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    archived_at DATETIME(6) NOT NULL,
+    INDEX idx_contact_messages_archive_created (created_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 CREATE TABLE IF NOT EXISTS contact_recipients (
@@ -241,9 +293,34 @@ CREATE TABLE IF NOT EXISTS favorites (
     type VARCHAR(30) NOT NULL,
     target_id BINARY(16) NOT NULL,
     created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    UNIQUE KEY uk_favorites_user_target (user_id, type, target_id),
     CONSTRAINT fk_favorites_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+CREATE TABLE IF NOT EXISTS saved_searches (
+    id BINARY(16) NOT NULL PRIMARY KEY DEFAULT (UUID_TO_BIN(UUID())),
+    user_id BINARY(16) NOT NULL,
+    name VARCHAR(120) NOT NULL,
+    listing_type VARCHAR(30) NOT NULL,
+    criteria_json VARCHAR(4000) NOT NULL,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    INDEX idx_saved_searches_user (user_id, created_at),
+    CONSTRAINT fk_saved_searches_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS saved_search_matches (
+    id BINARY(16) NOT NULL PRIMARY KEY DEFAULT (UUID_TO_BIN(UUID())),
+    saved_search_id BINARY(16) NOT NULL,
+    listing_type VARCHAR(30) NOT NULL,
+    listing_id BINARY(16) NOT NULL,
+    listing_title VARCHAR(255) NOT NULL,
+    matched_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    notified_at DATETIME(6),
+    UNIQUE KEY uk_saved_search_matches_listing (saved_search_id, listing_id),
+    INDEX idx_saved_search_matches_pending (notified_at, saved_search_id),
+    CONSTRAINT fk_saved_search_matches_search FOREIGN KEY (saved_search_id) REFERENCES saved_searches(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 CREATE TABLE IF NOT EXISTS about_sections (
     id BINARY(16) NOT NULL PRIMARY KEY DEFAULT (UUID_TO_BIN(UUID())),
     slug VARCHAR(120) NOT NULL UNIQUE,
@@ -268,3 +345,23 @@ CREATE TABLE IF NOT EXISTS home_highlights (
     updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+CREATE TABLE IF NOT EXISTS listing_archive (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    listing_type VARCHAR(30) NOT NULL,
+    owner_id BINARY(16),
+    title VARCHAR(255) NOT NULL,
+    payload LONGTEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    unpublished_at DATETIME(6),
+    archived_at DATETIME(6) NOT NULL,
+    INDEX idx_listing_archive_owner (owner_id, archived_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS listing_stats (
+    listing_id BINARY(16) NOT NULL PRIMARY KEY,
+    listing_type VARCHAR(30) NOT NULL,
+    views BIGINT NOT NULL DEFAULT 0,
+    unique_viewers BIGINT NOT NULL DEFAULT 0,
+    viewer_sketch VARBINARY(1024) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,164 @@
+package org.example.datasource;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Routing against two real MySQL servers. They are not replicated; each holds a marker row naming
+ * itself, so every read shows which pool served it.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingDataSourceTest {
+
+    private static final long STICKY_MILLIS = 60_000;
+
+    @Container
+    private static final MySQLContainer<?> PRIMARY = new MySQLContainer<>("mysql:8.0.36");
+
+    @Container
+    private static final MySQLContainer<?> REPLICA = new MySQLContainer<>("mysql:8.0.36");
+
+    private static HikariDataSource primaryPool;
+    private static HikariDataSource replicaPool;
+
+    @BeforeAll
+    static void createPools() throws Exception {
+        primaryPool = pool(PRIMARY, "primary");
+        replicaPool = pool(REPLICA, "replica");
+        mark(primaryPool, "primary");
+        mark(replicaPool, "replica");
+    }
+
+    @AfterAll
+    static void closePools() {
+        primaryPool.close();
+        replicaPool.close();
+    }
+
+    @Test
+    void readOnlyTransactionsAreServedByTheReplica() {
+        Routing routing = new Routing(List.of(replicaPool));
+
+        assertEquals("replica", routing.read());
+    }
+
+    @Test
+    void readWriteTransactionsAreServedByThePrimary() {
+        Routing routing = new Routing(List.of(replicaPool));
+
+        assertEquals("primary", routing.write());
+    }
+
+    @Test
+    void readsAfterAWriteStayOnThePrimaryUntilTheRequestEnds() throws Exception {
+        Routing routing = new Routing(List.of(replicaPool));
+        ReplicaStickinessFilter filter = new ReplicaStickinessFilter(routing.dataSource);
+
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                routing.write();
+                assertEquals("primary", routing.read());
+            }
+        }));
+
+        assertEquals("replica", routing.read());
+    }
+
+    @Test
+    void connectionsWithExplicitCredentialsGoToThePrimary() throws Exception {
+        Routing routing = new Routing(List.of(replicaPool));
+
+        try (Connection connection = routing.dataSource.getConnection(PRIMARY.getUsername(), PRIMARY.getPassword())) {
+            assertEquals("primary", node(connection));
+        }
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToThePrimary() {
+        HikariDataSource unreachable = new HikariDataSource();
+        unreachable.setJdbcUrl("jdbc:mysql://127.0.0.1:1/unihome");
+        unreachable.setConnectionTimeout(250);
+        unreachable.setInitializationFailTimeout(-1);
+        try {
+            Routing routing = new Routing(List.of(unreachable));
+
+            assertEquals("primary", routing.read());
+            assertEquals("primary", routing.read());
+        } finally {
+            unreachable.close();
+        }
+    }
+
+    private static HikariDataSource pool(MySQLContainer<?> container, String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(container.getJdbcUrl());
+        pool.setUsername(container.getUsername());
+        pool.setPassword(container.getPassword());
+        return pool;
+    }
+
+    private static void mark(DataSource dataSource, String name) throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE node (name VARCHAR(20) NOT NULL)");
+            statement.execute("INSERT INTO node (name) VALUES ('" + name + "')");
+        }
+    }
+
+    private static String node(Connection connection) throws Exception {
+        try (Statement statement = connection.createStatement(); ResultSet rows = statement.executeQuery("SELECT name FROM node")) {
+            rows.next();
+            return rows.getString(1);
+        }
+    }
+
+    /** The production wiring: routing data source behind a lazy proxy, driven by transactions. */
+    private static final class Routing {
+
+        private final ReplicaRoutingDataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        private Routing(List<DataSource> replicas) {
+            this.dataSource = new ReplicaRoutingDataSource(primaryPool, replicas, STICKY_MILLIS);
+            LazyConnectionDataSourceProxy lazy = new LazyConnectionDataSourceProxy(dataSource);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(lazy);
+            this.jdbcTemplate = new JdbcTemplate(lazy);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        private String read() {
+            return readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+        }
+
+        private String write() {
+            return readWrite.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.model.id;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Rows per second inserted into a copy of the {@code favorites} table, keyed by
+ * {@code UUID.randomUUID()} or by {@link UuidV7Generator#next()}. The table starts with
+ * {@value #PREFILL} rows of the same kind, so random keys land all over a primary key that no
+ * longer fits in the hottest pages, while version 7 keys append to its right edge. The unique
+ * (user, type, target) key is random in both cases, as it is in production.
+ * <p>
+ * Runs against an in-memory H2 by default. For the numbers that matter, point it at MySQL, whose
+ * InnoDB table is clustered on the primary key:
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/test.classpath
+ * java -cp "target/test-classes:target/classes:$(cat target/test.classpath)" \
+ *     -Dbenchmark.jdbc-url="jdbc:mysql://localhost:3306/unihome?rewriteBatchedStatements=true" \
+ *     -Dbenchmark.jdbc-user=root -Dbenchmark.jdbc-password=... \
+ *     org.example.model.id.UuidV7InsertBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UuidV7InsertBenchmark {
+
+    private static final String TABLE = "uuid_insert_benchmark";
+    private static final String INSERT = "INSERT INTO " + TABLE + " (id, user_id, type, target_id, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final int PREFILL = 500_000;
+    private static final int BATCH = 1000;
+    private static final int USERS = 10_000;
+
+    @Param({"random", "v7"})
+    private String ids;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transaction;
+    private Supplier<UUID> generator;
+    private UUID[] users;
+
+    @Setup(Level.Trial)
+    public void prefill() {
+        // One connection, as a request thread inserting favorites would hold.
+        dataSource = new SingleConnectionDataSource(
+            System.getProperty("benchmark.jdbc-url", "jdbc:h2:mem:benchmark;MODE=MySQL"),
+            System.getProperty("benchmark.jdbc-user", "sa"),
+            System.getProperty("benchmark.jdbc-password", ""),
+            true
+        );
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + TABLE + " ("
+            + "id BINARY(16) NOT NULL PRIMARY KEY, "
+            + "user_id BINARY(16) NOT NULL, "
+            + "type VARCHAR(30) NOT NULL, "
+            + "target_id BINARY(16) NOT NULL, "
+            + "created_at TIMESTAMP(6) NOT NULL, "
+            + "CONSTRAINT uk_uuid_insert_benchmark UNIQUE (user_id, type, target_id))");
+
+        generator = ids.equals("v7") ? UuidV7Generator::next : UUID::randomUUID;
+        users = new UUID[USERS];
+        for (int i = 0; i < USERS; i++) {
+            users[i] = UUID.randomUUID();
+        }
+        for (int i = 0; i < PREFILL; i += BATCH) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void drop() {
+        jdbcTemplate.execute("DROP TABLE " + TABLE);
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void insert() {
+        insertBatch();
+    }
+
+    private void insertBatch() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> rows = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            rows.add(new Object[] {toBytes(generator.get()), toBytes(users[random.nextInt(USERS)]), "PROPERTY", toBytes(UUID.randomUUID()), now});
+        }
+        transaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT, rows));
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(UuidV7InsertBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,275 @@
+package org.example.repository.search;
+
+import org.example.Main;
+import org.example.dto.auth.RegisterOwnerRequest;
+import org.example.dto.common.ListingSort;
+import org.example.dto.property.PropertyImportFormat;
+import org.example.dto.property.PropertySearchCriteria;
+import org.example.dto.roommate.CreateRoommateAdRequest;
+import org.example.dto.roommate.RoommateLocationDto;
+import org.example.dto.roommate.RoommateSearchCriteria;
+import org.example.dto.temporary.CreateTemporaryStayRequest;
+import org.example.dto.temporary.TemporaryStayLocationDto;
+import org.example.dto.temporary.TemporaryStaySearchCriteria;
+import org.example.model.temporary.TemporaryStayCostCategory;
+import org.example.model.temporary.TemporaryStayType;
+import org.example.repository.specification.ListingSorts;
+import org.example.search.ListingTagIndex;
+import org.example.service.AuthService;
+import org.example.service.PropertyImportService;
+import org.example.service.RoommateService;
+import org.example.service.TemporaryStayService;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The same searches through {@link SpecificationSearchEngine} and {@link SqlTemplateSearchEngine},
+ * unsorted and sorted by price: plain city filters, tag matches small enough to bind as an id
+ * list, tag matches above {@code unihome.search.max-restricted-ids} that fall back to SQL, and an
+ * excluded-id restriction. Each call runs in a read-only transaction, as the services do, and
+ * returns a page of entities.
+ * <p>
+ * Boots the application on the in-memory H2 of the {@code h2} profile and seeds it through the
+ * services. Pass {@code -Dspring.datasource.url=...} (and user, password) to run it on MySQL:
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/test.classpath
+ * java -cp "target/test-classes:target/classes:$(cat target/test.classpath)" \
+ *     org.example.repository.search.ListingSearchEngineBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListingSearchEngineBenchmark {
+
+    private static final int PROPERTIES = 5000;
+    private static final int ROOMMATE_ADS = 2000;
+    private static final int STAYS = 2000;
+    private static final int PAGE_SIZE = 20;
+    private static final String[] CITIES = {"Athina", "Thessaloniki", "Patra", "Irakleio", "Volos", "Ioannina", "Larisa", "Chania"};
+    /** On every other listing, so its matches are above the restricted-id cap. */
+    private static final String COMMON_AMENITY = "wifi";
+    /** On one listing in fifty, so its matches are bound as an id list. */
+    private static final String RARE_AMENITY = "sauna";
+
+    @Param({"specification", "sql"})
+    private String engineName;
+
+    @Param({"none", "price"})
+    private String sort;
+
+    private ConfigurableApplicationContext context;
+    private ListingSearchEngine engine;
+    private ListingTagIndex listingTagIndex;
+    private TransactionTemplate readOnly;
+    private Set<UUID> excludedStays;
+
+    @Setup(Level.Trial)
+    public void seed() throws IOException {
+        context = new SpringApplicationBuilder(Main.class)
+            .profiles("h2")
+            .properties(
+                "server.port=0",
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN",
+                "unihome.saved-searches.refresh-ms=3600000",
+                "unihome.search.similar-refresh-ms=3600000"
+            )
+            .run();
+        Class<? extends ListingSearchEngine> engineType = engineName.equals("sql") ? SqlTemplateSearchEngine.class : SpecificationSearchEngine.class;
+        engine = context.getAutowireCapableBeanFactory().createBean(engineType);
+        listingTagIndex = context.getBean(ListingTagIndex.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        RegisterOwnerRequest owner = new RegisterOwnerRequest();
+        owner.setEmail("benchmark@unihome.test");
+        owner.setPassword("Passw0rd!");
+        owner.setFirstName("Bench");
+        owner.setLastName("Mark");
+        owner.setAddress("Volos");
+        UUID ownerId = context.getBean(AuthService.class).registerOwner(owner).getUser().getId();
+
+        Random random = new Random(42);
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < PROPERTIES; i++) {
+            rows.append("{\"title\": \"Flat ").append(i).append("\", \"description\": \"Benchmark flat\", \"type\": \"APARTMENT\", \"price\": ")
+                .append(250 + random.nextInt(900)).append(", \"area\": ").append(25 + random.nextInt(100))
+                .append(", \"rooms\": ").append(1 + random.nextInt(4))
+                .append(", \"location\": {\"city\": \"").append(CITIES[random.nextInt(CITIES.length)]).append("\", \"address\": \"Street ").append(i).append("\"}}\n");
+        }
+        context.getBean(PropertyImportService.class).importProperties(
+            ownerId, new ByteArrayInputStream(rows.toString().getBytes(StandardCharsets.UTF_8)), PropertyImportFormat.NDJSON, result -> { });
+
+        createRoommateAds(ownerId, random);
+        List<UUID> stays = createStays(ownerId, random);
+        excludedStays = new HashSet<>(stays.subList(0, 50));
+        listingTagIndex.rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<?> propertiesByCity() {
+        PropertySearchCriteria criteria = new PropertySearchCriteria();
+        criteria.setCity("Athens");
+        criteria.setMaxPrice(BigDecimal.valueOf(800));
+        return search(order -> engine.findProperties(criteria, page(order)), ListingSorts::forProperties);
+    }
+
+    @Benchmark
+    public Page<?> roommatesByCity() {
+        RoommateSearchCriteria criteria = new RoommateSearchCriteria();
+        criteria.setCity("Patra");
+        return search(order -> engine.findRoommates(criteria, null, page(order)), ListingSorts::forRoommates);
+    }
+
+    @Benchmark
+    public Page<?> roommatesWithRareAmenity() {
+        RoommateSearchCriteria criteria = new RoommateSearchCriteria();
+        criteria.setAmenities(List.of(RARE_AMENITY));
+        return search(order -> engine.findRoommates(criteria, listingTagIndex.matchRoommates(criteria).orElse(null), page(order)), ListingSorts::forRoommates);
+    }
+
+    @Benchmark
+    public Page<?> roommatesWithCommonAmenity() {
+        RoommateSearchCriteria criteria = new RoommateSearchCriteria();
+        criteria.setAmenities(List.of(COMMON_AMENITY));
+        return search(order -> engine.findRoommates(criteria, listingTagIndex.matchRoommates(criteria).orElse(null), page(order)), ListingSorts::forRoommates);
+    }
+
+    @Benchmark
+    public Page<?> staysByCity() {
+        TemporaryStaySearchCriteria criteria = new TemporaryStaySearchCriteria();
+        criteria.setCity("Thessaloniki");
+        return search(order -> engine.findTemporaryStays(criteria, null, page(order)), ListingSorts::forTemporaryStays);
+    }
+
+    @Benchmark
+    public Page<?> staysWithRareAmenity() {
+        TemporaryStaySearchCriteria criteria = new TemporaryStaySearchCriteria();
+        criteria.setAmenities(List.of(RARE_AMENITY));
+        return search(order -> engine.findTemporaryStays(criteria, restriction(criteria), page(order)), ListingSorts::forTemporaryStays);
+    }
+
+    @Benchmark
+    public Page<?> staysWithCommonAmenity() {
+        TemporaryStaySearchCriteria criteria = new TemporaryStaySearchCriteria();
+        criteria.setAmenities(List.of(COMMON_AMENITY));
+        return search(order -> engine.findTemporaryStays(criteria, restriction(criteria), page(order)), ListingSorts::forTemporaryStays);
+    }
+
+    @Benchmark
+    public Page<?> staysExcludingBooked() {
+        TemporaryStaySearchCriteria criteria = new TemporaryStaySearchCriteria();
+        criteria.setCity("Volos");
+        return search(order -> engine.findTemporaryStays(criteria, IdRestriction.except(excludedStays), page(order)), ListingSorts::forTemporaryStays);
+    }
+
+    private Page<?> search(Function<Sort, Page<?>> query, Function<ListingSort, Sort> sorts) {
+        Sort order = sort.equals("price") ? sorts.apply(ListingSort.PRICE_ASC) : Sort.unsorted();
+        return readOnly.execute(status -> query.apply(order));
+    }
+
+    private IdRestriction restriction(TemporaryStaySearchCriteria criteria) {
+        return listingTagIndex.matchTemporaryStays(criteria).map(IdRestriction::only).orElse(null);
+    }
+
+    private static Pageable page(Sort sort) {
+        return PageRequest.of(0, PAGE_SIZE, sort);
+    }
+
+    private void createRoommateAds(UUID ownerId, Random random) {
+        RoommateService roommateService = context.getBean(RoommateService.class);
+        for (int i = 0; i < ROOMMATE_ADS; i++) {
+            CreateRoommateAdRequest request = new CreateRoommateAdRequest();
+            request.setTitle("Room " + i);
+            request.setDescription("Benchmark room");
+            request.setMonthlyRent(BigDecimal.valueOf(150 + random.nextInt(400)));
+            request.setAvailableFrom(LocalDate.now().plusDays(random.nextInt(120)));
+            request.setAmenities(amenities(random));
+            RoommateLocationDto location = new RoommateLocationDto();
+            location.setCity(CITIES[random.nextInt(CITIES.length)]);
+            location.setArea("Centre");
+            request.setLocation(location);
+            roommateService.create(ownerId, request);
+        }
+    }
+
+    private List<UUID> createStays(UUID ownerId, Random random) {
+        TemporaryStayService temporaryStayService = context.getBean(TemporaryStayService.class);
+        List<UUID> stays = new ArrayList<>(STAYS);
+        for (int i = 0; i < STAYS; i++) {
+            CreateTemporaryStayRequest request = new CreateTemporaryStayRequest();
+            request.setTitle("Stay " + i);
+            request.setDescription("Benchmark stay");
+            request.setType(TemporaryStayType.ROOM);
+            request.setPricePerNight(BigDecimal.valueOf(20 + random.nextInt(80)));
+            request.setMinNights(1);
+            request.setCostCategory(TemporaryStayCostCategory.PAID);
+            request.setAmenities(amenities(random));
+            TemporaryStayLocationDto location = new TemporaryStayLocationDto();
+            location.setCity(CITIES[random.nextInt(CITIES.length)]);
+            location.setAddress("Street " + i);
+            request.setLocation(location);
+            stays.add(temporaryStayService.create(ownerId, request).getId());
+        }
+        return stays;
+    }
+
+    private static List<String> amenities(Random random) {
+        List<String> amenities = new ArrayList<>();
+        if (random.nextBoolean()) {
+            amenities.add(COMMON_AMENITY);
+        }
+        if (random.nextInt(50) == 0) {
+            amenities.add(RARE_AMENITY);
+        }
+        return amenities;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ListingSearchEngineBenchmark.class.getSimpleName()).build()).run();
+    }
+}
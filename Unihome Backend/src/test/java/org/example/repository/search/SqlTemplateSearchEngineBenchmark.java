@@ -0,0 +1,123 @@
+package org.example.repository.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * Restricted-id searches with and without the engine's padded {@code IN} lists. Every call binds
+ * between 1 and 512 ids, as the availability and tag indexes hand them over; unpadded, almost
+ * every call is a statement the connection has not prepared before.
+ * <p>
+ * Runs against an in-memory H2 by default. For the numbers that matter, point it at MySQL with the
+ * driver's statement cache on:
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/test.classpath
+ * java -cp "target/test-classes:target/classes:$(cat target/test.classpath)" \
+ *     -Dbenchmark.jdbc-url="jdbc:mysql://localhost:3306/unihome?useServerPrepStmts=true&amp;cachePrepStmts=true" \
+ *     -Dbenchmark.jdbc-user=root -Dbenchmark.jdbc-password=... \
+ *     org.example.repository.search.SqlTemplateSearchEngineBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqlTemplateSearchEngineBenchmark {
+
+    private static final String TABLE = "padded_in_benchmark";
+    private static final String QUERY = "SELECT id FROM " + TABLE + " WHERE is_published = TRUE AND id IN (:ids) ORDER BY id LIMIT 20";
+    private static final int ROWS = 20_000;
+    private static final int MAX_IDS = 512;
+    private static final int LISTS = 1024;
+
+    private SingleConnectionDataSource dataSource;
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private final List<List<byte[]>> idLists = new ArrayList<>();
+    private int next;
+
+    @Setup(Level.Trial)
+    public void seed() {
+        // One connection, so the statements the driver or database caches are all in play.
+        dataSource = new SingleConnectionDataSource(
+            System.getProperty("benchmark.jdbc-url", "jdbc:h2:mem:benchmark;MODE=MySQL;QUERY_CACHE_SIZE=16"),
+            System.getProperty("benchmark.jdbc-user", "sa"),
+            System.getProperty("benchmark.jdbc-password", ""),
+            true
+        );
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcTemplate.getJdbcTemplate().execute("DROP TABLE IF EXISTS " + TABLE);
+        jdbcTemplate.getJdbcTemplate().execute("CREATE TABLE " + TABLE + " (id BINARY(16) NOT NULL PRIMARY KEY, is_published BOOLEAN NOT NULL)");
+
+        Random random = new Random(42);
+        List<byte[]> ids = new ArrayList<>(ROWS);
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            byte[] id = SqlTemplateSearchEngine.toBytes(new UUID(random.nextLong(), random.nextLong()));
+            ids.add(id);
+            rows.add(new Object[] {id, random.nextInt(10) > 0});
+        }
+        jdbcTemplate.getJdbcTemplate().batchUpdate("INSERT INTO " + TABLE + " (id, is_published) VALUES (?, ?)", rows);
+
+        for (int i = 0; i < LISTS; i++) {
+            int size = 1 + random.nextInt(MAX_IDS);
+            List<byte[]> list = new ArrayList<>(size);
+            for (int j = 0; j < size; j++) {
+                list.add(ids.get(random.nextInt(ROWS)));
+            }
+            idLists.add(list);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void drop() {
+        jdbcTemplate.getJdbcTemplate().execute("DROP TABLE " + TABLE);
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public List<byte[]> unpadded() {
+        return query(nextIds());
+    }
+
+    @Benchmark
+    public List<byte[]> padded() {
+        return query(SqlTemplateSearchEngine.padded(nextIds()));
+    }
+
+    private List<byte[]> query(List<byte[]> ids) {
+        return jdbcTemplate.query(QUERY, Map.of("ids", ids), (rs, rowNum) -> rs.getBytes(1));
+    }
+
+    private List<byte[]> nextIds() {
+        List<byte[]> ids = idLists.get(next);
+        next = (next + 1) % LISTS;
+        return ids;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SqlTemplateSearchEngineBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.search;
+
+import org.example.dto.search.SuggestField;
+import org.example.dto.search.SuggestionResponse;
+import org.example.repository.PropertyRepository;
+import org.example.repository.RoommateAdRepository;
+import org.example.repository.TemporaryStayRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * City prefixes are matched as typed, in Greek or Latin, and through every alias spelling of the
+ * place; a city reachable both ways is still suggested once.
+ */
+class SuggestionIndexTest {
+
+    private SuggestionIndex index;
+
+    @BeforeEach
+    void rebuild() {
+        PropertyRepository properties = mock(PropertyRepository.class);
+        when(properties.findPublishedCities()).thenReturn(List.of(
+            city("Αθήνα"), city("Αθήνα"), city("Αθήνα"),
+            city("Κέρκυρα"),
+            city("Ηράκλειο"), city("Ηράκλειο")
+        ));
+        index = new SuggestionIndex(properties, mock(RoommateAdRepository.class), mock(TemporaryStayRepository.class), null);
+        index.rebuild();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Ath", "Αθ", "Athe", "athens", "ΑΘΗΝ"})
+    void findsAthinaFromAnySpelling(String prefix) {
+        assertEquals(List.of(new Suggestion("Αθήνα", 3)), suggest(prefix));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"corf", "Kerk", "Κέρ"})
+    void findsKerkyraFromAnySpelling(String prefix) {
+        assertEquals(List.of(new Suggestion("Κέρκυρα", 1)), suggest(prefix));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"herak", "irak", "Ηρά"})
+    void findsIrakleioFromAnySpelling(String prefix) {
+        assertEquals(List.of(new Suggestion("Ηράκλειο", 2)), suggest(prefix));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"athx", "Patr"})
+    void findsNothingForUnknownPrefix(String prefix) {
+        assertEquals(List.of(), suggest(prefix));
+    }
+
+    private List<Suggestion> suggest(String prefix) {
+        return index.suggest(SuggestField.CITY, prefix, SuggestionIndex.MAX_SUGGESTIONS).stream()
+            .map(SuggestionIndexTest::suggestion)
+            .toList();
+    }
+
+    private static Suggestion suggestion(SuggestionResponse response) {
+        return new Suggestion(response.getValue(), response.getListings());
+    }
+
+    private static Object[] city(String city) {
+        return new Object[] {UUID.randomUUID(), city};
+    }
+
+    private record Suggestion(String label, long count) {
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.service;
+
+import org.example.dto.common.ListingSort;
+import org.example.dto.property.PropertySearchCriteria;
+import org.example.dto.roommate.RoommateSearchCriteria;
+import org.example.dto.temporary.TemporaryStaySearchCriteria;
+import org.example.support.StatementRecorder;
+import org.example.support.StatementRecorderConfig;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Every sort a listing search accepts must be answered by walking an index on MySQL: the search
+ * statements are captured and replayed under {@code EXPLAIN}, which must never report a filesort.
+ */
+@SpringBootTest(properties = "spring.sql.init.mode=always")
+@Testcontainers(disabledWithoutDocker = true)
+@Import(StatementRecorderConfig.class)
+@Sql(scripts = "/sql/listing-sort-seed.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class ListingSortExplainTest {
+
+    private static final String CITY = "Patra";
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36");
+
+    @DynamicPropertySource
+    static void mysql(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private RoommateService roommateService;
+
+    @Autowired
+    private TemporaryStayService temporaryStayService;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @EnumSource(value = ListingSort.class, names = {"NEWEST", "PRICE_ASC", "PRICE_DESC", "PRICE_PER_SQM_ASC", "AREA_DESC"})
+    void propertySortsWalkAnIndex(ListingSort sort) {
+        assertNoFilesort("properties", () -> propertyService.search(propertyCriteria(null, sort), 0, 20));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ListingSort.class, names = {"NEWEST", "PRICE_ASC", "PRICE_DESC", "PRICE_PER_SQM_ASC", "AREA_DESC"})
+    void propertySortsInOneCityWalkAnIndex(ListingSort sort) {
+        assertNoFilesort("properties", () -> propertyService.search(propertyCriteria(CITY, sort), 0, 20));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ListingSort.class, names = {"NEWEST", "PRICE_ASC", "PRICE_DESC", "AVAILABLE_SOONEST"})
+    void roommateSortsWalkAnIndex(ListingSort sort) {
+        assertNoFilesort("roommate_ads", () -> roommateService.search(roommateCriteria(null, sort), 0, 20));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ListingSort.class, names = {"NEWEST", "PRICE_ASC", "PRICE_DESC", "AVAILABLE_SOONEST"})
+    void roommateSortsInOneCityWalkAnIndex(ListingSort sort) {
+        assertNoFilesort("roommate_ads", () -> roommateService.search(roommateCriteria(CITY, sort), 0, 20));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ListingSort.class, names = {"NEWEST", "PRICE_ASC", "PRICE_DESC"})
+    void temporaryStaySortsWalkAnIndex(ListingSort sort) {
+        assertNoFilesort("temporary_stays", () -> temporaryStayService.search(stayCriteria(null, sort), 0, 20));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ListingSort.class, names = {"NEWEST", "PRICE_ASC", "PRICE_DESC"})
+    void temporaryStaySortsInOneCityWalkAnIndex(ListingSort sort) {
+        assertNoFilesort("temporary_stays", () -> temporaryStayService.search(stayCriteria(CITY, sort), 0, 20));
+    }
+
+    private void assertNoFilesort(String table, Runnable search) {
+        List<QueryInfo> queries;
+        statementRecorder.start();
+        try {
+            search.run();
+            queries = statementRecorder.recordedQueries();
+        } finally {
+            statementRecorder.stop();
+        }
+        List<QueryInfo> ordered = queries.stream()
+            .filter(query -> query.getQuery().contains(" from " + table + " ") && query.getQuery().contains(" order by "))
+            .toList();
+        assertFalse(ordered.isEmpty(), "No ordered statement on " + table);
+        for (QueryInfo query : ordered) {
+            List<String> extras = explain(query);
+            assertTrue(extras.stream().noneMatch(extra -> extra != null && extra.contains("Using filesort")),
+                query.getQuery() + " -> " + extras);
+        }
+    }
+
+    private List<String> explain(QueryInfo query) {
+        List<ParameterSetOperation> parameters = query.getParametersList().isEmpty() ? List.of() : query.getParametersList().get(0);
+        return jdbcTemplate.query("EXPLAIN " + query.getQuery(), statement -> {
+            for (ParameterSetOperation parameter : parameters) {
+                try {
+                    parameter.getMethod().invoke(statement, parameter.getArgs());
+                } catch (IllegalAccessException | InvocationTargetException ex) {
+                    throw new IllegalStateException("Could not bind " + parameter.getMethod().getName(), ex);
+                }
+            }
+        }, (row, rowNum) -> row.getString("Extra"));
+    }
+
+    private static PropertySearchCriteria propertyCriteria(String city, ListingSort sort) {
+        PropertySearchCriteria criteria = new PropertySearchCriteria();
+        criteria.setCity(city);
+        criteria.setSort(sort);
+        return criteria;
+    }
+
+    private static RoommateSearchCriteria roommateCriteria(String city, ListingSort sort) {
+        RoommateSearchCriteria criteria = new RoommateSearchCriteria();
+        criteria.setCity(city);
+        criteria.setSort(sort);
+        return criteria;
+    }
+
+    private static TemporaryStaySearchCriteria stayCriteria(String city, ListingSort sort) {
+        TemporaryStaySearchCriteria criteria = new TemporaryStaySearchCriteria();
+        criteria.setCity(city);
+        criteria.setSort(sort);
+        return criteria;
+    }
+}
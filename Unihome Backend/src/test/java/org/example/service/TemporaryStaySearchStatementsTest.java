@@ -0,0 +1,149 @@
+package org.example.service;
+
+import org.example.dto.auth.RegisterOwnerRequest;
+import org.example.dto.common.AvailabilityScheduleDto;
+import org.example.dto.common.AvailabilityWindowDto;
+import org.example.dto.common.PagedResponse;
+import org.example.dto.temporary.CreateTemporaryStayRequest;
+import org.example.dto.temporary.TemporaryStayLocationDto;
+import org.example.dto.temporary.TemporaryStayResponse;
+import org.example.dto.temporary.TemporaryStaySearchCriteria;
+import org.example.model.temporary.TemporaryStayCostCategory;
+import org.example.model.temporary.TemporaryStayType;
+import org.example.support.StatementRecorder;
+import org.example.support.StatementRecorderConfig;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Date searches are answered by the availability index; they must not cost more statements than
+ * the same search without dates, nor bind more ids than {@code unihome.search.max-restricted-ids}.
+ */
+@SpringBootTest(properties = "unihome.search.max-restricted-ids=2")
+@ActiveProfiles("h2")
+@Import(StatementRecorderConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TemporaryStaySearchStatementsTest {
+
+    private static final String CITY = "Volos";
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TemporaryStayService temporaryStayService;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @BeforeAll
+    void createStays() {
+        RegisterOwnerRequest owner = new RegisterOwnerRequest();
+        owner.setEmail("statements@unihome.test");
+        owner.setPassword("Passw0rd!");
+        owner.setFirstName("Stay");
+        owner.setLastName("Owner");
+        owner.setAddress("Volos");
+        UUID managerId = authService.registerOwner(owner).getUser().getId();
+
+        createStay(managerId, "Blocked in May", TODAY.plusDays(200), TODAY.plusDays(205));
+        for (int i = 0; i < 3; i++) {
+            createStay(managerId, "Blocked in July " + i, TODAY.plusDays(260), TODAY.plusDays(270));
+        }
+        createStay(managerId, "Always free 1", null, null);
+        createStay(managerId, "Always free 2", null, null);
+    }
+
+    @Test
+    void dateOnlySearchWithEveryStayFreeIssuesTheUnfilteredStatements() {
+        Recorded unfiltered = search(null, null);
+        Recorded dated = search(TODAY.plusDays(100), TODAY.plusDays(102));
+
+        assertEquals(6, unfiltered.result.getTotalItems());
+        assertEquals(6, dated.result.getTotalItems());
+        assertFalse(unfiltered.statements.isEmpty());
+        assertEquals(unfiltered.statements, dated.statements);
+    }
+
+    @Test
+    void fewBlockedStaysAreExcludedWithoutExtraStatements() {
+        Recorded unfiltered = search(null, null);
+        Recorded dated = search(TODAY.plusDays(201), TODAY.plusDays(203));
+
+        assertEquals(5, dated.result.getTotalItems());
+        assertTrue(dated.result.getItems().stream().noneMatch(stay -> stay.getTitle().equals("Blocked in May")));
+        assertEquals(unfiltered.statements.size(), dated.statements.size());
+    }
+
+    @Test
+    void restrictionsAboveTheCapAreFilteredInSqlWithoutExtraStatements() {
+        Recorded unfiltered = search(null, null);
+        Recorded dated = search(TODAY.plusDays(261), TODAY.plusDays(263));
+
+        assertEquals(3, dated.result.getTotalItems());
+        assertTrue(dated.result.getItems().stream().noneMatch(stay -> stay.getTitle().startsWith("Blocked in July")));
+        assertEquals(unfiltered.statements.size(), dated.statements.size());
+    }
+
+    private Recorded search(LocalDate checkIn, LocalDate checkOut) {
+        TemporaryStaySearchCriteria criteria = new TemporaryStaySearchCriteria();
+        criteria.setCity(CITY);
+        criteria.setCheckIn(checkIn);
+        criteria.setCheckOut(checkOut);
+        statementRecorder.start();
+        try {
+            PagedResponse<TemporaryStayResponse> result = temporaryStayService.search(criteria, 0, 10);
+            return new Recorded(result, statementRecorder.recorded());
+        } finally {
+            statementRecorder.stop();
+        }
+    }
+
+    private void createStay(UUID managerId, String title, LocalDate blockedFrom, LocalDate blockedTo) {
+        CreateTemporaryStayRequest request = new CreateTemporaryStayRequest();
+        request.setTitle(title);
+        request.setDescription("Test stay");
+        request.setType(TemporaryStayType.ROOM);
+        request.setPricePerNight(BigDecimal.valueOf(30));
+        request.setMinNights(1);
+        request.setCostCategory(TemporaryStayCostCategory.PAID);
+        TemporaryStayLocationDto location = new TemporaryStayLocationDto();
+        location.setCity(CITY);
+        location.setAddress("Test street");
+        request.setLocation(location);
+        AvailabilityScheduleDto availability = new AvailabilityScheduleDto();
+        if (blockedFrom != null) {
+            AvailabilityWindowDto window = new AvailabilityWindowDto();
+            window.setStartDate(blockedFrom);
+            window.setEndDate(blockedTo);
+            availability.getUnavailable().add(window);
+        }
+        request.setAvailability(availability);
+        temporaryStayService.create(managerId, request);
+    }
+
+    private static final class Recorded {
+
+        private final PagedResponse<TemporaryStayResponse> result;
+        private final List<String> statements;
+
+        private Recorded(PagedResponse<TemporaryStayResponse> result, List<String> statements) {
+            this.result = result;
+            this.statements = statements;
+        }
+    }
+}
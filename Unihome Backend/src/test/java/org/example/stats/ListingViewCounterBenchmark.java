@@ -0,0 +1,75 @@
+package org.example.stats;
+
+import org.example.model.listing.ListingType;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost of recording one detail view on the request thread, for signed-in and anonymous viewers,
+ * spread over 1000 listings. Nothing is flushed, so the counter runs without a database. Add
+ * {@code -t <threads>} to the JMH arguments to measure it under contention:
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/test.classpath
+ * java -cp "target/test-classes:target/classes:$(cat target/test.classpath)" \
+ *     org.example.stats.ListingViewCounterBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListingViewCounterBenchmark {
+
+    private static final int LISTINGS = 1000;
+    private static final int VIEWERS = 100_000;
+
+    private ListingViewCounter counter;
+    private UUID[] listings;
+    private UUID[] viewers;
+
+    @Setup
+    public void createCounter() {
+        counter = new ListingViewCounter(null, null, null);
+        listings = new UUID[LISTINGS];
+        for (int i = 0; i < LISTINGS; i++) {
+            listings[i] = UUID.randomUUID();
+        }
+        viewers = new UUID[VIEWERS];
+        for (int i = 0; i < VIEWERS; i++) {
+            viewers[i] = UUID.randomUUID();
+        }
+    }
+
+    @Benchmark
+    public void signedInView() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        counter.record(ListingType.PROPERTY, listings[random.nextInt(LISTINGS)], viewers[random.nextInt(VIEWERS)], null);
+    }
+
+    @Benchmark
+    public void anonymousView() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int address = random.nextInt(VIEWERS);
+        counter.record(ListingType.PROPERTY, listings[random.nextInt(LISTINGS)], null, "10.1." + (address >> 8) + "." + (address & 0xff));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ListingViewCounterBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/** Records the SQL run on the calling thread between {@link #start} and {@link #stop}. */
+public class StatementRecorder implements QueryExecutionListener {
+
+    private final ThreadLocal<List<QueryInfo>> recording = new ThreadLocal<>();
+
+    public void start() {
+        recording.set(new ArrayList<>());
+    }
+
+    public List<String> recorded() {
+        return recording.get().stream().map(QueryInfo::getQuery).toList();
+    }
+
+    public List<QueryInfo> recordedQueries() {
+        return List.copyOf(recording.get());
+    }
+
+    public void stop() {
+        recording.remove();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        List<QueryInfo> queries = recording.get();
+        if (queries != null) {
+            queries.addAll(queryInfoList);
+        }
+    }
+}
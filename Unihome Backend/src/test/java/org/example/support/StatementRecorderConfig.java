@@ -0,0 +1,31 @@
+package org.example.support;
+
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/** Wraps the application data source so tests can record the statements it runs. */
+@TestConfiguration
+public class StatementRecorderConfig {
+
+    @Bean
+    StatementRecorder statementRecorder() {
+        return new StatementRecorder();
+    }
+
+    @Bean
+    static BeanPostProcessor statementRecorderDataSourcePostProcessor(ObjectProvider<StatementRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(dataSource).listener(recorder.getObject()).build();
+            }
+        };
+    }
+}
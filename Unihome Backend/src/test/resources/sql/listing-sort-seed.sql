@@ -0,0 +1,30 @@
+-- 600 listings per vertical across two cities, a third of them unpublished, so the optimizer sees
+-- realistic selectivity when it chooses between walking an index and sorting.
+INSERT INTO users (email, password, first_name, last_name, role)
+VALUES ('explain@unihome.test', 'x', 'Explain', 'Owner', 'OWNER');
+
+INSERT INTO properties (owner_id, title, description, type, price, area, rooms, city, city_key, is_published, created_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 600)
+SELECT (SELECT id FROM users WHERE email = 'explain@unihome.test'), CONCAT('Flat ', n), 'Seeded', 'APARTMENT',
+    200 + MOD(n * 37, 900), 20 + MOD(n * 13, 120), 1 + MOD(n, 4),
+    IF(MOD(n, 2) = 0, 'Patra', 'Athens'), IF(MOD(n, 2) = 0, 'patra', 'athina'),
+    MOD(n, 3) <> 0, NOW(6) - INTERVAL n MINUTE
+FROM seq;
+
+INSERT INTO roommate_ads (author_id, title, description, monthly_rent, available_from, location_city, location_city_key, is_published, created_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 600)
+SELECT (SELECT id FROM users WHERE email = 'explain@unihome.test'), CONCAT('Room ', n), 'Seeded',
+    150 + MOD(n * 29, 400), CURDATE() + INTERVAL MOD(n, 90) DAY,
+    IF(MOD(n, 2) = 0, 'Patra', 'Athens'), IF(MOD(n, 2) = 0, 'patra', 'athina'),
+    MOD(n, 3) <> 0, NOW(6) - INTERVAL n MINUTE
+FROM seq;
+
+INSERT INTO temporary_stays (manager_id, title, description, type, price_per_night, min_nights, cost_category, purpose, city, city_key, is_published, created_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 600)
+SELECT (SELECT id FROM users WHERE email = 'explain@unihome.test'), CONCAT('Stay ', n), 'Seeded', 'ROOM',
+    20 + MOD(n * 17, 180), 1, 'PAID', 'ACCOMMODATION',
+    IF(MOD(n, 2) = 0, 'Patra', 'Athens'), IF(MOD(n, 2) = 0, 'patra', 'athina'),
+    MOD(n, 3) <> 0, NOW(6) - INTERVAL n MINUTE
+FROM seq;
+
+ANALYZE TABLE properties, roommate_ads, temporary_stays;